@@ -0,0 +1,69 @@
+package com.blog.blogprojesi.content;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * İçerik işleme ölçümü
+ * Yazma anındaki tek geçişli işlemeyi, eskiden her sayfa oluşturmada yapılan
+ * split("\\s+") + substring özet hesabıyla farklı içerik boyutlarında karşılaştırır.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContentProcessorBenchmark {
+
+    private static final String[] WORDS = {
+            "spring", "boot", "öğrenmeye", "başladım", "İstanbul'da", "veritabanı", "sorgu", "performans",
+            "**kalın**", "_italik_", "`kod`", "[bağlantı](https://example.com/yazi)", "ve", "bir", "için"
+    };
+
+    // Karakter cinsinden içerik boyutu (1 KB, 100 KB, 1 MB)
+    @Param({"1000", "100000", "1000000"})
+    private int contentLength;
+
+    private String content;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(contentLength + 64);
+        int line = 0;
+        while (builder.length() < contentLength) {
+            switch (line++ % 12) {
+                case 0 -> builder.append("## Bölüm ").append(line).append('\n');
+                case 5 -> builder.append("- madde ").append(line).append('\n');
+                case 9 -> builder.append("```java\nint x = ").append(line).append(";\n```\n");
+                default -> {
+                    for (int i = 0; i < 20; i++) {
+                        builder.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+                    }
+                    builder.append("\n\n");
+                }
+            }
+        }
+        content = builder.toString();
+    }
+
+    @Benchmark
+    public ProcessedContent process() {
+        return ContentProcessor.process(content, null);
+    }
+
+    @Benchmark
+    public Object renderTimeBaseline() {
+        int wordCount = content.split("\\s+").length;
+        int readingTime = Math.max(1, wordCount / ContentProcessor.WORDS_PER_MINUTE);
+        String excerpt = content.length() > 200 ? content.substring(0, 200) + "..." : content;
+        return new Object[]{readingTime, excerpt};
+    }
+}
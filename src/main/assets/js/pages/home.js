@@ -0,0 +1,160 @@
+window.addEventListener('scroll', function() {
+    const navbar = document.getElementById('navbar');
+    navbar.classList.toggle('scrolled', window.scrollY > 50);
+});
+
+function toggleDropdown() {
+    document.getElementById('profileDropdown').classList.toggle('show');
+}
+
+function toggleMobileMenu() {
+    document.getElementById('navMenu').classList.toggle('show');
+}
+
+document.addEventListener('click', function(e) {
+    const dropdown = document.getElementById('profileDropdown');
+    const avatar = document.querySelector('.profile-avatar');
+    if (dropdown && avatar && !dropdown.contains(e.target) && !avatar.contains(e.target)) {
+        dropdown.classList.remove('show');
+    }
+});
+
+function showToast(message, type = 'success') {
+    const toast = document.getElementById('toast');
+    document.getElementById('toastMessage').textContent = message;
+    toast.className = 'toast-notification ' + type + ' show';
+    setTimeout(() => toast.classList.remove('show'), 3000);
+}
+
+function loadMore() {
+    const btn = document.querySelector('.btn-load-more');
+    const grid = document.getElementById('postsGrid');
+    const cursors = grid.querySelectorAll('.feed-cursor');
+    const lastCursor = cursors[cursors.length - 1];
+    const nextCursor = lastCursor ? lastCursor.dataset.nextCursor : null;
+    if (!nextCursor) {
+        btn.closest('.load-more-section').style.display = 'none';
+        return;
+    }
+
+    btn.innerHTML = '<i class="fas fa-spinner fa-spin me-2"></i>Yükleniyor...';
+    btn.disabled = true;
+
+    const params = new URLSearchParams(window.location.search);
+    params.set('cursor', nextCursor);
+
+    fetch('/home/feed?' + params.toString(), { headers: { 'X-Requested-With': 'XMLHttpRequest' } })
+        .then(response => {
+            if (!response.ok) throw new Error('Yükleme hatası');
+            return response.text();
+        })
+        .then(html => {
+            cursors.forEach(c => c.remove());
+            grid.insertAdjacentHTML('beforeend', html);
+            const newCursors = grid.querySelectorAll('.feed-cursor');
+            const newCursor = newCursors[newCursors.length - 1];
+            if (!newCursor || !newCursor.dataset.nextCursor) {
+                btn.closest('.load-more-section').style.display = 'none';
+                showToast('Tüm yazılar yüklendi!', 'success');
+            }
+        })
+        .catch(() => showToast('Yazılar yüklenemedi', 'error'))
+        .finally(() => {
+            btn.innerHTML = '<i class="fas fa-sync-alt me-2"></i>Daha Fazla Yükle';
+            btn.disabled = false;
+        });
+}
+
+// Filtreleme ve sıralama fonksiyonu
+function applyFilters() {
+    const category = document.getElementById('categoryFilter').value;
+    const sortBy = document.getElementById('sortBy').value;
+
+    const url = new URL(window.location.href);
+    // Aramada varsayılan sıralama alaka, diğer akışlarda en yeni
+    const defaultSort = url.searchParams.get('search') ? 'relevance' : 'latest';
+    if (category) {
+        url.searchParams.set('category', category);
+    } else {
+        url.searchParams.delete('category');
+    }
+    if (sortBy && sortBy !== defaultSort) {
+        url.searchParams.set('sort', sortBy);
+    } else {
+        url.searchParams.delete('sort');
+    }
+
+    window.location.href = url.toString();
+}
+
+// Sayfa yüklendiğinde filtreleri ayarla
+document.addEventListener('DOMContentLoaded', function() {
+    const urlParams = new URLSearchParams(window.location.search);
+    const category = urlParams.get('category');
+    const sort = urlParams.get('sort');
+
+    if (category) {
+        document.getElementById('categoryFilter').value = category;
+    }
+    if (sort) {
+        document.getElementById('sortBy').value = sort;
+    }
+});
+
+// Anlık arama filtresi
+document.addEventListener('DOMContentLoaded', function() {
+    const searchInput = document.getElementById('searchInput');
+    const postCards = document.querySelectorAll('.post-card');
+
+    if (searchInput && postCards.length > 0) {
+        searchInput.addEventListener('input', function() {
+            const searchTerm = this.value.toLowerCase().trim();
+            let visibleCount = 0;
+
+            postCards.forEach(card => {
+                const title = card.querySelector('.post-title')?.textContent.toLowerCase() || '';
+                const excerpt = card.querySelector('.post-excerpt')?.textContent.toLowerCase() || '';
+                const category = card.querySelector('.post-category')?.textContent.toLowerCase() || '';
+                const author = card.querySelector('.author-name')?.textContent.toLowerCase() || '';
+
+                const matches = title.includes(searchTerm) || 
+                              excerpt.includes(searchTerm) || 
+                              category.includes(searchTerm) ||
+                              author.includes(searchTerm);
+
+                if (matches) {
+                    card.style.display = '';
+                    visibleCount++;
+                } else {
+                    card.style.display = 'none';
+                }
+            });
+
+            // Sonuç yoksa mesaj göster
+            const emptyState = document.querySelector('.empty-state');
+            const postsGrid = document.querySelector('.posts-grid');
+
+            if (visibleCount === 0 && searchTerm) {
+                if (emptyState) {
+                    emptyState.style.display = 'block';
+                    emptyState.querySelector('h3').textContent = 'Sonuç bulunamadı';
+                    emptyState.querySelector('p').textContent = `"${searchTerm}" için sonuç bulunamadı.`;
+                }
+                if (postsGrid) postsGrid.style.display = 'none';
+            } else {
+                if (emptyState) emptyState.style.display = 'none';
+                if (postsGrid) postsGrid.style.display = '';
+            }
+        });
+    }
+});
+
+document.addEventListener('keydown', function(e) {
+    if ((e.key === 'n' || e.key === 'N') && !['INPUT','TEXTAREA'].includes(document.activeElement.tagName)) {
+        window.location.href = '/write';
+    }
+    if (e.key === 'Escape') {
+        document.getElementById('profileDropdown')?.classList.remove('show');
+        document.getElementById('navMenu')?.classList.remove('show');
+    }
+});
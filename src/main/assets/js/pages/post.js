@@ -0,0 +1,411 @@
+// Profile dropdown functions
+function toggleDropdown() {
+    const dropdown = document.getElementById('profileDropdown');
+    dropdown.classList.toggle('show');
+}
+
+document.addEventListener('click', function(event) {
+    const dropdown = document.getElementById('profileDropdown');
+    const profileBtn = document.querySelector('.profile-btn');
+
+    if (dropdown && profileBtn && !profileBtn.contains(event.target) && !dropdown.contains(event.target)) {
+        dropdown.classList.remove('show');
+    }
+});
+
+// Social share links - using JavaScript to get current URL
+document.addEventListener('DOMContentLoaded', function() {
+    const currentUrl = encodeURIComponent(window.location.href);
+    const title = encodeURIComponent(postTitle);
+
+    const twitterBtn = document.getElementById('shareTwitter');
+    const facebookBtn = document.getElementById('shareFacebook');
+    const linkedInBtn = document.getElementById('shareLinkedIn');
+    const whatsAppBtn = document.getElementById('shareWhatsApp');
+
+    if (twitterBtn) {
+        twitterBtn.href = `https://twitter.com/intent/tweet?text=${title}&url=${currentUrl}`;
+    }
+    if (facebookBtn) {
+        facebookBtn.href = `https://www.facebook.com/sharer/sharer.php?u=${currentUrl}`;
+    }
+    if (linkedInBtn) {
+        linkedInBtn.href = `https://www.linkedin.com/sharing/share-offsite/?url=${currentUrl}`;
+    }
+    if (whatsAppBtn) {
+        whatsAppBtn.href = `https://wa.me/?text=${title}%20${currentUrl}`;
+    }
+});
+
+// Share post function
+function sharePost() {
+    if (navigator.share) {
+        navigator.share({
+            title: postTitle,
+            url: window.location.href
+        });
+    } else {
+        // Fallback: copy to clipboard
+        navigator.clipboard.writeText(window.location.href).then(() => {
+            showNotification('Link panoya kopyalandı!', 'success');
+        });
+    }
+}
+
+// Rating functionality
+function ratePost(score) {
+    if (!isAuthenticated) {
+        showNotification('Değerlendirmek için giriş yapmalısınız', 'info');
+        return;
+    }
+
+    // Update UI immediately
+    const stars = document.querySelectorAll('.rating-stars .star-btn');
+    stars.forEach((star, index) => {
+        if (index < score) {
+            star.classList.add('filled');
+        } else {
+            star.classList.remove('filled');
+        }
+    });
+
+    // Send rating to server via AJAX
+    fetch(`/post/${postId}/rate`, {
+        method: 'POST',
+        headers: {
+            'Content-Type': 'application/x-www-form-urlencoded',
+        },
+        body: `score=${parseInt(score)}`
+    })
+    .then(response => {
+        if (response.ok) {
+            return response.json();
+        } else {
+            throw new Error('Rating failed');
+        }
+    })
+    .then(data => {
+        showNotification('Değerlendirmeniz kaydedildi!', 'success');
+        // Ortalama ve sayıyı güncelle
+        if (data.averageRating !== undefined) {
+            const avgElement = document.querySelector('.rating-average');
+            if (avgElement) {
+                avgElement.textContent = data.averageRating.toFixed(1);
+            }
+        }
+        if (data.ratingCount !== undefined) {
+            const countElement = document.querySelector('.rating-count');
+            if (countElement) {
+                countElement.textContent = data.ratingCount + ' değerlendirme';
+            }
+        }
+    })
+    .catch(error => {
+        console.error('Rating error:', error);
+        showNotification('Bir hata oluştu', 'error');
+        // Hata durumunda yıldızları eski haline getir
+        const currentRating = userRating || 0;
+        stars.forEach((star, index) => {
+            if (index < currentRating) {
+                star.classList.add('filled');
+            } else {
+                star.classList.remove('filled');
+            }
+        });
+    });
+}
+
+// Star hover effect
+document.querySelectorAll('.rating-stars .star-btn').forEach((star, index, stars) => {
+    star.addEventListener('mouseenter', () => {
+        stars.forEach((s, i) => {
+            if (i <= index) {
+                s.classList.add('active');
+            } else {
+                s.classList.remove('active');
+            }
+        });
+    });
+
+    star.addEventListener('mouseleave', () => {
+        stars.forEach(s => s.classList.remove('active'));
+    });
+});
+
+// Notification function
+function showNotification(message, type = 'info') {
+    const notification = document.createElement('div');
+    let alertClass = 'alert-info';
+    let iconClass = 'info-circle';
+
+    if (type === 'success') {
+        alertClass = 'alert-success';
+        iconClass = 'check-circle';
+    } else if (type === 'error') {
+        alertClass = 'alert-danger';
+        iconClass = 'exclamation-circle';
+    }
+
+    notification.className = `alert ${alertClass} position-fixed`;
+    notification.style.cssText = `
+        top: 100px;
+        right: 20px;
+        z-index: 9999;
+        min-width: 300px;
+        animation: slideInRight 0.3s ease;
+        border: none;
+        border-radius: 12px;
+        box-shadow: 0 8px 25px rgba(0, 0, 0, 0.15);
+    `;
+    notification.innerHTML = `
+        <i class="fas fa-${iconClass} me-2"></i>
+        ${message}
+    `;
+
+    document.body.appendChild(notification);
+
+    setTimeout(() => {
+        notification.style.animation = 'slideOutRight 0.3s ease';
+        setTimeout(() => notification.remove(), 300);
+    }, 3000);
+}
+
+// Add CSS animations
+const style = document.createElement('style');
+style.textContent = `
+    @keyframes slideInRight {
+        from { transform: translateX(100%); opacity: 0; }
+        to { transform: translateX(0); opacity: 1; }
+    }
+    @keyframes slideOutRight {
+        from { transform: translateX(0); opacity: 1; }
+        to { transform: translateX(100%); opacity: 0; }
+    }
+
+    /* Markdown Rendered Content Styles */
+    #rendered-content h1 {
+        font-size: 2.2rem;
+        font-weight: 700;
+        color: #2d3748;
+        margin: 40px 0 20px;
+        padding-bottom: 10px;
+        border-bottom: 2px solid #e2e8f0;
+    }
+    #rendered-content h2 {
+        font-size: 1.8rem;
+        font-weight: 600;
+        color: #2d3748;
+        margin: 35px 0 18px;
+    }
+    #rendered-content h3 {
+        font-size: 1.5rem;
+        font-weight: 600;
+        color: #2d3748;
+        margin: 30px 0 15px;
+    }
+    #rendered-content h4 {
+        font-size: 1.25rem;
+        font-weight: 600;
+        color: #2d3748;
+        margin: 25px 0 12px;
+    }
+    #rendered-content p {
+        margin-bottom: 20px;
+        font-size: 1.1rem;
+        color: #4a5568;
+        line-height: 1.8;
+    }
+    #rendered-content blockquote {
+        border-left: 4px solid #667eea;
+        padding: 20px 25px;
+        margin: 25px 0;
+        background: linear-gradient(135deg, #f8fafc 0%, #edf2f7 100%);
+        border-radius: 0 12px 12px 0;
+        font-style: italic;
+        color: #4a5568;
+    }
+    #rendered-content blockquote p {
+        margin-bottom: 0;
+    }
+    #rendered-content code {
+        font-family: 'JetBrains Mono', 'Consolas', 'Monaco', monospace;
+        background: #f1f5f9;
+        padding: 3px 8px;
+        border-radius: 6px;
+        font-size: 0.9em;
+        color: #e53e3e;
+    }
+    #rendered-content pre {
+        background: #2d3748;
+        border-radius: 12px;
+        padding: 0;
+        margin: 25px 0;
+        overflow: hidden;
+    }
+    #rendered-content pre code {
+        display: block;
+        padding: 20px 25px;
+        background: transparent;
+        color: #e2e8f0;
+        font-size: 0.95rem;
+        line-height: 1.6;
+        overflow-x: auto;
+    }
+    #rendered-content ul, #rendered-content ol {
+        margin: 20px 0;
+        padding-left: 30px;
+    }
+    #rendered-content li {
+        margin-bottom: 10px;
+        color: #4a5568;
+        line-height: 1.7;
+    }
+    #rendered-content a {
+        color: #667eea;
+        text-decoration: none;
+        border-bottom: 1px solid transparent;
+        transition: border-color 0.2s ease;
+    }
+    #rendered-content a:hover {
+        border-bottom-color: #667eea;
+    }
+    #rendered-content img {
+        max-width: 100%;
+        height: auto;
+        border-radius: 12px;
+        margin: 25px 0;
+        box-shadow: 0 10px 30px rgba(0, 0, 0, 0.1);
+    }
+    #rendered-content hr {
+        border: none;
+        height: 2px;
+        background: linear-gradient(90deg, transparent, #e2e8f0, transparent);
+        margin: 40px 0;
+    }
+    #rendered-content table {
+        width: 100%;
+        border-collapse: collapse;
+        margin: 25px 0;
+        border-radius: 12px;
+        overflow: hidden;
+        box-shadow: 0 4px 15px rgba(0, 0, 0, 0.05);
+    }
+    #rendered-content th, #rendered-content td {
+        padding: 12px 16px;
+        text-align: left;
+        border-bottom: 1px solid #e2e8f0;
+    }
+    #rendered-content th {
+        background: #f8fafc;
+        font-weight: 600;
+        color: #2d3748;
+    }
+    #rendered-content tr:hover {
+        background: #f8fafc;
+    }
+    #rendered-content strong {
+        font-weight: 600;
+        color: #2d3748;
+    }
+    #rendered-content em {
+        font-style: italic;
+    }
+
+    /* Prism.js overrides */
+    pre[class*="language-"] {
+        margin: 25px 0 !important;
+        border-radius: 12px !important;
+    }
+    code[class*="language-"] {
+        font-family: 'JetBrains Mono', 'Consolas', 'Monaco', monospace !important;
+    }
+`;
+document.head.appendChild(style);
+
+// Comment submission with AJAX
+function submitComment(event) {
+    event.preventDefault();
+
+    const form = event.target;
+    const content = document.getElementById('commentContent').value.trim();
+    const submitBtn = document.getElementById('submitCommentBtn');
+
+    if (!content) {
+        showNotification('Yorum içeriği boş olamaz', 'error');
+        return false;
+    }
+
+    // Disable button and show loading
+    submitBtn.disabled = true;
+    submitBtn.innerHTML = '<i class="fas fa-spinner fa-spin me-2"></i>Gönderiliyor...';
+
+    // Send comment via AJAX
+    fetch(`/post/${postId}/comment`, {
+        method: 'POST',
+        headers: {
+            'Content-Type': 'application/x-www-form-urlencoded',
+        },
+        body: `content=${encodeURIComponent(content)}`
+    })
+    .then(response => {
+        if (response.ok) {
+            return response.json();
+        } else {
+            throw new Error('Comment submission failed');
+        }
+    })
+    .then(data => {
+        showNotification('Yorumunuz başarıyla eklendi!', 'success');
+        // Clear form
+        document.getElementById('commentContent').value = '';
+        // Reload comments section
+        location.reload(); // Simple reload for now
+    })
+    .catch(error => {
+        console.error('Comment error:', error);
+        showNotification('Yorum eklenirken bir hata oluştu', 'error');
+    })
+    .finally(() => {
+        // Re-enable button
+        submitBtn.disabled = false;
+        submitBtn.innerHTML = '<i class="fas fa-paper-plane me-2"></i>Yorum Gönder';
+    });
+
+    return false;
+}
+
+// Sonraki yorum sayfasını yükle
+function loadMoreComments() {
+    const btn = document.querySelector('.btn-load-comments');
+    const list = document.getElementById('commentsList');
+    const cursors = list.querySelectorAll('.comment-cursor');
+    const lastCursor = cursors[cursors.length - 1];
+    const nextPage = lastCursor ? lastCursor.dataset.nextPage : null;
+    if (!nextPage) {
+        btn.closest('.comments-load-more').style.display = 'none';
+        return;
+    }
+
+    btn.innerHTML = '<i class="fas fa-spinner fa-spin me-2"></i>Yükleniyor...';
+    btn.disabled = true;
+
+    fetch(`/post/${postId}/comments?page=${nextPage}`, { headers: { 'X-Requested-With': 'XMLHttpRequest' } })
+        .then(response => {
+            if (!response.ok) throw new Error('Yükleme hatası');
+            return response.text();
+        })
+        .then(html => {
+            cursors.forEach(c => c.remove());
+            list.insertAdjacentHTML('beforeend', html);
+            const newCursors = list.querySelectorAll('.comment-cursor');
+            const newCursor = newCursors[newCursors.length - 1];
+            if (!newCursor || !newCursor.dataset.nextPage) {
+                btn.closest('.comments-load-more').style.display = 'none';
+            }
+        })
+        .catch(() => showNotification('Yorumlar yüklenemedi', 'error'))
+        .finally(() => {
+            btn.innerHTML = '<i class="fas fa-chevron-down me-2"></i>Daha Fazla Yorum';
+            btn.disabled = false;
+        });
+}
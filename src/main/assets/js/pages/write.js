@@ -0,0 +1,604 @@
+let selectedCategory = '';
+let selectedPostType = 'TEXT';
+let isPreviewMode = false;
+let autosaveTimer;
+
+// Profile dropdown functions
+function toggleDropdown() {
+    const dropdown = document.getElementById('profileDropdown');
+    dropdown.classList.toggle('show');
+}
+
+// Close dropdown when clicking outside
+document.addEventListener('click', function(event) {
+    const dropdown = document.getElementById('profileDropdown');
+    const profileBtn = document.querySelector('.profile-btn');
+
+    if (dropdown && profileBtn && !profileBtn.contains(event.target) && !dropdown.contains(event.target)) {
+        dropdown.classList.remove('show');
+    }
+});
+
+// Sayfa yüklendiğinde
+document.addEventListener('DOMContentLoaded', function() {
+    // Event listeners
+    setupEventListeners();
+
+    // Custom category input için Enter tuşu desteği
+    const customCategoryInput = document.getElementById('customCategoryInput');
+    if (customCategoryInput) {
+        customCategoryInput.addEventListener('keypress', function(e) {
+            if (e.key === 'Enter') {
+                e.preventDefault();
+                console.log('Enter tuşuna basıldı');
+                addCustomCategory();
+            }
+        });
+    }
+
+    // Custom category butonu için click event
+    const addCategoryBtn = document.querySelector('.custom-category-section .btn-primary');
+    if (addCategoryBtn) {
+        addCategoryBtn.addEventListener('click', function(e) {
+            e.preventDefault();
+            console.log('Ekle butonuna tıklandı');
+            addCustomCategory();
+        });
+    }
+
+    // Taslak yükle (edit modunda değilse)
+    const isEditMode = document.querySelector('input[name="title"]').value !== '';
+    if (!isEditMode) {
+        loadDraft();
+    }
+
+    // Otomatik kaydetmeyi başlat
+    startAutosave();
+
+    // Mevcut kategori seçimini ayarla (edit mode için)
+    const categoryInput = document.getElementById('selectedCategory');
+    if (categoryInput.value) {
+        selectedCategory = categoryInput.value;
+        document.querySelectorAll('.category-item').forEach(item => {
+            if (item.dataset.category === selectedCategory) {
+                item.classList.add('selected');
+            }
+        });
+    }
+
+    // Mevcut post type'ı ayarla (edit mode için)
+    const postTypeValue = document.getElementById('postType').value || 'TEXT';
+    selectPostType(postTypeValue);
+
+    // İlk kelime sayısını güncelle
+    updateWordCount();
+
+    // Görsel önizleme (edit mode için)
+    previewImage();
+});
+
+function setupEventListeners() {
+    const titleInput = document.getElementById('postTitle');
+    const contentTextarea = document.getElementById('postContent');
+
+    // Title ve content değişikliklerini dinle
+    if (titleInput) {
+        titleInput.addEventListener('input', function() {
+            updatePreview();
+            updateWordCount();
+        });
+    }
+
+    if (contentTextarea) {
+        contentTextarea.addEventListener('input', function() {
+            updatePreview();
+            updateWordCount();
+        });
+    }
+}
+
+function selectPostType(type) {
+    selectedPostType = type;
+    document.getElementById('postType').value = type;
+
+    // Button'ları güncelle
+    document.querySelectorAll('.post-type-btn').forEach(btn => {
+        btn.classList.remove('active');
+        if (btn.dataset.type === type) {
+            btn.classList.add('active');
+        }
+    });
+
+    // Link input section'ı göster/gizle
+    const linkSection = document.getElementById('linkInputSection');
+    const textToolbar = document.getElementById('textToolbar');
+    const editorTabs = document.getElementById('editorTabs');
+    const writePane = document.getElementById('writePane');
+
+    if (type === 'LINK') {
+        linkSection.classList.add('active');
+        // Link tipi için içerik opsiyonel olabilir, textarea'yı göster ama zorunlu yapma
+    } else {
+        linkSection.classList.remove('active');
+    }
+}
+
+function switchTab(tab) {
+    const tabs = document.querySelectorAll('.editor-tab');
+    const panes = document.querySelectorAll('.editor-pane');
+
+    tabs.forEach(t => t.classList.remove('active'));
+    panes.forEach(p => p.classList.remove('active'));
+
+    if (tab === 'write') {
+        document.querySelector('.editor-tab:first-child').classList.add('active');
+        document.getElementById('writePane').classList.add('active');
+        isPreviewMode = false;
+    } else {
+        document.querySelector('.editor-tab:last-child').classList.add('active');
+        document.getElementById('previewPane').classList.add('active');
+        isPreviewMode = true;
+        updatePreview();
+    }
+}
+
+function selectCategory(element) {
+    // Önceki seçimi temizle
+    document.querySelectorAll('.category-item').forEach(item => {
+        item.classList.remove('selected');
+    });
+
+    // Yeni kategoriyi seç
+    element.classList.add('selected');
+    selectedCategory = element.dataset.category;
+    document.getElementById('selectedCategory').value = selectedCategory;
+
+    // Custom input'u temizle
+    document.getElementById('customCategoryInput').value = '';
+}
+
+function addCustomCategory() {
+    console.log('addCustomCategory fonksiyonu çağrıldı');
+    const input = document.getElementById('customCategoryInput');
+    const customCategory = input.value.trim();
+
+    console.log('Girilen kategori:', customCategory);
+
+    if (!customCategory) {
+        showNotification('Lütfen bir kategori adı girin', 'error');
+        input.focus();
+        return;
+    }
+
+    // Mevcut kategorilerde var mı kontrol et
+    const existingItems = document.querySelectorAll('.category-item');
+    let categoryExists = false;
+    existingItems.forEach(item => {
+        // dataset.category undefined olabilir, kontrol et
+        if (item.dataset.category && item.dataset.category.toLowerCase() === customCategory.toLowerCase()) {
+            categoryExists = true;
+            selectCategory(item);
+        }
+    });
+
+    if (categoryExists) {
+        showNotification('Bu kategori zaten mevcut, seçildi', 'info');
+        input.value = '';
+        return;
+    }
+
+    // Yeni kategori oluştur
+    const categoryGrid = document.querySelector('.category-grid');
+    const newCategoryItem = document.createElement('div');
+    newCategoryItem.className = 'category-item';
+    newCategoryItem.dataset.category = customCategory;
+    newCategoryItem.textContent = customCategory;
+    newCategoryItem.onclick = function() { selectCategory(this); };
+
+    categoryGrid.appendChild(newCategoryItem);
+
+    console.log('Yeni kategori oluşturuldu:', customCategory);
+
+    // Yeni kategoriyi otomatik seç
+    selectCategory(newCategoryItem);
+
+    console.log('selectedCategory değeri:', selectedCategory);
+    console.log('Hidden input değeri:', document.getElementById('selectedCategory').value);
+
+    // Input'u temizle
+    input.value = '';
+
+    showNotification('✓ Kategori eklendi ve seçildi: ' + customCategory, 'success');
+}
+
+function insertText(before, after) {
+    const textarea = document.getElementById('postContent');
+    const start = textarea.selectionStart;
+    const end = textarea.selectionEnd;
+    const selectedText = textarea.value.substring(start, end);
+
+    const newText = before + selectedText + after;
+    textarea.setRangeText(newText, start, end, 'end');
+
+    // Focus'u textarea'ya geri ver
+    textarea.focus();
+
+    // Önizlemeyi güncelle
+    updatePreview();
+    updateWordCount();
+}
+
+function insertLink() {
+    const url = prompt('Link URL girin:', 'https://');
+    if (url) {
+        const text = prompt('Link metni girin:', 'Link');
+        if (text) {
+            const textarea = document.getElementById('postContent');
+            const start = textarea.selectionStart;
+            const linkMarkdown = `[${text}](${url})`;
+            textarea.setRangeText(linkMarkdown, start, start, 'end');
+            textarea.focus();
+            updatePreview();
+            updateWordCount();
+        }
+    }
+}
+
+function insertImage() {
+    const url = prompt('Resim URL girin:', 'https://');
+    if (url) {
+        const alt = prompt('Resim açıklaması girin:', 'Resim');
+        if (alt !== null) {
+            const textarea = document.getElementById('postContent');
+            const start = textarea.selectionStart;
+            const imageMarkdown = `![${alt}](${url})`;
+            textarea.setRangeText(imageMarkdown, start, start, 'end');
+            textarea.focus();
+            updatePreview();
+            updateWordCount();
+        }
+    }
+}
+
+function insertCodeBlock() {
+    const language = prompt('Programlama dili (örn: javascript, python, java):', 'javascript');
+    if (language !== null) {
+        const textarea = document.getElementById('postContent');
+        const start = textarea.selectionStart;
+        const end = textarea.selectionEnd;
+        const selectedText = textarea.value.substring(start, end);
+
+        const codeBlock = '```' + language + '\n' + (selectedText || 'kod buraya') + '\n```';
+        textarea.setRangeText(codeBlock, start, end, 'end');
+        textarea.focus();
+        updatePreview();
+        updateWordCount();
+    }
+}
+
+function previewImage() {
+    const imageUrl = document.getElementById('imageUrl').value;
+    const previewDiv = document.getElementById('imagePreview');
+
+    if (imageUrl) {
+        previewDiv.innerHTML = `<img src="${imageUrl}" alt="Önizleme" onerror="this.parentElement.innerHTML='<p class=\\'text-muted\\'>Görsel yüklenemedi</p>'">`;
+    } else {
+        previewDiv.innerHTML = '';
+    }
+}
+
+function updatePreview() {
+    const title = document.getElementById('postTitle').value;
+    const content = document.getElementById('postContent').value;
+    const previewContent = document.getElementById('previewContent');
+
+    let html = '';
+
+    if (title) {
+        html += `<h1>${escapeHtml(title)}</h1>`;
+    }
+
+    if (content) {
+        // Configure marked
+        marked.setOptions({
+            breaks: true,
+            gfm: true,
+            headerIds: true
+        });
+        html += marked.parse(content);
+    } else {
+        html = '<p class="text-muted">Önizleme için yazı yazmaya başlayın...</p>';
+    }
+
+    previewContent.innerHTML = html;
+
+    // Syntax highlighting uygula
+    if (window.Prism) {
+        Prism.highlightAllUnder(previewContent);
+    }
+}
+
+function escapeHtml(text) {
+    const div = document.createElement('div');
+    div.textContent = text;
+    return div.innerHTML;
+}
+
+function updateWordCount() {
+    const content = document.getElementById('postContent').value;
+    const title = document.getElementById('postTitle').value;
+
+    const allText = title + ' ' + content;
+    const words = allText.trim().split(/\s+/).filter(word => word.length > 0);
+    const wordCount = words.length;
+    const charCount = allText.length;
+    const readTime = Math.ceil(wordCount / 200); // 200 kelime/dakika ortalama
+
+    document.getElementById('wordCount').textContent = wordCount;
+    document.getElementById('charCount').textContent = charCount;
+    document.getElementById('readTime').textContent = readTime + ' dk';
+}
+
+function saveDraft() {
+    const title = document.getElementById('postTitle').value;
+    const content = document.getElementById('postContent').value;
+
+    // Başlık kontrolü
+    if (!title || title.trim() === '') {
+        showToast('Taslak kaydetmek için en az bir başlık girin', 'error');
+        return;
+    }
+
+    // Form verilerini oluştur ve sunucuya gönder
+    const form = document.createElement('form');
+    form.method = 'POST';
+    form.action = '/draft';
+
+    const fields = {
+        title: title,
+        content: content || '',
+        category: selectedCategory || '',
+        postType: selectedPostType || 'TEXT',
+        url: document.getElementById('linkUrl').value || '',
+        imageUrl: document.getElementById('imageUrl').value || ''
+    };
+
+    for (const [key, value] of Object.entries(fields)) {
+        const input = document.createElement('input');
+        input.type = 'hidden';
+        input.name = key;
+        input.value = value;
+        form.appendChild(input);
+    }
+
+    // CSRF token ekle (eğer varsa)
+    const csrfToken = document.querySelector('meta[name="_csrf"]');
+    const csrfHeader = document.querySelector('meta[name="_csrf_header"]');
+    if (csrfToken && csrfHeader) {
+        const csrfInput = document.createElement('input');
+        csrfInput.type = 'hidden';
+        csrfInput.name = '_csrf';
+        csrfInput.value = csrfToken.content;
+        form.appendChild(csrfInput);
+    }
+
+    // Form gönderildiğini işaretle (beforeunload uyarısı için)
+    isFormSubmitting = true;
+
+    document.body.appendChild(form);
+    form.submit();
+}
+
+function saveDraftToLocalStorage() {
+    // LocalStorage'a da kaydet (otomatik kaydetme için)
+    const postData = {
+        title: document.getElementById('postTitle').value,
+        content: document.getElementById('postContent').value,
+        category: selectedCategory,
+        postType: selectedPostType,
+        url: document.getElementById('linkUrl').value,
+        imageUrl: document.getElementById('imageUrl').value,
+        commentsEnabled: document.getElementById('enableComments').checked,
+        featuredPost: document.getElementById('featuredPost').checked,
+        savedAt: new Date().toISOString(),
+        status: 'draft'
+    };
+
+    localStorage.setItem('blogDraft', JSON.stringify(postData));
+    updateDraftStatus('saved');
+}
+
+function loadDraft() {
+    const draft = localStorage.getItem('blogDraft');
+    if (draft) {
+        const postData = JSON.parse(draft);
+
+        document.getElementById('postTitle').value = postData.title || '';
+        document.getElementById('postContent').value = postData.content || '';
+        document.getElementById('enableComments').checked = postData.commentsEnabled !== false;
+        document.getElementById('featuredPost').checked = postData.featuredPost || false;
+        document.getElementById('linkUrl').value = postData.url || '';
+        document.getElementById('imageUrl').value = postData.imageUrl || '';
+
+        if (postData.category) {
+            selectedCategory = postData.category;
+            document.getElementById('selectedCategory').value = selectedCategory;
+            document.querySelectorAll('.category-item').forEach(item => {
+                if (item.dataset.category === selectedCategory) {
+                    item.classList.add('selected');
+                }
+            });
+        }
+
+        if (postData.postType) {
+            selectPostType(postData.postType);
+        }
+
+        updateWordCount();
+        updatePreview();
+        previewImage();
+        updateDraftStatus('saved');
+    }
+}
+
+function startAutosave() {
+    autosaveTimer = setInterval(() => {
+        const title = document.getElementById('postTitle').value;
+        const content = document.getElementById('postContent').value;
+
+        if (title.trim() || content.trim()) {
+            // Sadece local storage'a kaydet, sunucuya göndermeden
+            const postData = {
+                title: title,
+                content: content,
+                category: selectedCategory,
+                postType: selectedPostType,
+                url: document.getElementById('linkUrl').value,
+                imageUrl: document.getElementById('imageUrl').value,
+                commentsEnabled: document.getElementById('enableComments').checked,
+                featuredPost: document.getElementById('featuredPost').checked,
+                savedAt: new Date().toISOString(),
+                status: 'draft'
+            };
+            localStorage.setItem('blogDraft', JSON.stringify(postData));
+            updateDraftStatus('saved');
+        }
+    }, 30000); // 30 saniyede bir otomatik kaydet
+}
+
+function updateDraftStatus(status) {
+    const statusElement = document.getElementById('draftStatus');
+    const now = new Date().toLocaleTimeString('tr-TR', { 
+        hour: '2-digit', 
+        minute: '2-digit' 
+    });
+
+    if (status === 'saved') {
+        statusElement.className = 'draft-status saved';
+        statusElement.innerHTML = `
+            <i class="fas fa-check"></i>
+            <span>Taslak kaydedildi (${now})</span>
+        `;
+    } else {
+        statusElement.className = 'draft-status';
+        statusElement.innerHTML = `
+            <i class="fas fa-clock"></i>
+            <span>Taslak otomatik kaydediliyor...</span>
+        `;
+    }
+}
+
+function showNotification(message, type = 'info') {
+    const notification = document.createElement('div');
+    let alertClass = 'alert-info';
+    let iconClass = 'info-circle';
+
+    if (type === 'success') {
+        alertClass = 'alert-success';
+        iconClass = 'check-circle';
+    } else if (type === 'error') {
+        alertClass = 'alert-danger';
+        iconClass = 'exclamation-circle';
+    }
+
+    notification.className = `alert ${alertClass} position-fixed notification`;
+    notification.style.cssText = `
+        top: 100px;
+        right: 20px;
+        z-index: 9999;
+        min-width: 300px;
+        border: none;
+        border-radius: 12px;
+        box-shadow: 0 8px 25px rgba(0, 0, 0, 0.15);
+    `;
+    notification.innerHTML = `
+        <i class="fas fa-${iconClass} me-2"></i>
+        ${message}
+    `;
+
+    document.body.appendChild(notification);
+
+    setTimeout(() => {
+        notification.style.opacity = '0';
+        setTimeout(() => notification.remove(), 300);
+    }, 4000);
+}
+
+// Form submit öncesi kontrol
+document.getElementById('postForm').addEventListener('submit', function(e) {
+    const title = document.getElementById('postTitle').value.trim();
+    const content = document.getElementById('postContent').value.trim();
+    const postType = selectedPostType;
+    const linkUrl = document.getElementById('linkUrl').value.trim();
+
+    if (!title) {
+        e.preventDefault();
+        showNotification('Lütfen yazı başlığı girin!', 'error');
+        return;
+    }
+
+    if (postType === 'TEXT' && !content) {
+        e.preventDefault();
+        showNotification('Lütfen yazı içeriği girin!', 'error');
+        return;
+    }
+
+    if (postType === 'LINK' && !linkUrl) {
+        e.preventDefault();
+        showNotification('Lütfen link URL girin!', 'error');
+        return;
+    }
+
+    if (!selectedCategory) {
+        e.preventDefault();
+        showNotification('Lütfen bir kategori seçin!', 'error');
+        return;
+    }
+
+    // Form gönderildiğinde taslağı temizle ve flag ayarla
+    localStorage.removeItem('blogDraft');
+    isFormSubmitting = true;
+});
+
+// Form gönderimi flag'i
+let isFormSubmitting = false;
+
+// Sayfa kapatma uyarısı
+window.addEventListener('beforeunload', function(e) {
+    // Form gönderiliyorsa uyarı verme
+    if (isFormSubmitting) {
+        return;
+    }
+
+    const title = document.getElementById('postTitle').value.trim();
+    const content = document.getElementById('postContent').value.trim();
+
+    if (title || content) {
+        e.preventDefault();
+        e.returnValue = 'Kaydedilmemiş değişiklikleriniz var. Sayfayı kapatmak istediğinizden emin misiniz?';
+    }
+});
+
+// Keyboard shortcuts
+document.addEventListener('keydown', function(e) {
+    if (e.ctrlKey || e.metaKey) {
+        switch(e.key) {
+            case 's':
+                e.preventDefault();
+                saveDraft();
+                break;
+            case 'b':
+                e.preventDefault();
+                insertText('**', '**');
+                break;
+            case 'i':
+                e.preventDefault();
+                insertText('*', '*');
+                break;
+            case 'k':
+                e.preventDefault();
+                insertLink();
+                break;
+        }
+    }
+});
@@ -3,9 +3,11 @@ package com.blog.blogprojesi;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaRepositories(basePackages = "com.blog.blogprojesi.repository")
+@EnableScheduling
 public class BlogProjesiApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,219 @@
+package com.blog.blogprojesi.config;
+
+import com.blog.blogprojesi.dto.FeedSort;
+import com.blog.blogprojesi.service.CategoryRegistry;
+import com.blog.blogprojesi.service.PageCacheService;
+import com.blog.blogprojesi.service.PageCacheService.CachedPage;
+import com.blog.blogprojesi.service.ViewCountService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.support.SessionFlashMapManager;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Anonim ziyaretçiler için tam sayfa önbellek filtresi
+ * Güvenlik filtrelerinden sonra çalışır; giriş yapmamış kullanıcıların ana sayfa, konular
+ * ve post detay isteklerini önbellekten (ETag / Last-Modified ile) yanıtlar. Önbellekte
+ * olmayan sayfalar normal şekilde işlenir ve yanıt saklanır. Giriş yapmış kullanıcılar
+ * önbelleği hiç kullanmaz.
+ * Önbellek anahtarı yalnızca sayfanın okuduğu parametrelerden oluşur; başka parametre taşıyan
+ * istekler önbelleğe girmez, böylece rastgele parametrelerle gerçek sayfalar önbellekten itilemez.
+ */
+@Component
+@RequiredArgsConstructor
+public class AnonymousPageCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern POST_DETAIL_PATH = Pattern.compile("^/post/(\\d+)$");
+    private static final int MAX_QUERY_LENGTH = 256;
+    private static final String FLASH_MAPS_ATTRIBUTE = SessionFlashMapManager.class.getName() + ".FLASH_MAPS";
+
+    // Ana sayfanın okuduğu parametreler; konular ve post detay sayfası parametre okumaz
+    private static final Set<String> HOME_PARAMETERS = Set.of("category", "search", "sort");
+
+    private final PageCacheService pageCacheService;
+    private final ViewCountService viewCountService;
+    private final CategoryRegistry categoryRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.equals("/home") && !path.equals("/topics") && !POST_DETAIL_PATH.matcher(path).matches()) {
+            return true;
+        }
+        String query = request.getQueryString();
+        return query != null && query.length() > MAX_QUERY_LENGTH;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!isAnonymous() || hasPendingFlashAttributes(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = cacheKey(request);
+        if (key == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        CachedPage page = pageCacheService.get(key);
+        if (page != null) {
+            if (page.postId() != null) {
+                viewCountService.recordView(page.postId(), viewCountService.visitorKey(request));
+            }
+            writePage(page, "HIT", request, response);
+            return;
+        }
+
+        long generation = pageCacheService.currentGeneration();
+        boolean hadSession = request.getSession(false) != null;
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        if (isStorable(request, wrapper, hadSession)) {
+            page = pageCacheService.store(key, wrapper.getContentAsByteArray(), wrapper.getContentType(),
+                    postIdOf(request), generation);
+        }
+        if (page != null) {
+            writePage(page, "MISS", request, response);
+        } else {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * Sayfanın okuduğu parametrelerle normalleştirilmiş önbellek anahtarı
+     * Tanınmayan veya tekrarlanan parametre ya da bilinmeyen kategori varsa null (önbelleğe alınmaz)
+     */
+    private String cacheKey(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Set<String> allowed = path.equals("/home") ? HOME_PARAMETERS : Set.of();
+
+        Map<String, String> parameters = new TreeMap<>();
+        for (Map.Entry<String, String[]> parameter : request.getParameterMap().entrySet()) {
+            String[] values = parameter.getValue();
+            if (!allowed.contains(parameter.getKey()) || values.length != 1) {
+                return null;
+            }
+            if (!values[0].isEmpty()) {
+                parameters.put(parameter.getKey(), values[0]);
+            }
+        }
+
+        // WebController.home ile aynı kurallar: arama kategoriden önceliklidir, sıralama varsayılana indirgenir
+        String search = parameters.get("search");
+        if (search != null) {
+            parameters.remove("category");
+        } else if (parameters.containsKey("category")
+                && categoryRegistry.findIdByName(parameters.get("category")).isEmpty()) {
+            return null;
+        }
+        if (parameters.containsKey("sort")) {
+            FeedSort defaultSort = search != null ? FeedSort.RELEVANCE : FeedSort.LATEST;
+            FeedSort sort = FeedSort.fromParameter(parameters.get("sort"), defaultSort);
+            if (sort == defaultSort) {
+                parameters.remove("sort");
+            } else {
+                parameters.put("sort", sort.getParameter());
+            }
+        }
+
+        StringJoiner query = new StringJoiner("&", "?", "").setEmptyValue("");
+        parameters.forEach((name, value) -> query.add(name + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8)));
+        return request.getRequestURI() + query;
+    }
+
+    private boolean isAnonymous() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth == null || auth instanceof AnonymousAuthenticationToken || !auth.isAuthenticated();
+    }
+
+    // Yönlendirme sonrası gösterilecek mesajlar ziyaretçiye özeldir
+    private boolean hasPendingFlashAttributes(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            return false;
+        }
+        Object flashMaps = session.getAttribute(FLASH_MAPS_ATTRIBUTE);
+        return flashMaps instanceof Collection<?> maps && !maps.isEmpty();
+    }
+
+    /**
+     * Yalnızca başarılı, HTML ve ziyaretçiye özel durum (yeni oturum, çerez) içermeyen yanıtlar saklanır
+     */
+    private boolean isStorable(HttpServletRequest request, ContentCachingResponseWrapper wrapper, boolean hadSession) {
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || wrapper.getContentSize() == 0) {
+            return false;
+        }
+        String contentType = wrapper.getContentType();
+        if (contentType == null || !contentType.startsWith("text/html")) {
+            return false;
+        }
+        if (!hadSession && request.getSession(false) != null) {
+            return false;
+        }
+        return wrapper.getHeaders(HttpHeaders.SET_COOKIE).isEmpty();
+    }
+
+    private void writePage(CachedPage page, String cacheStatus, HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        response.setHeader("X-Page-Cache", cacheStatus);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.COOKIE);
+        if (new ServletWebRequest(request, response).checkNotModified(page.etag(), page.lastModified())) {
+            return;
+        }
+
+        response.setContentType(page.contentType());
+        byte[] body;
+        if (acceptsGzip(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = page.gzippedBody();
+        } else {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(page.gzippedBody()))) {
+                body = in.readAllBytes();
+            }
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    private Long postIdOf(HttpServletRequest request) {
+        Matcher matcher = POST_DETAIL_PATH.matcher(request.getRequestURI().substring(request.getContextPath().length()));
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+}
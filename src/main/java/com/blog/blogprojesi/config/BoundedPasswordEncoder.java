@@ -0,0 +1,91 @@
+package com.blog.blogprojesi.config;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Eş zamanlı hash işlemlerini sınırlayan PasswordEncoder
+ * Hash üretme ve doğrulama CPU yoğun olduğu için aynı anda en fazla belirli sayıda iş parçacığı
+ * çalışabilir; yer bekleyen istek acquireTimeout içinde yer bulamazsa {@link HashingBusyException}
+ * ile hemen reddedilir. Böylece bir giriş dalgası tüm istek iş parçacıklarını hash hesabına bağlamaz.
+ * upgradeEncoding doğrudan alttaki encoder'a iletilir (hash hesabı yapmaz).
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Semaphore slots;
+    private final long acquireTimeoutMillis;
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int maxConcurrent, long acquireTimeoutMillis) {
+        this.delegate = delegate;
+        this.slots = new Semaphore(Math.max(1, maxConcurrent), true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        acquire();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            slots.release();
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        acquire();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            slots.release();
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Boşta hash yeri sayısı
+     */
+    public int getAvailableSlots() {
+        return slots.availablePermits();
+    }
+
+    /**
+     * Yer bulunamadığı için reddedilen işlem sayısı
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    private void acquire() {
+        try {
+            if (slots.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.incrementAndGet();
+        throw new HashingBusyException();
+    }
+
+    /**
+     * Tüm hash yerleri dolu (giriş sırasında oluşursa başarısız deneme sayılmaz)
+     */
+    public static class HashingBusyException extends AuthenticationServiceException {
+
+        public HashingBusyException() {
+            super("Sunucu şu anda yoğun, lütfen biraz sonra tekrar deneyin");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.blog.blogprojesi.config;
+
+import java.util.List;
+
+/**
+ * Hibernate ikinci seviye önbellek bölge adları
+ * Boyut ve süre ayarları src/main/resources/application.conf içinde bölge adıyla tanımlıdır.
+ */
+public final class CacheRegions {
+
+    public static final String USERS = "users";
+    public static final String POSTS = "posts";
+    public static final String SYSTEM_SETTINGS = "system-settings";
+    public static final String CATEGORIES = "categories";
+
+    // Hibernate'in varsayılan sorgu ve tablo zaman damgası bölgeleri
+    public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    public static final List<String> ENTITY_REGIONS = List.of(USERS, POSTS, SYSTEM_SETTINGS, CATEGORIES);
+    public static final List<String> QUERY_REGIONS = List.of(DEFAULT_QUERY_RESULTS);
+
+    private CacheRegions() {
+    }
+}
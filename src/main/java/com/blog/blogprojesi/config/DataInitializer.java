@@ -2,6 +2,11 @@ package com.blog.blogprojesi.config;
 
 import com.blog.blogprojesi.entity.*;
 import com.blog.blogprojesi.repository.*;
+import com.blog.blogprojesi.service.CategoryService;
+import com.blog.blogprojesi.service.LogPartitionService;
+import com.blog.blogprojesi.service.PostRenderService;
+import com.blog.blogprojesi.service.PostService;
+import com.blog.blogprojesi.service.PostStatsService;
 import com.blog.blogprojesi.service.SystemSettingsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,9 +27,20 @@ public class DataInitializer implements CommandLineRunner {
     private final PostRepository postRepository;
     private final PasswordEncoder passwordEncoder;
     private final SystemSettingsService systemSettingsService;
+    private final PostStatsService postStatsService;
+    private final PostService postService;
+    private final PostRenderService postRenderService;
+    private final CategoryService categoryService;
+    private final LogPartitionService logPartitionService;
 
     @Override
     public void run(String... args) {
+        // Eski metin kategorileri kategori tablosuna taşı (yalnızca eski kolon varsa çalışır)
+        categoryService.migrateLegacyCategories();
+
+        // Log tablolarını zamana göre bölümlenmiş tablolara çevir (zaten bölümlüyse ileri bölümleri oluşturur)
+        logPartitionService.migrateToPartitioned();
+
         // Sistem ayarlarını başlat
         log.info("Sistem ayarları kontrol ediliyor...");
         systemSettingsService.initializeDefaultSettings();
@@ -40,6 +56,18 @@ public class DataInitializer implements CommandLineRunner {
             // Admin kullanıcısının var olduğundan emin ol
             ensureAdminExists();
         }
+
+        // İstatistik kaydı olmayan postlar için post_stats kayıtlarını oluştur
+        postStatsService.backfillMissingStats();
+
+        // Kelime sayısı, okuma süresi ve arama metni olmayan eski postları işle
+        postService.backfillDerivedContent();
+
+        // HTML'i olmayan veya içeriği değişmiş postların HTML'ini oluştur
+        postRenderService.backfillMissingRenders();
+
+        // Kategori başına yayınlanmış post sayılarını doğrula
+        categoryService.recountPublishedPosts();
     }
 
     /**
@@ -132,7 +160,7 @@ public class DataInitializer implements CommandLineRunner {
                         "- PostgreSQL içinde hazır geliyor\n\n" +
                         "Şimdi sırada projeye yeni özellikler eklemek var!")
                 .postType(PostType.TEXT)
-                .category("Deneyimler")
+                .category(categoryService.resolve("Deneyimler"))
                 .author(user1)
                 .isPublished(true)
                 .isFeatured(true)
@@ -152,7 +180,7 @@ public class DataInitializer implements CommandLineRunner {
                         "- Security konfigürasyonu biraz karmaşık\n\n" +
                         "Ama genel olarak öğrenmesi keyifli bir framework!")
                 .postType(PostType.TEXT)
-                .category("Öğrenim")
+                .category(categoryService.resolve("Öğrenim"))
                 .author(user2)
                 .isPublished(true)
                 .isFeatured(false)
@@ -173,7 +201,7 @@ public class DataInitializer implements CommandLineRunner {
                         "Bu kadar basit bir kod ile responsive layout yapabiliyorsunuz. Harika!\n\n" +
                         "Haftaya Grid ile daha karmaşık layoutlar deneyeceğim.")
                 .postType(PostType.TEXT)
-                .category("Web Design")
+                .category(categoryService.resolve("Web Design"))
                 .author(user2)
                 .isPublished(true)
                 .isFeatured(true)
@@ -187,7 +215,7 @@ public class DataInitializer implements CommandLineRunner {
                         "Callback hell'den kurtulmak için Promise kullanmak gerçekten mantıklı. Async/await ile de daha da okunabilir hale geliyor.\n\n" +
                         "Yarın fetch API ile bir deneme yapacağım.")
                 .postType(PostType.TEXT)
-                .category("JavaScript")
+                .category(categoryService.resolve("JavaScript"))
                 .author(user1)
                 .isPublished(true)
                 .isFeatured(false)
@@ -199,7 +227,7 @@ public class DataInitializer implements CommandLineRunner {
                 .title("Test Yazısı - Silme İşlevi Denemesi")
                 .content("Bu yazıyı silme özelliğini test etmek için yazdım.\n\nSonra sileceğim muhtemelen...")
                 .postType(PostType.TEXT)
-                .category("Test")
+                .category(categoryService.resolve("Test"))
                 .author(user3)
                 .isPublished(true)
                 .isFeatured(false)
@@ -216,7 +244,7 @@ public class DataInitializer implements CommandLineRunner {
                         "- Karmaşık sorgularda daha performanslı\n\n" +
                         "Ama MySQL'in de PHP ile entegrasyonu daha yaygınmış. Henüz net karar veremedim.")
                 .postType(PostType.TEXT)
-                .category("Veritabanı")
+                .category(categoryService.resolve("Veritabanı"))
                 .author(user1)
                 .isPublished(true)
                 .isFeatured(false)
@@ -230,7 +258,7 @@ public class DataInitializer implements CommandLineRunner {
                         "Class component'lerden fonksiyonel component'lere geçiş yapmak başta garip geldi ama şimdi daha mantıklı geliyor.\n\n" +
                         "useEffect dependency array'i konusu biraz kafa karıştırıcı, tekrar tekrar dökümantasyona bakmam gerekiyor.")
                 .postType(PostType.TEXT)
-                .category("React")
+                .category(categoryService.resolve("React"))
                 .author(user2)
                 .isPublished(true)
                 .isFeatured(false)
@@ -244,7 +272,7 @@ public class DataInitializer implements CommandLineRunner {
                 .content("Bu yazıyı henüz bitirmedim. Git Flow ve trunk-based development hakkında araştırma yapıyorum.\n\n" +
                         "Daha sonra tamamlayacağım...")
                 .postType(PostType.TEXT)
-                .category("Git")
+                .category(categoryService.resolve("Git"))
                 .author(user1)
                 .isPublished(false)
                 .isFeatured(false)
@@ -258,7 +286,7 @@ public class DataInitializer implements CommandLineRunner {
                 .content("Spring Boot için çok iyi bir rehber buldum. Özellikle security ve testing kısımları detaylı anlatılmış.")
                 .url("https://spring.io/guides")
                 .postType(PostType.LINK)
-                .category("Kaynaklar")
+                .category(categoryService.resolve("Kaynaklar"))
                 .author(user1)
                 .isPublished(true)
                 .isFeatured(false)
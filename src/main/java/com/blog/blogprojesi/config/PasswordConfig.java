@@ -1,5 +1,6 @@
 package com.blog.blogprojesi.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -7,13 +8,20 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 /**
  * Password Encoder yapılandırması
- * Circular dependency'yi önlemek için ayrı bir sınıfta tanımlandı
+ * Circular dependency'yi önlemek için ayrı bir sınıfta tanımlandı.
+ * BCrypt maliyeti blog.password.bcrypt-strength ile ayarlanır; daha düşük maliyetle saklanmış
+ * hash'ler başarılı girişte yeni maliyetle yeniden hash'lenir (UserService.updatePassword).
  */
 @Configuration
 public class PasswordConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${blog.password.bcrypt-strength:10}") int strength,
+            @Value("${blog.password.max-concurrent-hashes:0}") int maxConcurrentHashes,
+            @Value("${blog.password.acquire-timeout-ms:1000}") long acquireTimeoutMs) {
+        // 0: işlemci sayısı kadar eş zamanlı hash
+        int slots = maxConcurrentHashes > 0 ? maxConcurrentHashes : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), slots, acquireTimeoutMs);
     }
 }
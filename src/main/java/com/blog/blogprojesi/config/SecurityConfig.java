@@ -1,9 +1,11 @@
 package com.blog.blogprojesi.config;
 
+import com.blog.blogprojesi.dto.SessionUser;
 import com.blog.blogprojesi.entity.Role;
 import com.blog.blogprojesi.entity.User;
 import com.blog.blogprojesi.service.AdminLogService;
 import com.blog.blogprojesi.service.LoginAttemptService;
+import com.blog.blogprojesi.service.SessionUserService;
 import com.blog.blogprojesi.service.UserService;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,6 +16,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.RememberMeAuthenticationToken;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -21,11 +24,15 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.security.web.authentication.rememberme.RememberMeAuthenticationFilter;
+import org.springframework.security.web.authentication.rememberme.TokenBasedRememberMeServices;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 import java.io.IOException;
@@ -39,17 +46,31 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final String REMEMBER_ME_KEY = "blogProjesiSecretKey";
+
     private final UserDetailsService userDetailsService;
     private final PasswordEncoder passwordEncoder;
     private final LoginAttemptService loginAttemptService;
     private final AdminLogService adminLogService;
     private final UserService userService;
+    private final SessionUserService sessionUserService;
 
+    /**
+     * Giriş sonrası oturuma entity yerine kullanıcı özeti (SessionUser) konur
+     */
     @Bean
     public AuthenticationProvider authenticationProvider() {
-        DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
+        DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider() {
+            @Override
+            protected Authentication createSuccessAuthentication(Object principal, Authentication authentication,
+                                                                 UserDetails user) {
+                return super.createSuccessAuthentication(SessionUser.from((User) user), authentication, user);
+            }
+        };
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder);
+        // Eski maliyetli hash'ler başarılı girişte yeniden hash'lenir
+        authProvider.setUserDetailsPasswordService(userService);
         return authProvider;
     }
 
@@ -88,7 +109,9 @@ public class SecurityConfig {
                 .accessDeniedHandler((request, response, accessDeniedException) -> {
                     response.sendRedirect("/admin/login?error=access_denied");
                 })
-            );
+            )
+            .addFilterAfter(new SessionUserRefreshFilter(sessionUserService, REMEMBER_ME_KEY),
+                    RememberMeAuthenticationFilter.class);
 
         return http.build();
     }
@@ -104,7 +127,7 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> auth
                 // Herkese açık sayfalar
-                .requestMatchers("/", "/index", "/home", "/login", "/register", "/forgot-password", "/reset-password/**").permitAll()
+                .requestMatchers("/", "/index", "/home", "/home/feed", "/login", "/register", "/forgot-password", "/reset-password/**").permitAll()
                 .requestMatchers("/post/**").permitAll() // Post detay sayfaları herkese açık
                 .requestMatchers("/topics", "/topics/**").permitAll()
                 .requestMatchers("/search", "/search/**").permitAll()
@@ -144,17 +167,42 @@ public class SecurityConfig {
                 .permitAll()
             )
             .rememberMe(remember -> remember
-                .key("blogProjesiSecretKey")
-                .tokenValiditySeconds(86400 * 7) // 7 gün
-                .userDetailsService(userDetailsService)
+                .key(REMEMBER_ME_KEY)
+                .rememberMeServices(rememberMeServices())
             )
             .exceptionHandling(exception -> exception
                 .accessDeniedPage("/access-denied")
-            );
+            )
+            .addFilterAfter(new SessionUserRefreshFilter(sessionUserService, REMEMBER_ME_KEY),
+                    RememberMeAuthenticationFilter.class);
 
         return http.build();
     }
 
+    /**
+     * Beni hatırla servisi - çerezle girişte de oturuma kullanıcı özeti konur
+     */
+    @Bean
+    public TokenBasedRememberMeServices rememberMeServices() {
+        TokenBasedRememberMeServices rememberMeServices = new TokenBasedRememberMeServices(REMEMBER_ME_KEY, userDetailsService) {
+            @Override
+            protected Authentication createSuccessfulAuthentication(HttpServletRequest request, UserDetails user) {
+                SessionUser sessionUser = SessionUser.from((User) user);
+                RememberMeAuthenticationToken auth = new RememberMeAuthenticationToken(getKey(), sessionUser,
+                        sessionUser.getAuthorities());
+                auth.setDetails(new WebAuthenticationDetails(request));
+                return auth;
+            }
+
+            @Override
+            protected String retrieveUserName(Authentication authentication) {
+                return authentication.getName();
+            }
+        };
+        rememberMeServices.setTokenValiditySeconds(86400 * 7); // 7 gün
+        return rememberMeServices;
+    }
+
     /**
      * Admin başarılı giriş handler
      */
@@ -191,6 +239,12 @@ public class SecurityConfig {
             @Override
             public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
                                                 AuthenticationException exception) throws IOException, ServletException {
+                // Hash yerleri doluysa şifre denenmedi; başarısız deneme sayılmaz
+                if (exception instanceof BoundedPasswordEncoder.HashingBusyException) {
+                    response.sendRedirect("/admin/login?busy=true");
+                    return;
+                }
+
                 String username = request.getParameter("username");
                 String ip = getClientIp(request);
 
@@ -237,6 +291,12 @@ public class SecurityConfig {
             @Override
             public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
                                                 AuthenticationException exception) throws IOException, ServletException {
+                // Hash yerleri doluysa şifre denenmedi; başarısız deneme sayılmaz
+                if (exception instanceof BoundedPasswordEncoder.HashingBusyException) {
+                    response.sendRedirect("/login?busy=true");
+                    return;
+                }
+
                 String username = request.getParameter("username");
                 String ip = getClientIp(request);
 
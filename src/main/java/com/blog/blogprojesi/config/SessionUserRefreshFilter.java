@@ -0,0 +1,69 @@
+package com.blog.blogprojesi.config;
+
+import com.blog.blogprojesi.dto.SessionUser;
+import com.blog.blogprojesi.service.SessionUserService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.RememberMeAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Oturumdaki kullanıcı özetini yenileyen filtre
+ * Güvenlik zincirinde yetkilendirmeden önce çalışır. Özet eskimişse (kullanıcı başka bir
+ * istekte veya admin tarafından güncellenmişse) yeniden yüklenir ve oturuma yazılır; böylece
+ * rol değişiklikleri aynı istekte geçerli olur. Kullanıcı silinmiş veya devre dışı bırakılmışsa
+ * oturum kapatılır.
+ */
+@RequiredArgsConstructor
+public class SessionUserRefreshFilter extends OncePerRequestFilter {
+
+    private final SessionUserService sessionUserService;
+    private final String rememberMeKey;
+
+    private final SecurityContextRepository securityContextRepository = new HttpSessionSecurityContextRepository();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof SessionUser sessionUser
+                && sessionUserService.isStale(sessionUser)) {
+            Optional<SessionUser> refreshed = sessionUserService.reload(sessionUser.getId());
+            if (refreshed.isPresent()) {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(refreshedAuthentication(auth, refreshed.get()));
+                SecurityContextHolder.setContext(context);
+                securityContextRepository.saveContext(context, request, response);
+            } else {
+                SecurityContextHolder.clearContext();
+                HttpSession session = request.getSession(false);
+                if (session != null) {
+                    session.invalidate();
+                }
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Authentication refreshedAuthentication(Authentication previous, SessionUser user) {
+        AbstractAuthenticationToken token = previous instanceof RememberMeAuthenticationToken
+                ? new RememberMeAuthenticationToken(rememberMeKey, user, user.getAuthorities())
+                : UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities());
+        token.setDetails(previous.getDetails());
+        return token;
+    }
+}
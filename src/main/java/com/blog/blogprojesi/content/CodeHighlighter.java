@@ -0,0 +1,197 @@
+package com.blog.blogprojesi.content;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sunucu tarafı kod renklendirici
+ * Kod bloklarını tek geçişte tarar; yorum, metin, sayı ve anahtar kelimeleri Prism temasıyla
+ * uyumlu "token ..." sınıflı span'lara sarar. Tanınmayan dillerde kod yalnızca HTML kaçışlanır.
+ */
+public final class CodeHighlighter {
+
+    /**
+     * Bir dil ailesinin sözdizimi
+     */
+    private record Grammar(String[] lineComments, String blockStart, String blockEnd, String quotes,
+                           Set<String> keywords, boolean caseInsensitive) {
+    }
+
+    private static final Set<String> LITERALS = Set.of("true", "false", "null", "None", "True", "False", "undefined");
+
+    private static final Map<String, Grammar> GRAMMARS = new HashMap<>();
+
+    static {
+        Grammar java = new Grammar(new String[]{"//"}, "/*", "*/", "\"'", Set.of(
+                "abstract", "assert", "break", "case", "catch", "class", "continue", "default", "do", "else",
+                "enum", "extends", "final", "finally", "for", "if", "implements", "import", "instanceof",
+                "interface", "new", "package", "private", "protected", "public", "record", "return", "static",
+                "super", "switch", "this", "throw", "throws", "try", "var", "void", "while", "int", "long",
+                "double", "float", "boolean", "char", "byte", "short"), false);
+        Grammar javascript = new Grammar(new String[]{"//"}, "/*", "*/", "\"'`", Set.of(
+                "async", "await", "break", "case", "catch", "class", "const", "continue", "default", "delete",
+                "do", "else", "export", "extends", "finally", "for", "from", "function", "if", "import", "in",
+                "instanceof", "interface", "let", "new", "of", "return", "static", "super", "switch", "this",
+                "throw", "try", "type", "typeof", "var", "void", "while", "yield"), false);
+        Grammar cLike = new Grammar(new String[]{"//"}, "/*", "*/", "\"'", Set.of(
+                "auto", "break", "case", "char", "class", "const", "continue", "default", "do", "double", "else",
+                "enum", "extern", "float", "for", "func", "go", "if", "import", "int", "long", "namespace", "new",
+                "package", "private", "public", "return", "static", "struct", "switch", "this", "using", "var",
+                "void", "while"), false);
+        Grammar python = new Grammar(new String[]{"#"}, null, null, "\"'", Set.of(
+                "and", "as", "assert", "async", "await", "break", "class", "continue", "def", "del", "elif",
+                "else", "except", "finally", "for", "from", "global", "if", "import", "in", "is", "lambda",
+                "not", "or", "pass", "raise", "return", "try", "while", "with", "yield"), false);
+        Grammar shell = new Grammar(new String[]{"#"}, null, null, "\"'", Set.of(
+                "if", "then", "else", "elif", "fi", "for", "while", "do", "done", "case", "esac", "function",
+                "in", "export", "local", "return", "echo", "cd", "sudo"), false);
+        Grammar sql = new Grammar(new String[]{"--"}, "/*", "*/", "'", Set.of(
+                "select", "from", "where", "and", "or", "not", "insert", "into", "values", "update", "set",
+                "delete", "create", "table", "alter", "drop", "index", "join", "left", "right", "inner", "outer",
+                "on", "group", "by", "order", "having", "limit", "offset", "as", "distinct", "in", "is", "null",
+                "primary", "key", "foreign", "references", "exists", "union", "all", "case", "when", "then",
+                "else", "end", "asc", "desc"), true);
+        Grammar json = new Grammar(new String[0], null, null, "\"", Set.of(), false);
+        Grammar yaml = new Grammar(new String[]{"#"}, null, null, "\"'", Set.of(), false);
+
+        register(java, "java", "kotlin", "kt", "scala", "groovy", "gradle");
+        register(javascript, "javascript", "js", "typescript", "ts", "jsx", "tsx");
+        register(cLike, "c", "cpp", "c++", "csharp", "cs", "go", "rust", "swift", "php");
+        register(python, "python", "py", "ruby", "rb");
+        register(shell, "bash", "sh", "shell", "zsh");
+        register(sql, "sql", "postgresql", "mysql");
+        register(json, "json");
+        register(yaml, "yaml", "yml", "properties", "toml", "dockerfile");
+    }
+
+    private CodeHighlighter() {
+    }
+
+    private static void register(Grammar grammar, String... names) {
+        for (String name : names) {
+            GRAMMARS.put(name, grammar);
+        }
+    }
+
+    /**
+     * Dil adı renklendirici tarafından destekleniyor mu
+     */
+    public static boolean supports(String language) {
+        return language != null && GRAMMARS.containsKey(language.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Kodu kaçışlanmış ve renklendirilmiş HTML'e çevir
+     */
+    public static String highlight(String code, String language) {
+        StringBuilder out = new StringBuilder(code.length() + code.length() / 4);
+        Grammar grammar = language != null ? GRAMMARS.get(language.toLowerCase(Locale.ROOT)) : null;
+        if (grammar == null) {
+            escape(code, 0, code.length(), out);
+            return out.toString();
+        }
+
+        int length = code.length();
+        int i = 0;
+        while (i < length) {
+            char c = code.charAt(i);
+            int end = commentEnd(grammar, code, i);
+            if (end > i) {
+                span(out, "comment", code, i, end);
+                i = end;
+            } else if (grammar.quotes().indexOf(c) >= 0) {
+                end = stringEnd(code, i, c);
+                span(out, "string", code, i, end);
+                i = end;
+            } else if (Character.isDigit(c) && (i == 0 || !isWordPart(code.charAt(i - 1)))) {
+                end = i + 1;
+                while (end < length && (isWordPart(code.charAt(end)) || code.charAt(end) == '.')) {
+                    end++;
+                }
+                span(out, "number", code, i, end);
+                i = end;
+            } else if (Character.isLetter(c) || c == '_' || c == '$') {
+                end = i + 1;
+                while (end < length && isWordPart(code.charAt(end))) {
+                    end++;
+                }
+                String word = code.substring(i, end);
+                String lookup = grammar.caseInsensitive() ? word.toLowerCase(Locale.ROOT) : word;
+                if (grammar.keywords().contains(lookup)) {
+                    span(out, "keyword", code, i, end);
+                } else if (LITERALS.contains(word)) {
+                    span(out, "boolean", code, i, end);
+                } else {
+                    escape(code, i, end, out);
+                }
+                i = end;
+            } else {
+                escape(code, i, i + 1, out);
+                i++;
+            }
+        }
+        return out.toString();
+    }
+
+    private static int commentEnd(Grammar grammar, String code, int i) {
+        for (String marker : grammar.lineComments()) {
+            if (code.startsWith(marker, i)) {
+                int end = code.indexOf('\n', i);
+                return end >= 0 ? end : code.length();
+            }
+        }
+        if (grammar.blockStart() != null && code.startsWith(grammar.blockStart(), i)) {
+            int end = code.indexOf(grammar.blockEnd(), i + grammar.blockStart().length());
+            return end >= 0 ? end + grammar.blockEnd().length() : code.length();
+        }
+        return i;
+    }
+
+    /**
+     * Kaçış karakterlerini dikkate alarak metnin bitişi (satır sonunda veya kapanış tırnağında)
+     */
+    private static int stringEnd(String code, int start, char quote) {
+        int i = start + 1;
+        while (i < code.length()) {
+            char c = code.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == quote) {
+                return i + 1;
+            }
+            if (c == '\n' && quote != '`') {
+                return i;
+            }
+            i++;
+        }
+        return code.length();
+    }
+
+    private static boolean isWordPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    private static void span(StringBuilder out, String token, String code, int start, int end) {
+        out.append("<span class=\"token ").append(token).append("\">");
+        escape(code, start, end, out);
+        out.append("</span>");
+    }
+
+    private static void escape(String text, int start, int end, StringBuilder out) {
+        for (int i = start; i < Math.min(end, text.length()); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.blog.blogprojesi.content;
+
+import java.text.Normalizer;
+
+/**
+ * Post içeriği işleyici
+ * Markdown içeriği tek geçişte düz metne çevirir (başlık, alıntı ve liste işaretleri, vurgu karakterleri,
+ * bağlantı adresleri ve HTML etiketleri atılır, boşluklar tek boşluğa indirgenir) ve aynı geçişte
+ * kelimeleri sayar. Özet ve arama metni bu düz metinden üretilir.
+ */
+public final class ContentProcessor {
+
+    public static final int EXCERPT_LENGTH = 200;
+
+    // Ortalama okuma hızı (kelime/dk)
+    public static final int WORDS_PER_MINUTE = 200;
+
+    private static final String EXCERPT_SUFFIX = "...";
+    private static final String LINK_EXCERPT_PREFIX = "Link: ";
+
+    // Bir HTML etiketinin en fazla bu kadar karakter içinde kapanması beklenir
+    private static final int MAX_TAG_LENGTH = 200;
+
+    private ContentProcessor() {
+    }
+
+    /**
+     * İçerikten kelime sayısı, okuma süresi, özet ve arama metnini üret
+     * İçeriği olmayan link postlarında özet bağlantı adresidir
+     */
+    public static ProcessedContent process(String content, String url) {
+        String plainText = "";
+        int wordCount = 0;
+        if (content != null && !content.isBlank()) {
+            StringBuilder out = new StringBuilder(content.length());
+            wordCount = toPlainText(normalize(content), out);
+            plainText = out.toString();
+        }
+
+        String excerpt;
+        if (!plainText.isEmpty()) {
+            excerpt = excerpt(plainText);
+        } else if (url != null && !url.isBlank()) {
+            excerpt = LINK_EXCERPT_PREFIX + url;
+        } else {
+            excerpt = content;
+        }
+        return new ProcessedContent(wordCount, readingTime(wordCount), excerpt, plainText);
+    }
+
+    /**
+     * Kelime sayısından okuma süresi (dakika, en az 1)
+     */
+    public static int readingTime(int wordCount) {
+        return Math.max(1, wordCount / WORDS_PER_MINUTE);
+    }
+
+    /**
+     * Düz metni kelime sınırından kısalt
+     */
+    static String excerpt(String plainText) {
+        if (plainText.length() <= EXCERPT_LENGTH) {
+            return plainText;
+        }
+        int cut = plainText.lastIndexOf(' ', EXCERPT_LENGTH);
+        if (cut < EXCERPT_LENGTH / 2) {
+            cut = EXCERPT_LENGTH;
+        }
+        if (Character.isHighSurrogate(plainText.charAt(cut - 1))) {
+            cut--;
+        }
+        return plainText.substring(0, cut) + EXCERPT_SUFFIX;
+    }
+
+    private static String normalize(String content) {
+        return Normalizer.isNormalized(content, Normalizer.Form.NFC)
+                ? content
+                : Normalizer.normalize(content, Normalizer.Form.NFC);
+    }
+
+    /**
+     * Markdown'ı düz metne çevirip out'a yaz, kelime sayısını döndür
+     */
+    private static int toPlainText(String content, StringBuilder out) {
+        int length = content.length();
+        int words = 0;
+        boolean lineStart = true;
+        boolean pendingSpace = false;
+        int i = 0;
+        while (i < length) {
+            char c = content.charAt(i);
+            if (c == '\n' || c == '\r') {
+                lineStart = true;
+                pendingSpace = out.length() > 0;
+                i++;
+                continue;
+            }
+            if (lineStart) {
+                lineStart = false;
+                i = skipLineMarkers(content, i);
+                continue;
+            }
+            if (Character.isWhitespace(c) || c == '|') {
+                pendingSpace = out.length() > 0;
+                i++;
+                continue;
+            }
+
+            switch (c) {
+                case '*', '`', '~', '[' -> {
+                    i++;
+                    continue;
+                }
+                case '!' -> {
+                    // Resim: alternatif metin kalır
+                    if (i + 1 < length && content.charAt(i + 1) == '[') {
+                        i++;
+                        continue;
+                    }
+                }
+                case ']' -> {
+                    // Bağlantı: metin kalır, adres atılır
+                    int close = i + 1 < length && content.charAt(i + 1) == '(' ? linkEnd(content, i + 2) : -1;
+                    i = close >= 0 ? close + 1 : i + 1;
+                    continue;
+                }
+                case '_' -> {
+                    // Kelime içindeki alt çizgi (snake_case) kalır, vurgu işareti atılır
+                    boolean inWord = out.length() > 0 && !pendingSpace
+                            && Character.isLetterOrDigit(out.charAt(out.length() - 1))
+                            && i + 1 < length && Character.isLetterOrDigit(content.charAt(i + 1));
+                    if (!inWord) {
+                        i++;
+                        continue;
+                    }
+                }
+                case '<' -> {
+                    int close = tagEnd(content, i);
+                    if (close >= 0) {
+                        pendingSpace = out.length() > 0;
+                        i = close + 1;
+                        continue;
+                    }
+                }
+                default -> {
+                }
+            }
+
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+            if (out.isEmpty() || out.charAt(out.length() - 1) == ' ') {
+                words++;
+            }
+            out.append(c);
+            i++;
+        }
+        return words;
+    }
+
+    /**
+     * Satır başındaki blok işaretlerini atla (girinti, başlık, alıntı, liste, kod bloğu çitleri, yatay çizgi)
+     */
+    private static int skipLineMarkers(String content, int start) {
+        int length = content.length();
+        int i = skipSpaces(content, start);
+
+        if (content.startsWith("```", i) || content.startsWith("~~~", i) || isHorizontalRule(content, i)) {
+            while (i < length && content.charAt(i) != '\n' && content.charAt(i) != '\r') {
+                i++;
+            }
+            return i;
+        }
+
+        while (i < length && content.charAt(i) == '#') {
+            i++;
+        }
+        while (i < length && content.charAt(i) == '>') {
+            i = skipSpaces(content, i + 1);
+        }
+
+        if (i + 1 < length && (content.charAt(i) == '-' || content.charAt(i) == '+' || content.charAt(i) == '*')
+                && content.charAt(i + 1) == ' ') {
+            return i + 1;
+        }
+        int digits = i;
+        while (digits < length && Character.isDigit(content.charAt(digits))) {
+            digits++;
+        }
+        if (digits > i && digits + 1 < length
+                && (content.charAt(digits) == '.' || content.charAt(digits) == ')')
+                && content.charAt(digits + 1) == ' ') {
+            return digits + 1;
+        }
+        return i;
+    }
+
+    private static int skipSpaces(String content, int i) {
+        while (i < content.length() && (content.charAt(i) == ' ' || content.charAt(i) == '\t')) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Satır yalnızca en az üç '-', '*' veya '_' (ve boşluk) içeriyorsa yatay çizgidir
+     */
+    private static boolean isHorizontalRule(String content, int i) {
+        int marks = 0;
+        for (; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (c == '\n' || c == '\r') break;
+            if (c == '-' || c == '*' || c == '_') {
+                marks++;
+            } else if (c != ' ' && c != '\t') {
+                return false;
+            }
+        }
+        return marks >= 3;
+    }
+
+    /**
+     * Bağlantı adresinin kapanış parantezi (aynı satırda yoksa -1)
+     */
+    private static int linkEnd(String content, int start) {
+        for (int i = start; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (c == ')') return i;
+            if (c == '\n' || c == '\r') return -1;
+        }
+        return -1;
+    }
+
+    /**
+     * '<' bir HTML etiketi başlatıyorsa kapanış '>' konumu, değilse -1
+     */
+    private static int tagEnd(String content, int start) {
+        if (start + 1 >= content.length()) return -1;
+        char next = content.charAt(start + 1);
+        if (!Character.isLetter(next) && next != '/' && next != '!') return -1;
+        int limit = Math.min(content.length(), start + MAX_TAG_LENGTH);
+        for (int i = start + 1; i < limit; i++) {
+            char c = content.charAt(i);
+            if (c == '>') return i;
+            if (c == '<' || c == '\n') return -1;
+        }
+        return -1;
+    }
+}
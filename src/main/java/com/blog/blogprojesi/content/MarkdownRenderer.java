@@ -0,0 +1,128 @@
+package com.blog.blogprojesi.content;
+
+import org.commonmark.Extension;
+import org.commonmark.ext.autolink.AutolinkExtension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.node.FencedCodeBlock;
+import org.commonmark.node.IndentedCodeBlock;
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.NodeRenderer;
+import org.commonmark.renderer.html.HtmlNodeRendererContext;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.renderer.html.HtmlWriter;
+import org.owasp.html.HtmlPolicyBuilder;
+import org.owasp.html.PolicyFactory;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Markdown → güvenli HTML dönüştürücü
+ * İçerik CommonMark (GFM tablo, üstü çizili ve otomatik bağlantı eklentileriyle) ile HTML'e çevrilir;
+ * ham HTML kaçışlanır, kod blokları {@link CodeHighlighter} ile sunucuda renklendirilir ve çıktı
+ * izin listesi tabanlı bir politikadan geçirilerek temizlenir. Tarayıcıdaki marked ayarlarıyla
+ * (breaks: true) uyum için tek satır sonları da {@code <br />} olarak yazılır.
+ */
+public final class MarkdownRenderer {
+
+    private static final List<Extension> EXTENSIONS = List.of(
+            TablesExtension.create(),
+            StrikethroughExtension.create(),
+            AutolinkExtension.create()
+    );
+
+    private static final Parser PARSER = Parser.builder()
+            .extensions(EXTENSIONS)
+            .build();
+
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder()
+            .extensions(EXTENSIONS)
+            .escapeHtml(true)
+            .softbreak("<br />\n")
+            .nodeRendererFactory(CodeBlockRenderer::new)
+            .build();
+
+    // Dil adı yalnızca sınıf adına güvenle yazılabilecek karakterlerden oluşabilir
+    private static final Pattern LANGUAGE = Pattern.compile("[a-z0-9+#-]{1,30}");
+
+    private static final PolicyFactory POLICY = new HtmlPolicyBuilder()
+            .allowElements("p", "br", "hr", "h1", "h2", "h3", "h4", "h5", "h6", "blockquote",
+                    "ul", "ol", "li", "strong", "em", "del", "code", "pre", "span", "a", "img",
+                    "table", "thead", "tbody", "tr", "th", "td")
+            .allowAttributes("href", "title").onElements("a")
+            .allowAttributes("src", "alt", "title").onElements("img")
+            .allowAttributes("start").matching(Pattern.compile("[0-9]{1,9}")).onElements("ol")
+            .allowAttributes("align").matching(true, "left", "center", "right").onElements("th", "td")
+            .allowAttributes("class").matching(Pattern.compile("language-[a-z0-9+#-]+|token [a-z-]+"))
+            .onElements("pre", "code", "span")
+            .allowStandardUrlProtocols()
+            .requireRelNofollowOnLinks()
+            .toFactory();
+
+    private MarkdownRenderer() {
+    }
+
+    /**
+     * Markdown içeriği temizlenmiş HTML'e çevir
+     */
+    public static String render(String markdown) {
+        if (markdown == null || markdown.isBlank()) {
+            return "";
+        }
+        Node document = PARSER.parse(markdown);
+        return POLICY.sanitize(RENDERER.render(document));
+    }
+
+    /**
+     * Kod bloklarını Prism temasıyla uyumlu, sunucuda renklendirilmiş HTML olarak yazar
+     */
+    private static final class CodeBlockRenderer implements NodeRenderer {
+
+        private final HtmlWriter html;
+
+        private CodeBlockRenderer(HtmlNodeRendererContext context) {
+            this.html = context.getWriter();
+        }
+
+        @Override
+        public Set<Class<? extends Node>> getNodeTypes() {
+            return Set.of(FencedCodeBlock.class, IndentedCodeBlock.class);
+        }
+
+        @Override
+        public void render(Node node) {
+            String code;
+            String language = null;
+            if (node instanceof FencedCodeBlock fenced) {
+                code = fenced.getLiteral();
+                language = language(fenced.getInfo());
+            } else {
+                code = ((IndentedCodeBlock) node).getLiteral();
+            }
+
+            Map<String, String> attributes = language != null
+                    ? Map.of("class", "language-" + language)
+                    : Map.of();
+            html.line();
+            html.tag("pre", attributes);
+            html.tag("code", attributes);
+            html.raw(CodeHighlighter.highlight(code, language));
+            html.tag("/code");
+            html.tag("/pre");
+            html.line();
+        }
+
+        private static String language(String info) {
+            if (info == null || info.isBlank()) {
+                return null;
+            }
+            String first = info.trim().split("\\s+", 2)[0].toLowerCase(Locale.ROOT);
+            return LANGUAGE.matcher(first).matches() ? first : null;
+        }
+    }
+}
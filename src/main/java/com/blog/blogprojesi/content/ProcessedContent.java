@@ -0,0 +1,18 @@
+package com.blog.blogprojesi.content;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Post içeriğinden yazma anında türetilen bilgiler
+ * Post kaydına kolon olarak yazılır; sayfa oluşturulurken içerik yeniden işlenmez
+ */
+@Getter
+@AllArgsConstructor
+public class ProcessedContent {
+
+    private final int wordCount;
+    private final int readingTime;
+    private final String excerpt;
+    private final String searchText;
+}
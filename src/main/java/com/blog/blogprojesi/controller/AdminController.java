@@ -1,5 +1,7 @@
 package com.blog.blogprojesi.controller;
 
+import com.blog.blogprojesi.dto.PostCard;
+import com.blog.blogprojesi.dto.SessionUser;
 import com.blog.blogprojesi.entity.*;
 import com.blog.blogprojesi.entity.AdminLog.AdminActionType;
 import com.blog.blogprojesi.service.*;
@@ -34,25 +36,34 @@ public class AdminController {
     private final LoginAttemptService loginAttemptService;
     private final UserService userService;
     private final PostService postService;
+    private final CacheStatisticsService cacheStatisticsService;
+    private final JobRunner jobRunner;
 
     // ==================== HELPER METHODS ====================
 
     /**
-     * Giriş yapmış admin kullanıcısını getir
+     * Giriş yapmış admin kullanıcısını getir (oturumdaki özet, sorgu atılmaz)
      */
-    private User getCurrentAdmin() {
+    private SessionUser getCurrentAdmin() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth != null && auth.isAuthenticated() && !"anonymousUser".equals(auth.getPrincipal())) {
-            return userService.findByUsername(auth.getName()).orElse(null);
+        if (auth != null && auth.isAuthenticated() && auth.getPrincipal() instanceof SessionUser sessionUser) {
+            return sessionUser;
         }
         return null;
     }
 
+    /**
+     * Servislere ve loglara verilecek admin referansı (sorgu atılmaz)
+     */
+    private User getCurrentAdminReference() {
+        return userService.getReference(getCurrentAdmin().getId());
+    }
+
     /**
      * Model'e ortak admin verilerini ekle
      */
     private void addCommonAttributes(Model model) {
-        User currentAdmin = getCurrentAdmin();
+        SessionUser currentAdmin = getCurrentAdmin();
         model.addAttribute("currentAdmin", currentAdmin);
         model.addAttribute("siteName", systemSettingsService.getSiteName());
         model.addAttribute("isMaintenanceMode", systemSettingsService.isMaintenanceMode());
@@ -79,9 +90,10 @@ public class AdminController {
                                   @RequestParam(required = false) String error,
                                   @RequestParam(required = false) String logout,
                                   @RequestParam(required = false) String blocked,
+                                  @RequestParam(required = false) String busy,
                                   HttpServletRequest request) {
-        User currentUser = getCurrentAdmin();
-        if (currentUser != null && currentUser.getRole() == Role.ADMIN) {
+        SessionUser currentUser = getCurrentAdmin();
+        if (currentUser != null && currentUser.isAdmin()) {
             return "redirect:/admin/dashboard";
         }
 
@@ -94,6 +106,9 @@ public class AdminController {
         if (blocked != null) {
             model.addAttribute("error", "Çok fazla başarısız giriş denemesi. Lütfen daha sonra tekrar deneyiniz.");
         }
+        if (busy != null) {
+            model.addAttribute("error", "Sunucu şu anda yoğun. Lütfen birkaç saniye sonra tekrar deneyiniz.");
+        }
 
         model.addAttribute("siteName", systemSettingsService.getSiteName());
         return "admin/login";
@@ -189,7 +204,7 @@ public class AdminController {
                              HttpServletRequest request,
                              RedirectAttributes redirectAttributes) {
         try {
-            User admin = getCurrentAdmin();
+            User admin = getCurrentAdminReference();
             String ip = getClientIp(request);
             Role userRole = Role.valueOf(role);
 
@@ -232,7 +247,7 @@ public class AdminController {
                              HttpServletRequest request,
                              RedirectAttributes redirectAttributes) {
         try {
-            User admin = getCurrentAdmin();
+            User admin = getCurrentAdminReference();
             String ip = getClientIp(request);
 
             adminService.updateUser(id, email, firstName, lastName, bio, admin, ip);
@@ -252,7 +267,7 @@ public class AdminController {
                                     HttpServletRequest request,
                                     RedirectAttributes redirectAttributes) {
         try {
-            User admin = getCurrentAdmin();
+            User admin = getCurrentAdminReference();
             String ip = getClientIp(request);
 
             User user = adminService.toggleUserEnabled(id, admin, ip);
@@ -273,7 +288,7 @@ public class AdminController {
                                  HttpServletRequest request,
                                  RedirectAttributes redirectAttributes) {
         try {
-            User admin = getCurrentAdmin();
+            User admin = getCurrentAdminReference();
             String ip = getClientIp(request);
 
             Role newRole = Role.valueOf(role);
@@ -294,7 +309,7 @@ public class AdminController {
                                     HttpServletRequest request,
                                     RedirectAttributes redirectAttributes) {
         try {
-            User admin = getCurrentAdmin();
+            User admin = getCurrentAdminReference();
             String ip = getClientIp(request);
 
             adminService.resetUserPassword(id, newPassword, admin, ip);
@@ -313,7 +328,7 @@ public class AdminController {
                              HttpServletRequest request,
                              RedirectAttributes redirectAttributes) {
         try {
-            User admin = getCurrentAdmin();
+            User admin = getCurrentAdminReference();
             String ip = getClientIp(request);
 
             adminService.deleteUser(id, admin, ip);
@@ -336,7 +351,7 @@ public class AdminController {
                            @RequestParam(defaultValue = "20") int size) {
         addCommonAttributes(model);
 
-        Page<Post> postsPage = adminService.getAllPosts(page, size);
+        Page<PostCard> postsPage = adminService.getAllPosts(page, size);
         model.addAttribute("posts", postsPage.getContent());
         model.addAttribute("currentPage", page);
         model.addAttribute("totalPages", postsPage.getTotalPages());
@@ -372,7 +387,7 @@ public class AdminController {
                                       HttpServletRequest request,
                                       RedirectAttributes redirectAttributes) {
         try {
-            User admin = getCurrentAdmin();
+            User admin = getCurrentAdminReference();
             String ip = getClientIp(request);
 
             Post post = adminService.togglePostPublished(id, admin, ip);
@@ -392,7 +407,7 @@ public class AdminController {
                                      HttpServletRequest request,
                                      RedirectAttributes redirectAttributes) {
         try {
-            User admin = getCurrentAdmin();
+            User admin = getCurrentAdminReference();
             String ip = getClientIp(request);
 
             Post post = adminService.togglePostFeatured(id, admin, ip);
@@ -412,7 +427,7 @@ public class AdminController {
                              HttpServletRequest request,
                              RedirectAttributes redirectAttributes) {
         try {
-            User admin = getCurrentAdmin();
+            User admin = getCurrentAdminReference();
             String ip = getClientIp(request);
 
             adminService.deletePost(id, admin, ip);
@@ -447,7 +462,7 @@ public class AdminController {
                                 HttpServletRequest request,
                                 RedirectAttributes redirectAttributes) {
         try {
-            User admin = getCurrentAdmin();
+            User admin = getCurrentAdminReference();
             String ip = getClientIp(request);
 
             adminService.deleteComment(id, admin, ip);
@@ -470,6 +485,8 @@ public class AdminController {
         Map<String, Object> stats = adminService.getDashboardStats();
         model.addAttribute("stats", stats);
         model.addAttribute("registrationChartData", adminService.getRegistrationChartData());
+        model.addAttribute("cacheStats", cacheStatisticsService.getRegionStats());
+        model.addAttribute("entityCacheHitRatio", cacheStatisticsService.getEntityHitRatio());
 
         model.addAttribute("activePage", "reports");
         return "admin/reports";
@@ -506,8 +523,8 @@ public class AdminController {
                                HttpServletRequest request,
                                RedirectAttributes redirectAttributes) {
         try {
-            User admin = getCurrentAdmin();
-            String username = admin.getUsername();
+            User admin = getCurrentAdminReference();
+            String username = getCurrentAdmin().getUsername();
             String ip = getClientIp(request);
 
             // Ayarları güncelle
@@ -562,4 +579,18 @@ public class AdminController {
         model.addAttribute("activePage", "logs");
         return "admin/logs";
     }
+
+    // ==================== JOBS ====================
+
+    @GetMapping("/jobs")
+    public String jobs(Model model) {
+        addCommonAttributes(model);
+
+        model.addAttribute("jobSummaries", jobRunner.getJobSummaries());
+        model.addAttribute("recentRuns", jobRunner.getRecentRuns());
+        model.addAttribute("nodeId", jobRunner.getNodeId());
+
+        model.addAttribute("activePage", "jobs");
+        return "admin/jobs";
+    }
 }
@@ -1,22 +1,36 @@
 package com.blog.blogprojesi.controller;
 
+import com.blog.blogprojesi.dto.FeedPage;
+import com.blog.blogprojesi.dto.FeedSort;
+import com.blog.blogprojesi.dto.PostCard;
+import com.blog.blogprojesi.dto.PostDetailView;
+import com.blog.blogprojesi.dto.PostVersion;
+import com.blog.blogprojesi.dto.SessionUser;
+import com.blog.blogprojesi.dto.TopicsSnapshot;
 import com.blog.blogprojesi.entity.*;
 import com.blog.blogprojesi.service.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.servlet.support.RequestContextUtils;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Ana Web Controller
@@ -32,26 +46,44 @@ public class WebController {
     private final CommentService commentService;
     private final RatingService ratingService;
     private final BookmarkService bookmarkService;
+    private final ViewCountService viewCountService;
+    private final TopicsService topicsService;
+    private final PostDetailService postDetailService;
     private final PasswordEncoder passwordEncoder;
 
     // ==================== HELPER METHODS ====================
 
     /**
-     * Giriş yapmış kullanıcıyı getir
+     * Giriş yapmış kullanıcıyı getir (oturumdaki özet, sorgu atılmaz)
      */
-    private User getCurrentUser() {
+    private SessionUser getCurrentUser() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth != null && auth.isAuthenticated() && !"anonymousUser".equals(auth.getPrincipal())) {
-            return userService.findByUsername(auth.getName()).orElse(null);
+        if (auth != null && auth.isAuthenticated() && auth.getPrincipal() instanceof SessionUser sessionUser) {
+            return sessionUser;
         }
         return null;
     }
 
+    /**
+     * Servislere verilecek kullanıcı referansı (sorgu atılmaz)
+     */
+    private User userReference(SessionUser sessionUser) {
+        return userService.getReference(sessionUser.getId());
+    }
+
+    /**
+     * Tüm alanları gereken işlemler için kullanıcıyı veritabanından yükle
+     */
+    private User loadUser(SessionUser sessionUser) {
+        return userService.findById(sessionUser.getId())
+                .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
+    }
+
     /**
      * Model'e ortak verileri ekle
      */
     private void addCommonAttributes(Model model) {
-        User currentUser = getCurrentUser();
+        SessionUser currentUser = getCurrentUser();
         model.addAttribute("currentUser", currentUser);
         model.addAttribute("isAuthenticated", currentUser != null);
         if (currentUser != null) {
@@ -59,6 +91,37 @@ public class WebController {
         }
     }
 
+    /**
+     * Giriş yapmış kullanıcı için postların yer imi durumlarını model'e ekle (tek seferde)
+     */
+    private void addBookmarkStates(Model model, List<PostCard> posts) {
+        SessionUser currentUser = getCurrentUser();
+        Set<Long> bookmarkedPostIds = currentUser != null
+                ? bookmarkService.findBookmarkedPostIds(userReference(currentUser), posts.stream().map(PostCard::getId).toList())
+                : Set.of();
+        model.addAttribute("bookmarkedPostIds", bookmarkedPostIds);
+    }
+
+    /**
+     * Post sayfası istemcideki kopyaya göre değişmediyse 304 yanıtını hazırla
+     * ETag / Last-Modified, şablon ve detay sorguları çalışmadan önce tek bir sürüm sorgusuyla
+     * kontrol edilir; post yoksa veya yönlendirmeden gelen bir mesaj gösterilecekse normal akış devam eder
+     */
+    private boolean isPostNotModified(Long postId, String variant,
+                                      HttpServletRequest request, HttpServletResponse response) {
+        if (RequestContextUtils.getInputFlashMap(request) != null) {
+            return false;
+        }
+        Optional<PostVersion> version = postDetailService.findVersion(postId);
+        if (version.isEmpty()) {
+            return false;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.COOKIE);
+        return new ServletWebRequest(request, response).checkNotModified(
+                version.get().etag(getCurrentUser(), variant), version.get().getLastModified());
+    }
+
     // ==================== PUBLIC PAGES ====================
 
     /**
@@ -66,7 +129,7 @@ public class WebController {
      */
     @GetMapping("/")
     public String index() {
-        User currentUser = getCurrentUser();
+        SessionUser currentUser = getCurrentUser();
         if (currentUser != null) {
             return "redirect:/home";
         }
@@ -83,88 +146,65 @@ public class WebController {
                        @RequestParam(required = false) String sort) {
         addCommonAttributes(model);
 
-        List<Post> posts;
-        if (search != null && !search.isEmpty()) {
-            posts = postService.searchPosts(search);
-            model.addAttribute("searchQuery", search);
-        } else if (category != null && !category.isEmpty()) {
-            posts = postService.findPostsByCategory(category);
-            model.addAttribute("selectedCategory", category);
-        } else {
-            posts = postService.findAllPublishedPosts();
+        String searchFilter = (search != null && !search.isEmpty()) ? search : null;
+        String categoryFilter = (searchFilter == null && category != null && !category.isEmpty()) ? category : null;
+        if (searchFilter != null) {
+            model.addAttribute("searchQuery", searchFilter);
+        } else if (categoryFilter != null) {
+            model.addAttribute("selectedCategory", categoryFilter);
         }
 
-        // Sıralama uygula
-        if (sort != null && !sort.isEmpty()) {
-            switch (sort) {
-                case "popular":
-                    posts.sort((p1, p2) -> Long.compare(
-                        p2.getViewCount() != null ? p2.getViewCount() : 0L,
-                        p1.getViewCount() != null ? p1.getViewCount() : 0L
-                    ));
-                    break;
-                case "top-rated":
-                    posts.sort((p1, p2) -> {
-                        double avg1 = p1.getAverageRating();
-                        double avg2 = p2.getAverageRating();
-                        return Double.compare(avg2, avg1);
-                    });
-                    break;
-                default: // latest
-                    posts.sort((p1, p2) -> p2.getCreatedAt().compareTo(p1.getCreatedAt()));
-                    break;
-            }
-        }
+        // Her sıralama kendi keyset sorgusuyla veritabanında yapılır, yalnızca ilk sayfa okunur
+        FeedSort feedSort = FeedSort.fromParameter(sort, searchFilter != null ? FeedSort.RELEVANCE : FeedSort.LATEST);
+        FeedPage<PostCard> feed = postService.findPublishedFeed(categoryFilter, searchFilter, feedSort, null);
+        List<PostCard> posts = feed.getItems();
 
-        // Post'lar için ek bilgiler
-        User currentUser = getCurrentUser();
-        if (currentUser != null) {
-            for (Post post : posts) {
-                // Bookmark durumunu kontrol et
-                boolean isBookmarked = bookmarkService.isBookmarked(currentUser, post.getId());
-                model.addAttribute("bookmark_" + post.getId(), isBookmarked);
-            }
-        }
+        addBookmarkStates(model, posts);
 
         model.addAttribute("posts", posts);
-        model.addAttribute("featuredPosts", postService.findFeaturedPosts());
+        model.addAttribute("nextCursor", feed.getNextCursor());
         model.addAttribute("categories", postService.findAllCategories());
         model.addAttribute("categoryCount", postService.getCategoryPostCounts());
 
         return "home";
     }
 
+    /**
+     * Ana sayfa akışının sonraki sayfası (sonsuz kaydırma için HTML fragment)
+     */
+    @GetMapping("/home/feed")
+    public String homeFeed(Model model,
+                           @RequestParam(required = false) String cursor,
+                           @RequestParam(required = false) String category,
+                           @RequestParam(required = false) String search,
+                           @RequestParam(required = false) String sort) {
+        String searchFilter = (search != null && !search.isEmpty()) ? search : null;
+        String categoryFilter = (searchFilter == null && category != null && !category.isEmpty()) ? category : null;
+
+        FeedSort feedSort = FeedSort.fromParameter(sort, searchFilter != null ? FeedSort.RELEVANCE : FeedSort.LATEST);
+        FeedPage<PostCard> feed = postService.findPublishedFeed(categoryFilter, searchFilter, feedSort, cursor);
+        addBookmarkStates(model, feed.getItems());
+
+        model.addAttribute("posts", feed.getItems());
+        model.addAttribute("nextCursor", feed.getNextCursor());
+
+        return "home :: feedItems";
+    }
+
     /**
      * Konular sayfası
      */
     @GetMapping("/topics")
     public String topics(Model model) {
         addCommonAttributes(model);
-        
-        List<String> categories = postService.findAllCategories();
-        Map<String, Long> categoryCount = postService.getCategoryPostCounts();
-        
-        // Eğer kategoriler boşsa varsayılan kategorileri ekle
-        if (categories == null || categories.isEmpty()) {
-            categories = java.util.Arrays.asList("Teknoloji", "Yazılım", "Web", "Mobil", "Yapay Zeka", "Tasarım", "Kişisel", "Genel");
-        }
-        
-        // Her kategori için son yazıları getir
-        Map<String, List<Post>> categoryRecentPosts = new java.util.HashMap<>();
-        for (String category : categories) {
-            List<Post> recentPosts = postService.findRecentPostsByCategory(category, 2);
-            categoryRecentPosts.put(category, recentPosts);
-            // categoryCount'a eklenmemişse 0 olarak ekle
-            if (!categoryCount.containsKey(category)) {
-                categoryCount.put(category, 0L);
-            }
-        }
-        
-        model.addAttribute("categories", categories);
-        model.addAttribute("categoryCount", categoryCount);
-        model.addAttribute("categoryRecentPosts", categoryRecentPosts);
-        model.addAttribute("recentPosts", postService.findRecentPosts());
-        model.addAttribute("totalTopics", categories.size());
+
+        // Kategoriler, sayılar ve kategori başına son yazılar anlık görüntüden gelir
+        TopicsSnapshot topics = topicsService.getSnapshot();
+
+        model.addAttribute("categories", topics.getCategories());
+        model.addAttribute("categoryCount", topics.getCategoryCount());
+        model.addAttribute("categoryRecentPosts", topics.getCategoryRecentPosts());
+        model.addAttribute("totalTopics", topics.getCategories().size());
         model.addAttribute("totalPosts", postService.getTotalPostCount());
         model.addAttribute("totalAuthors", postService.getTotalAuthorCount());
         
@@ -345,53 +385,72 @@ public class WebController {
      * Yazı detay sayfası
      */
     @GetMapping("/post/{id}")
-    public String postDetail(@PathVariable Long id, Model model) {
+    public String postDetail(@PathVariable Long id, Model model,
+                             HttpServletRequest request, HttpServletResponse response) {
+        // Anonim ziyaretçilerin doğrulayıcıları AnonymousPageCacheFilter tarafından yönetilir
+        SessionUser currentUser = getCurrentUser();
+        if (currentUser != null && isPostNotModified(id, null, request, response)) {
+            viewCountService.recordView(id, viewCountService.visitorKey(request));
+            return null;
+        }
+
         addCommonAttributes(model);
 
-        Optional<Post> postOpt = postService.findByIdWithDetails(id);
-        if (postOpt.isEmpty()) {
+        // Post, yazar, puan özetleri ve ilk yorum sayfası iki sorguda; kullanıcı durumu tek ek sorguda
+        Optional<PostDetailView> viewOpt = postDetailService.load(id, currentUser != null ? userReference(currentUser) : null);
+        if (viewOpt.isEmpty()) {
             return "redirect:/home";
         }
 
-        Post post = postOpt.get();
-        
-        // Görüntüleme sayısını artır
-        postService.incrementViewCount(id);
-
-        // Yorumları getir
-        List<Comment> comments = commentService.findCommentsByPostId(id);
-
-        // Puanlama bilgileri
-        double averageRating = ratingService.getAverageRating(id);
-        long ratingCount = ratingService.getRatingCount(id);
-        Map<Integer, Long> ratingDistribution = ratingService.getRatingDistribution(id);
+        PostDetailView view = viewOpt.get();
+        Post post = view.getPost();
 
-        // Kullanıcı bilgileri
-        User currentUser = getCurrentUser();
-        Integer userRating = null;
-        boolean isBookmarked = false;
-
-        if (currentUser != null) {
-            Optional<Rating> userRatingOpt = ratingService.getUserRatingForPost(currentUser, id);
-            if (userRatingOpt.isPresent()) {
-                userRating = userRatingOpt.get().getScore();
-            }
-            isBookmarked = bookmarkService.isBookmarked(currentUser, id);
-        }
+        // Görüntüleme sayısını artır (bellekte toplanır, periyodik olarak yazılır)
+        viewCountService.recordView(id, viewCountService.visitorKey(request));
 
         model.addAttribute("post", post);
-        model.addAttribute("comments", comments);
-        model.addAttribute("averageRating", averageRating);
-        model.addAttribute("ratingCount", ratingCount);
-        model.addAttribute("ratingDistribution", ratingDistribution);
-        model.addAttribute("userRating", userRating);
-        model.addAttribute("isBookmarked", isBookmarked);
+        model.addAttribute("contentHtml", view.getContentHtml());
+        model.addAttribute("comments", view.getComments());
+        model.addAttribute("commentCount", view.getCommentCount());
+        model.addAttribute("nextCommentPage", view.isHasMoreComments() ? 1 : null);
+        model.addAttribute("averageRating", view.getAverageRating());
+        model.addAttribute("ratingCount", view.getRatingCount());
+        model.addAttribute("ratingDistribution", view.getRatingDistribution());
+        model.addAttribute("userRating", view.getUserRating());
+        model.addAttribute("isBookmarked", view.isBookmarked());
         model.addAttribute("isOwner", currentUser != null && 
                           post.getAuthor().getId().equals(currentUser.getId()));
 
         return "post";
     }
 
+    /**
+     * Post yorumlarının sonraki sayfası (daha fazla yorum yüklemek için HTML fragment)
+     */
+    @GetMapping("/post/{id}/comments")
+    public String postComments(@PathVariable Long id,
+                               @RequestParam(defaultValue = "0") int page,
+                               Model model,
+                               HttpServletRequest request, HttpServletResponse response) {
+        if (isPostNotModified(id, "c" + page, request, response)) {
+            return null;
+        }
+
+        Optional<Post> postOpt = postService.findByIdWithAuthor(id);
+        if (postOpt.isEmpty()) {
+            return "redirect:/home";
+        }
+
+        Slice<Comment> comments = postDetailService.findCommentPage(id, page);
+
+        model.addAttribute("currentUser", getCurrentUser());
+        model.addAttribute("post", postOpt.get());
+        model.addAttribute("comments", comments.getContent());
+        model.addAttribute("nextCommentPage", comments.hasNext() ? page + 1 : null);
+
+        return "post :: commentItems";
+    }
+
     /**
      * Yazı yazma sayfası
      */
@@ -416,7 +475,7 @@ public class WebController {
                             @RequestParam(required = false, defaultValue = "false") boolean featured,
                             RedirectAttributes redirectAttributes) {
         try {
-            User currentUser = getCurrentUser();
+            SessionUser currentUser = getCurrentUser();
             if (currentUser == null) {
                 return "redirect:/login";
             }
@@ -441,7 +500,7 @@ public class WebController {
                 return "redirect:/write";
             }
 
-            Post post = postService.createPost(currentUser, title, content, url, type, 
+            Post post = postService.createPost(userReference(currentUser), title, content, url, type, 
                                                category, commentsEnabled, featured, imageUrl);
             
             redirectAttributes.addFlashAttribute("message", "Yazınız başarıyla yayınlandı!");
@@ -464,14 +523,14 @@ public class WebController {
                            @RequestParam(required = false) String category,
                            RedirectAttributes redirectAttributes) {
         try {
-            User currentUser = getCurrentUser();
+            SessionUser currentUser = getCurrentUser();
             if (currentUser == null) {
                 return "redirect:/login";
             }
 
             PostType type = PostType.valueOf(postType.toUpperCase());
             
-            Post draft = postService.saveDraft(title, content, category, url, imageUrl, type, currentUser);
+            Post draft = postService.saveDraft(title, content, category, url, imageUrl, type, userReference(currentUser));
             
             redirectAttributes.addFlashAttribute("message", "Taslak başarıyla kaydedildi!");
             return "redirect:/drafts";
@@ -488,7 +547,7 @@ public class WebController {
     public String editPost(@PathVariable Long id, Model model) {
         addCommonAttributes(model);
 
-        User currentUser = getCurrentUser();
+        SessionUser currentUser = getCurrentUser();
         if (currentUser == null) {
             return "redirect:/login";
         }
@@ -526,7 +585,7 @@ public class WebController {
                             @RequestParam(required = false, defaultValue = "false") boolean featured,
                             RedirectAttributes redirectAttributes) {
         try {
-            User currentUser = getCurrentUser();
+            SessionUser currentUser = getCurrentUser();
             if (currentUser == null) {
                 return "redirect:/login";
             }
@@ -551,7 +610,7 @@ public class WebController {
     @PostMapping("/post/{id}/delete")
     public String deletePost(@PathVariable Long id, RedirectAttributes redirectAttributes) {
         try {
-            User currentUser = getCurrentUser();
+            SessionUser currentUser = getCurrentUser();
             if (currentUser == null) {
                 return "redirect:/login";
             }
@@ -576,7 +635,7 @@ public class WebController {
     @PostMapping("/post/{id}/toggle-publish")
     public String togglePublishStatus(@PathVariable Long id, RedirectAttributes redirectAttributes) {
         try {
-            User currentUser = getCurrentUser();
+            SessionUser currentUser = getCurrentUser();
             if (currentUser == null) {
                 return "redirect:/login";
             }
@@ -612,17 +671,17 @@ public class WebController {
                             @RequestParam String content) {
         Map<String, Object> response = new HashMap<>();
         try {
-            User currentUser = getCurrentUser();
+            SessionUser currentUser = getCurrentUser();
             if (currentUser == null) {
                 response.put("success", false);
                 response.put("message", "Yorum yapmak için giriş yapmalısınız.");
                 return response;
             }
 
-            Comment comment = commentService.addComment(currentUser, postId, content);
+            Comment comment = commentService.addComment(userReference(currentUser), postId, content);
             response.put("success", true);
             response.put("message", "Yorumunuz eklendi.");
-            response.put("comment", comment);
+            response.put("commentId", comment.getId());
         } catch (Exception e) {
             response.put("success", false);
             response.put("message", e.getMessage());
@@ -638,12 +697,12 @@ public class WebController {
                                @RequestParam Long postId,
                                RedirectAttributes redirectAttributes) {
         try {
-            User currentUser = getCurrentUser();
+            SessionUser currentUser = getCurrentUser();
             if (currentUser == null) {
                 return "redirect:/login";
             }
 
-            commentService.deleteComment(commentId, currentUser);
+            commentService.deleteComment(commentId, userReference(currentUser));
             redirectAttributes.addFlashAttribute("message", "Yorum silindi.");
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
@@ -662,14 +721,14 @@ public class WebController {
                           @RequestParam int score) {
         Map<String, Object> response = new HashMap<>();
         try {
-            User currentUser = getCurrentUser();
+            SessionUser currentUser = getCurrentUser();
             if (currentUser == null) {
                 response.put("success", false);
                 response.put("message", "Puan vermek için giriş yapmalısınız.");
                 return response;
             }
 
-            ratingService.ratePost(currentUser, postId, score);
+            ratingService.ratePost(userReference(currentUser), postId, score);
             
             // Güncel ortalama ve sayıyı getir
             Post post = postService.findById(postId).orElseThrow(() -> 
@@ -693,13 +752,13 @@ public class WebController {
     @PostMapping("/post/{postId}/bookmark")
     public String toggleBookmark(@PathVariable Long postId, RedirectAttributes redirectAttributes) {
         try {
-            User currentUser = getCurrentUser();
+            SessionUser currentUser = getCurrentUser();
             if (currentUser == null) {
                 redirectAttributes.addFlashAttribute("error", "Yer imi eklemek için giriş yapmalısınız.");
                 return "redirect:/login";
             }
 
-            boolean added = bookmarkService.toggleBookmark(currentUser, postId);
+            boolean added = bookmarkService.toggleBookmark(userReference(currentUser), postId);
             if (added) {
                 redirectAttributes.addFlashAttribute("message", "Yer imlerine eklendi.");
             } else {
@@ -718,12 +777,12 @@ public class WebController {
     public String bookmarks(Model model) {
         addCommonAttributes(model);
 
-        User currentUser = getCurrentUser();
+        SessionUser currentUser = getCurrentUser();
         if (currentUser == null) {
             return "redirect:/login";
         }
 
-        List<Post> bookmarkedPosts = bookmarkService.getBookmarkedPosts(currentUser);
+        List<PostCard> bookmarkedPosts = bookmarkService.getBookmarkedPosts(userReference(currentUser));
         model.addAttribute("posts", bookmarkedPosts);
         model.addAttribute("pageTitle", "Yer İmlerim");
 
@@ -739,26 +798,26 @@ public class WebController {
     public String myPosts(Model model, @RequestParam(required = false) String category) {
         addCommonAttributes(model);
 
-        User currentUser = getCurrentUser();
+        SessionUser currentUser = getCurrentUser();
         if (currentUser == null) {
             return "redirect:/login";
         }
 
-        List<Post> allPosts = postService.findPostsByAuthor(currentUser);
-        List<Post> posts;
+        List<PostCard> allPosts = postService.findPostsByAuthor(userReference(currentUser));
+        List<PostCard> posts;
         
         // Kategori filtreleme
         if (category != null && !category.isEmpty()) {
             posts = allPosts.stream()
-                    .filter(p -> category.equals(p.getCategory()))
+                    .filter(p -> category.equals(p.getCategoryName()))
                     .toList();
             model.addAttribute("selectedCategory", category);
         } else {
             posts = allPosts;
         }
         
-        long draftCount = postService.countDraftsByAuthor(currentUser);
-        Map<String, Long> categoryCounts = postService.getCategoryPostCountsByAuthor(currentUser);
+        long draftCount = postService.countDraftsByAuthor(userReference(currentUser));
+        Map<String, Long> categoryCounts = postService.getCategoryPostCountsByAuthor(userReference(currentUser));
         
         model.addAttribute("posts", posts);
         model.addAttribute("draftCount", draftCount);
@@ -775,12 +834,12 @@ public class WebController {
     public String drafts(Model model) {
         addCommonAttributes(model);
 
-        User currentUser = getCurrentUser();
+        SessionUser currentUser = getCurrentUser();
         if (currentUser == null) {
             return "redirect:/login";
         }
 
-        List<Post> drafts = postService.findDraftsByAuthor(currentUser);
+        List<PostCard> drafts = postService.findDraftsByAuthor(userReference(currentUser));
         model.addAttribute("drafts", drafts);
         model.addAttribute("pageTitle", "Taslaklarım");
 
@@ -792,7 +851,7 @@ public class WebController {
      */
     @GetMapping("/profile")
     public String profile() {
-        User currentUser = getCurrentUser();
+        SessionUser currentUser = getCurrentUser();
         if (currentUser == null) {
             return "redirect:/login";
         }
@@ -812,10 +871,10 @@ public class WebController {
         }
 
         User profileUser = userOpt.get();
-        User currentUser = getCurrentUser();
+        SessionUser currentUser = getCurrentUser();
         
         // Kendi profiliyse tüm postları göster, başkasının profiliyse sadece yayınlanmışları
-        List<Post> userPosts;
+        List<PostCard> userPosts;
         if (currentUser != null && currentUser.getUsername().equals(username)) {
             userPosts = postService.findPostsByAuthor(profileUser);
             model.addAttribute("isOwnProfile", true);
@@ -837,12 +896,12 @@ public class WebController {
     public String settings(Model model) {
         addCommonAttributes(model);
 
-        User currentUser = getCurrentUser();
+        SessionUser currentUser = getCurrentUser();
         if (currentUser == null) {
             return "redirect:/login";
         }
 
-        model.addAttribute("user", currentUser);
+        model.addAttribute("user", loadUser(currentUser));
         return "settings";
     }
 
@@ -864,7 +923,7 @@ public class WebController {
                                @RequestParam(required = false) String bio,
                                RedirectAttributes redirectAttributes) {
         try {
-            User currentUser = getCurrentUser();
+            SessionUser currentUser = getCurrentUser();
             if (currentUser == null) {
                 return "redirect:/login";
             }
@@ -887,7 +946,7 @@ public class WebController {
                                 @RequestParam String confirmPassword,
                                 RedirectAttributes redirectAttributes) {
         try {
-            User currentUser = getCurrentUser();
+            SessionUser currentUser = getCurrentUser();
             if (currentUser == null) {
                 return "redirect:/login";
             }
@@ -917,7 +976,7 @@ public class WebController {
     @ResponseBody
     public Map<String, Object> uploadProfileImage(@RequestParam("file") MultipartFile file) {
         try {
-            User currentUser = getCurrentUser();
+            SessionUser currentUser = getCurrentUser();
             if (currentUser == null) {
                 return Map.of("success", false, "message", "Giriş yapmalısınız");
             }
@@ -940,12 +999,13 @@ public class WebController {
 
             // Gerçek uygulamada dosyayı bir sunucuya veya cloud storage'a yüklersiniz
             // Şimdilik sadece filename'i kaydedelim
+            User user = loadUser(currentUser);
             String imageUrl = "https://ui-avatars.com/api/?name=" + 
-                            currentUser.getFirstName() + "+" + currentUser.getLastName() + 
+                            user.getFirstName() + "+" + user.getLastName() + 
                             "&size=200&background=6366f1&color=fff&bold=true";
             
-            userService.updateUser(currentUser.getId(), currentUser.getEmail(), 
-                                 currentUser.getBio(), imageUrl);
+            userService.updateUser(user.getId(), user.getEmail(), 
+                                 user.getBio(), imageUrl);
 
             return Map.of("success", true, "imageUrl", imageUrl);
         } catch (Exception e) {
@@ -960,13 +1020,14 @@ public class WebController {
     @ResponseBody
     public Map<String, Object> removeProfileImage() {
         try {
-            User currentUser = getCurrentUser();
+            SessionUser currentUser = getCurrentUser();
             if (currentUser == null) {
                 return Map.of("success", false, "message", "Giriş yapmalısınız");
             }
 
-            userService.updateUser(currentUser.getId(), currentUser.getEmail(), 
-                                 currentUser.getBio(), null);
+            User user = loadUser(currentUser);
+            userService.updateUser(user.getId(), user.getEmail(), 
+                                 user.getBio(), null);
 
             return Map.of("success", true);
         } catch (Exception e) {
@@ -981,7 +1042,7 @@ public class WebController {
     @ResponseBody
     public Map<String, Object> updateProfileImageUrl(@RequestBody Map<String, String> request) {
         try {
-            User currentUser = getCurrentUser();
+            SessionUser currentUser = getCurrentUser();
             if (currentUser == null) {
                 return Map.of("success", false, "message", "Giriş yapmalısınız");
             }
@@ -991,8 +1052,9 @@ public class WebController {
                 return Map.of("success", false, "message", "Geçerli bir URL girin");
             }
 
-            userService.updateUser(currentUser.getId(), currentUser.getEmail(), 
-                                 currentUser.getBio(), imageUrl.trim());
+            User user = loadUser(currentUser);
+            userService.updateUser(user.getId(), user.getEmail(), 
+                                 user.getBio(), imageUrl.trim());
 
             return Map.of("success", true, "imageUrl", imageUrl);
         } catch (Exception e) {
@@ -1007,7 +1069,7 @@ public class WebController {
     @ResponseBody
     public Map<String, Object> updatePrivacySettings(@RequestBody Map<String, Object> settings) {
         try {
-            User currentUser = getCurrentUser();
+            SessionUser currentUser = getCurrentUser();
             if (currentUser == null) {
                 return Map.of("success", false, "message", "Giriş yapmalısınız");
             }
@@ -1034,7 +1096,7 @@ public class WebController {
     @ResponseBody
     public Map<String, Object> updateNotificationSettings(@RequestBody Map<String, Object> settings) {
         try {
-            User currentUser = getCurrentUser();
+            SessionUser currentUser = getCurrentUser();
             if (currentUser == null) {
                 return Map.of("success", false, "message", "Giriş yapmalısınız");
             }
@@ -1062,7 +1124,7 @@ public class WebController {
     @ResponseBody
     public Map<String, Object> deleteAccount(@RequestBody Map<String, String> request) {
         try {
-            User currentUser = getCurrentUser();
+            SessionUser currentUser = getCurrentUser();
             if (currentUser == null) {
                 return Map.of("success", false, "message", "Giriş yapmalısınız");
             }
@@ -1070,7 +1132,7 @@ public class WebController {
             String password = request.get("password");
             
             // Şifre kontrolü
-            if (!passwordEncoder.matches(password, currentUser.getPassword())) {
+            if (!passwordEncoder.matches(password, loadUser(currentUser).getPassword())) {
                 return Map.of("success", false, "message", "Şifre yanlış");
             }
 
@@ -1115,12 +1177,12 @@ public class WebController {
     @ResponseBody
     public Map<String, Object> ratePostApi(@PathVariable Long postId, @RequestParam int score) {
         try {
-            User currentUser = getCurrentUser();
+            SessionUser currentUser = getCurrentUser();
             if (currentUser == null) {
                 return Map.of("success", false, "message", "Giriş yapmalısınız");
             }
 
-            ratingService.ratePost(currentUser, postId, score);
+            ratingService.ratePost(userReference(currentUser), postId, score);
             double newAverage = ratingService.getAverageRating(postId);
             long newCount = ratingService.getRatingCount(postId);
 
@@ -1142,12 +1204,12 @@ public class WebController {
     @ResponseBody
     public Map<String, Object> toggleBookmarkApi(@PathVariable Long postId) {
         try {
-            User currentUser = getCurrentUser();
+            SessionUser currentUser = getCurrentUser();
             if (currentUser == null) {
                 return Map.of("success", false, "message", "Giriş yapmalısınız");
             }
 
-            boolean isBookmarked = bookmarkService.toggleBookmark(currentUser, postId);
+            boolean isBookmarked = bookmarkService.toggleBookmark(userReference(currentUser), postId);
             return Map.of("success", true, "isBookmarked", isBookmarked);
         } catch (Exception e) {
             return Map.of("success", false, "message", e.getMessage());
@@ -1161,12 +1223,12 @@ public class WebController {
     @ResponseBody
     public Map<String, Object> addCommentApi(@PathVariable Long postId, @RequestParam String content) {
         try {
-            User currentUser = getCurrentUser();
+            SessionUser currentUser = getCurrentUser();
             if (currentUser == null) {
                 return Map.of("success", false, "message", "Giriş yapmalısınız");
             }
 
-            Comment comment = commentService.addComment(currentUser, postId, content);
+            Comment comment = commentService.addComment(userReference(currentUser), postId, content);
             return Map.of(
                 "success", true,
                 "commentId", comment.getId(),
@@ -0,0 +1,29 @@
+package com.blog.blogprojesi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * İkinci seviye önbellek bölgesi sayaçları
+ * İsabet / ıskalama / yazma sayıları Hibernate istatistiklerinden,
+ * kapasite veya süre nedeniyle atılan kayıt sayısı JCache istatistiklerinden gelir
+ */
+@Getter
+@AllArgsConstructor
+public class CacheRegionStats {
+
+    private final String region;
+    private final boolean queryRegion;
+    private final long hits;
+    private final long misses;
+    private final long puts;
+    private final long evictions;
+
+    /**
+     * İsabet oranı (yüzde, hiç erişim yoksa 0)
+     */
+    public double getHitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : hits * 100.0 / total;
+    }
+}
@@ -0,0 +1,33 @@
+package com.blog.blogprojesi.dto;
+
+import com.blog.blogprojesi.entity.Post;
+import com.blog.blogprojesi.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Konular sayfasındaki kategori kartlarında gösterilen yazı özeti
+ * Sadece kartta kullanılan kolonları taşır, entity yüklemez
+ */
+@Getter
+@AllArgsConstructor
+public class CategoryPostCard {
+
+    private final Long id;
+    private final String category;
+    private final String title;
+    private final LocalDateTime createdAt;
+    private final String authorUsername;
+    private final String authorFirstName;
+    private final String authorLastName;
+
+    public String getAuthorInitials() {
+        return User.initials(authorFirstName, authorLastName, authorUsername);
+    }
+
+    public String getRelativeTime() {
+        return Post.relativeTime(createdAt);
+    }
+}
@@ -0,0 +1,100 @@
+package com.blog.blogprojesi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Ana sayfa akışı için keyset (cursor) bilgisi
+ * Son gösterilen postun sıralama değerini ve id'sini taşır, istemciye opak bir token olarak verilir.
+ * Sıralama değeri seçilen sıralamaya göre createdAt, viewCount veya Bayes puanıdır
+ * (en yüksek puanlı akış bellek içi sıralamadan okunur, bkz. TopRatedRankingService).
+ */
+@Getter
+@AllArgsConstructor
+public class FeedCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final FeedSort sort;
+    private final String sortValue;
+    private final Long id;
+
+    /**
+     * Sayfanın son postundan cursor oluştur (en son / popüler akış)
+     */
+    public static FeedCursor of(PostCard post, FeedSort sort) {
+        String sortValue = switch (sort) {
+            case LATEST -> post.getCreatedAt().toString();
+            case POPULAR -> String.valueOf(post.getViewCount());
+            case TOP_RATED -> throw new IllegalArgumentException("TOP_RATED cursor sıralama puanından oluşturulur");
+            case RELEVANCE -> throw new IllegalArgumentException("RELEVANCE akışı sıra numarası ile sayfalanır");
+        };
+        return new FeedCursor(sort, sortValue, post.getId());
+    }
+
+    /**
+     * En yüksek puanlı akış için sayfanın son postunun sıralama puanından cursor oluştur
+     */
+    public static FeedCursor ofScore(double score, Long id) {
+        return new FeedCursor(FeedSort.TOP_RATED, Double.toString(score), id);
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return LocalDateTime.parse(sortValue);
+    }
+
+    public long getViewCount() {
+        return Long.parseLong(sortValue);
+    }
+
+    public double getScore() {
+        return Double.parseDouble(sortValue);
+    }
+
+    /**
+     * Cursor'ı URL güvenli token'a çevir
+     */
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + sortValue + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Token'dan cursor çöz; geçersiz veya başka bir sıralamaya ait token'lar ilk sayfa gibi değerlendirilir
+     */
+    public static Optional<FeedCursor> decode(String token, FeedSort expectedSort) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int first = raw.indexOf(SEPARATOR);
+            int last = raw.lastIndexOf(SEPARATOR);
+            if (first < 0 || first == last) {
+                return Optional.empty();
+            }
+            FeedSort sort = FeedSort.valueOf(raw.substring(0, first));
+            if (sort != expectedSort) {
+                return Optional.empty();
+            }
+            FeedCursor cursor = new FeedCursor(sort, raw.substring(first + 1, last),
+                    Long.parseLong(raw.substring(last + 1)));
+            // Sıralama değerinin tipine uygun olduğunu doğrula
+            switch (sort) {
+                case LATEST -> cursor.getCreatedAt();
+                case POPULAR -> cursor.getViewCount();
+                case TOP_RATED -> cursor.getScore();
+            }
+            return Optional.of(cursor);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.blog.blogprojesi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Cursor tabanlı akışın tek bir sayfası
+ * nextCursor null ise daha fazla kayıt yoktur
+ */
+@Getter
+@AllArgsConstructor
+public class FeedPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.blog.blogprojesi.dto;
+
+/**
+ * Ana sayfa akışı sıralama seçenekleri
+ * En yeni ve popüler akışlar kendi keyset sorgusu ve indeksi ile veritabanında sıralanır;
+ * en yüksek puanlı akış bellek içi Bayes sıralamasından (TopRatedRankingService) okunur.
+ * Alaka sırası yalnızca aramada anlamlıdır ve sıralama seçilmemiş aramaların varsayılanıdır
+ */
+public enum FeedSort {
+
+    RELEVANCE("relevance"),
+    LATEST("latest"),
+    POPULAR("popular"),
+    TOP_RATED("top-rated");
+
+    private final String parameter;
+
+    FeedSort(String parameter) {
+        this.parameter = parameter;
+    }
+
+    public String getParameter() {
+        return parameter;
+    }
+
+    /**
+     * URL parametresinden sıralama seçeneği (bilinmeyen değerler en yeni olarak değerlendirilir)
+     */
+    public static FeedSort fromParameter(String parameter) {
+        return fromParameter(parameter, LATEST);
+    }
+
+    /**
+     * URL parametresinden sıralama seçeneği (eksik veya bilinmeyen değerler için varsayılan döner)
+     */
+    public static FeedSort fromParameter(String parameter, FeedSort defaultSort) {
+        for (FeedSort sort : values()) {
+            if (sort.parameter.equals(parameter)) {
+                return sort;
+            }
+        }
+        return defaultSort;
+    }
+}
@@ -0,0 +1,39 @@
+package com.blog.blogprojesi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Zamanlanmış iş özeti (admin paneli)
+ * Çalıştırma sayıları ve süreler job_runs geçmişinden, kilit durumu job_leases tablosundan gelir
+ */
+@Getter
+@AllArgsConstructor
+public class JobSummary {
+
+    private final String jobName;
+    private final long runCount;
+    private final long failedCount;
+    private final long avgDurationMs;
+    private final long maxDurationMs;
+    private final LocalDateTime lastStartedAt;
+    private final String leaseOwner;
+    private final LocalDateTime leaseUntil;
+
+    public boolean isLeaseActive() {
+        return leaseUntil != null && leaseUntil.isAfter(LocalDateTime.now());
+    }
+
+    public String getFormattedLastStartedAt() {
+        if (lastStartedAt == null) return "-";
+        return lastStartedAt.format(DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm:ss"));
+    }
+
+    public String getFormattedLeaseUntil() {
+        if (leaseUntil == null) return "-";
+        return leaseUntil.format(DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm:ss"));
+    }
+}
@@ -0,0 +1,103 @@
+package com.blog.blogprojesi.dto;
+
+import com.blog.blogprojesi.entity.Post;
+import com.blog.blogprojesi.entity.PostType;
+import com.blog.blogprojesi.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Liste sayfalarındaki post kartı (salt okunur projeksiyon)
+ * Sadece kartlarda gösterilen kolonları taşır; post içeriği ve lazy koleksiyonlar yüklenmez,
+ * yazar ve istatistikler aynı sorguda gelir.
+ */
+@Getter
+public class PostCard {
+
+    /**
+     * Kart sorgularının SELECT kısmı
+     * Sorgu Post p, p.author a, p.category c ve PostStats s (s.postId = p.id) takma adlarını tanımlamalıdır
+     */
+    public static final String SELECT = "SELECT new com.blog.blogprojesi.dto.PostCard(" +
+            "p.id, p.title, p.excerpt, p.postType, c.name, p.imageUrl, p.url, p.viewCount, " +
+            "p.isPublished, p.isFeatured, p.createdAt, " +
+            "a.id, a.username, a.firstName, a.lastName, a.profileImageUrl, " +
+            "s.averageRating, s.ratingCount, s.commentCount) ";
+
+    private final Long id;
+    private final String title;
+    private final String excerpt;
+    private final PostType postType;
+    private final String categoryName;
+    private final String imageUrl;
+    private final String url;
+    private final long viewCount;
+    private final boolean published;
+    private final boolean featured;
+    private final LocalDateTime createdAt;
+    private final Author author;
+    private final double averageRating;
+    private final long ratingCount;
+    private final long commentCount;
+
+    public PostCard(Long id, String title, String excerpt, PostType postType, String categoryName,
+                    String imageUrl, String url, Long viewCount, boolean published, boolean featured,
+                    LocalDateTime createdAt, Long authorId, String authorUsername, String authorFirstName,
+                    String authorLastName, String authorProfileImageUrl,
+                    Double averageRating, Long ratingCount, Long commentCount) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.postType = postType;
+        this.categoryName = categoryName;
+        this.imageUrl = imageUrl;
+        this.url = url;
+        this.viewCount = viewCount != null ? viewCount : 0L;
+        this.published = published;
+        this.featured = featured;
+        this.createdAt = createdAt;
+        this.author = new Author(authorId, authorUsername, authorFirstName, authorLastName, authorProfileImageUrl);
+        this.averageRating = averageRating != null ? averageRating : 0.0;
+        this.ratingCount = ratingCount != null ? ratingCount : 0L;
+        this.commentCount = commentCount != null ? commentCount : 0L;
+    }
+
+    public boolean isLinkPost() {
+        return postType == PostType.LINK;
+    }
+
+    public String getFormattedDate() {
+        return createdAt != null ? createdAt.toLocalDate().toString() : "";
+    }
+
+    public String getRelativeTime() {
+        return Post.relativeTime(createdAt);
+    }
+
+    /**
+     * Kartta gösterilen yazar bilgileri
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Author {
+
+        private final Long id;
+        private final String username;
+        private final String firstName;
+        private final String lastName;
+        private final String profileImageUrl;
+
+        public String getInitials() {
+            return User.initials(firstName, lastName, username);
+        }
+
+        public String getDisplayName() {
+            if (firstName != null && !firstName.isEmpty() && lastName != null && !lastName.isEmpty()) {
+                return firstName + " " + lastName;
+            }
+            return username;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.blog.blogprojesi.dto;
+
+import com.blog.blogprojesi.entity.Comment;
+import com.blog.blogprojesi.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Post detay sayfası modeli
+ * Post, sunucuda oluşturulmuş içerik HTML'i, yazar, puan özetleri ve yorumların ilk sayfası ile
+ * görüntüleyen kullanıcıya ait durumu (kendi puanı, yer imi) birlikte taşır
+ */
+@Getter
+@AllArgsConstructor
+public class PostDetailView {
+
+    private final Post post;
+    private final String contentHtml;
+    private final List<Comment> comments;
+    private final long commentCount;
+    private final boolean hasMoreComments;
+    private final double averageRating;
+    private final long ratingCount;
+    private final Map<Integer, Long> ratingDistribution;
+    private final Integer userRating;
+    private final boolean bookmarked;
+}
@@ -0,0 +1,63 @@
+package com.blog.blogprojesi.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * Post sayfalarının koşullu GET doğrulayıcıları (salt okunur projeksiyon)
+ * Post ve istatistik kaydının son güncelleme zamanları, puan/yorum sayıları ve yazar özetinden
+ * oluşur; sayfa şablonu çalıştırılmadan önce tek bir birincil anahtar sorgusuyla yüklenir.
+ */
+@Getter
+public class PostVersion {
+
+    /**
+     * Sürüm sorgusunun SELECT kısmı
+     * Sorgu Post p, p.author a ve PostStats s (s.postId = p.id) takma adlarını tanımlamalıdır
+     */
+    public static final String SELECT = "SELECT new com.blog.blogprojesi.dto.PostVersion(" +
+            "p.id, p.updatedAt, s.updatedAt, s.ratingCount, s.commentCount, " +
+            "a.username, a.firstName, a.lastName, a.profileImageUrl) ";
+
+    private final Long postId;
+    private final long lastModified;
+    private final long ratingCount;
+    private final long commentCount;
+    private final int authorHash;
+
+    public PostVersion(Long postId, LocalDateTime postUpdatedAt, LocalDateTime statsUpdatedAt,
+                       Long ratingCount, Long commentCount, String authorUsername, String authorFirstName,
+                       String authorLastName, String authorProfileImageUrl) {
+        this.postId = postId;
+        this.lastModified = Math.max(toMillis(postUpdatedAt), toMillis(statsUpdatedAt));
+        this.ratingCount = ratingCount != null ? ratingCount : 0L;
+        this.commentCount = commentCount != null ? commentCount : 0L;
+        this.authorHash = Objects.hash(authorUsername, authorFirstName, authorLastName, authorProfileImageUrl);
+    }
+
+    /**
+     * Güçlü ETag (sayfa görüntüleyene göre değiştiği için görüntüleyen kullanıcı ve özetinin
+     * oluşturulma zamanı da eklenir; anonim ziyaretçilerde bu kısım boştur)
+     */
+    public String etag(SessionUser viewer, String variant) {
+        StringBuilder etag = new StringBuilder("\"p").append(postId)
+                .append('-').append(Long.toHexString(lastModified))
+                .append('-').append(ratingCount)
+                .append('-').append(commentCount)
+                .append('-').append(Integer.toHexString(authorHash));
+        if (viewer != null) {
+            etag.append("-u").append(viewer.getId()).append('.').append(Long.toHexString(viewer.getLoadedAt()));
+        }
+        if (variant != null) {
+            etag.append('-').append(variant);
+        }
+        return etag.append('"').toString();
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+}
@@ -0,0 +1,62 @@
+package com.blog.blogprojesi.dto;
+
+import com.blog.blogprojesi.entity.Role;
+import com.blog.blogprojesi.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Oturumda tutulan giriş yapmış kullanıcı özeti
+ * Girişte bir kez oluşturulur ve SecurityContext ile birlikte oturumda saklanır; controller'lar
+ * ve şablonlar her istekte kullanıcıyı veritabanından yüklemek yerine bunu okur. Şifre ve
+ * ilişkiler taşınmaz. Kullanıcı güncellendiğinde SessionUserService tarafından yenilenir.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public final class SessionUser implements AuthenticatedPrincipal, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+    private final String username;
+    private final String email;
+    private final String displayName;
+    private final String initials;
+    private final Role role;
+    private final String profileImageUrl;
+
+    // Oluşturulma zamanı (ms); bundan sonra yapılan değişiklikler özeti eskitir
+    private final long loadedAt;
+
+    public static SessionUser from(User user) {
+        return from(user, System.currentTimeMillis());
+    }
+
+    public static SessionUser from(User user, long loadedAt) {
+        return new SessionUser(user.getId(), user.getUsername(), user.getEmail(), user.getDisplayName(),
+                user.getInitials(), user.getRole(), user.getProfileImageUrl(), loadedAt);
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public boolean isAdmin() {
+        return role == Role.ADMIN;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+}
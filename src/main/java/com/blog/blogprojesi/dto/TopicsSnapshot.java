@@ -0,0 +1,22 @@
+package com.blog.blogprojesi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Konular sayfası modelinin değişmez anlık görüntüsü
+ * Post yayınlandığında, gizlendiğinde, güncellendiğinde veya silindiğinde geçersiz kılınır
+ */
+@Getter
+@AllArgsConstructor
+public class TopicsSnapshot {
+
+    private final List<String> categories;
+    private final Map<String, Long> categoryCount;
+    private final Map<String, List<CategoryPostCard>> categoryRecentPosts;
+    private final Instant createdAt;
+}
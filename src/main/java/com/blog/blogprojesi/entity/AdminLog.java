@@ -9,14 +9,18 @@ import java.time.format.DateTimeFormatter;
 /**
  * Admin işlemlerini loglamak için Entity sınıfı
  * Admin panelindeki tüm önemli işlemleri kaydeder
+ * Tablo created_at üzerinden aylık bölümlenmiştir (LogPartitionService); birincil anahtar (id, created_at)
  */
 @Entity
-@Table(name = "admin_logs")
+@Table(name = "admin_logs", indexes = {
+        @Index(name = "idx_admin_logs_created_at", columnList = "created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@ToString
 public class AdminLog {
 
     @Id
@@ -53,7 +57,9 @@ public class AdminLog {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
     }
 
     public String getFormattedDate() {
@@ -0,0 +1,47 @@
+package com.blog.blogprojesi.entity;
+
+import com.blog.blogprojesi.config.CacheRegions;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.time.LocalDateTime;
+
+/**
+ * Kategori Entity sınıfı
+ * Postlar kategoriye yabancı anahtarla bağlıdır; yayınlanmış post sayısı
+ * post yazma işlemleriyle aynı transaction içinde güncel tutulur
+ */
+@Entity
+@Table(name = "categories")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CATEGORIES)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Category {
+
+    public static final int MAX_NAME_LENGTH = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true, nullable = false, length = MAX_NAME_LENGTH)
+    private String name;
+
+    @Column(name = "published_post_count", nullable = false)
+    @Builder.Default
+    private long publishedPostCount = 0L;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
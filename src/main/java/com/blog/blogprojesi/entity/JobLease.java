@@ -0,0 +1,39 @@
+package com.blog.blogprojesi.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Zamanlanmış iş kilidi (lease) Entity sınıfı
+ * Her iş için tek satır tutulur; satırı süresi dolmamış olarak tutan düğüm işi çalıştırır.
+ * Süreler veritabanı saatiyle (now()) karşılaştırıldığı için düğümlerin saat farkı etkilemez.
+ */
+@Entity
+@Table(name = "job_leases")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobLease {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    // Kilidi alan düğüm (host:pid:rastgele)
+    @Column(name = "owner", nullable = false, length = 200)
+    private String owner;
+
+    @Column(name = "lease_until", nullable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "acquired_at", nullable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private LocalDateTime acquiredAt;
+
+    public boolean isActive() {
+        return leaseUntil != null && leaseUntil.isAfter(LocalDateTime.now());
+    }
+}
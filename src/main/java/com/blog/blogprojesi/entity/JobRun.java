@@ -0,0 +1,67 @@
+package com.blog.blogprojesi.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Zamanlanmış iş çalıştırma geçmişi Entity sınıfı
+ * Kilidi alan düğümün her çalıştırması için süre, işlenen kayıt sayısı ve sonucu saklar
+ */
+@Entity
+@Table(name = "job_runs", indexes = {
+        @Index(name = "idx_job_runs_job_name_started_at", columnList = "job_name, started_at DESC"),
+        @Index(name = "idx_job_runs_started_at", columnList = "started_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    @Column(name = "node", nullable = false, length = 200)
+    private String node;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at", nullable = false)
+    private LocalDateTime finishedAt;
+
+    @Column(name = "duration_ms", nullable = false)
+    private long durationMs;
+
+    @Column(name = "status", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private JobRunStatus status;
+
+    // İşin işlediği (ör. sildiği) kayıt sayısı
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    @Column(name = "message", columnDefinition = "TEXT")
+    private String message;
+
+    public String getFormattedStartedAt() {
+        if (startedAt == null) return "";
+        return startedAt.format(DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm:ss"));
+    }
+
+    /**
+     * Çalıştırma sonucu
+     */
+    public enum JobRunStatus {
+        SUCCESS,
+        FAILED
+    }
+}
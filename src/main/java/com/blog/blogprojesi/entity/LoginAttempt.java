@@ -8,9 +8,12 @@ import java.time.LocalDateTime;
 /**
  * Login deneme kayıtları Entity sınıfı
  * Brute-force koruması için kullanılır
+ * Tablo attempt_time üzerinden günlük bölümlenmiştir (LogPartitionService); birincil anahtar (id, attempt_time)
  */
 @Entity
-@Table(name = "login_attempts")
+@Table(name = "login_attempts", indexes = {
+        @Index(name = "idx_login_attempts_attempt_time", columnList = "attempt_time")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -39,6 +42,8 @@ public class LoginAttempt {
 
     @PrePersist
     protected void onCreate() {
-        attemptTime = LocalDateTime.now();
+        if (attemptTime == null) {
+            attemptTime = LocalDateTime.now();
+        }
     }
 }
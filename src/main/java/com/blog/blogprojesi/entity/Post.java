@@ -1,20 +1,33 @@
 package com.blog.blogprojesi.entity;
 
+import com.blog.blogprojesi.config.CacheRegions;
+import com.blog.blogprojesi.content.ContentProcessor;
+import com.blog.blogprojesi.content.ProcessedContent;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Post (Yazı) Entity sınıfı
  * TEXT veya LINK tipinde yazılar içerebilir
  */
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_published_created", columnList = "is_published, created_at DESC, id DESC"),
+        @Index(name = "idx_posts_category_id_published_created", columnList = "category_id, is_published, created_at DESC, id DESC"),
+        @Index(name = "idx_posts_published_views", columnList = "is_published, view_count DESC, id DESC"),
+        @Index(name = "idx_posts_category_id_published_views", columnList = "category_id, is_published, view_count DESC, id DESC")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.POSTS)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -45,12 +58,33 @@ public class Post {
     @Column(name = "image_url")
     private String imageUrl;
 
-    @Column(name = "category")
-    private String category;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id")
+    private Category category;
 
+    // İçerikten türetilen alanlar (ContentProcessor, kayıt ve içerik değişikliğinde bir kez hesaplanır)
     @Column(name = "excerpt", length = 500)
     private String excerpt;
 
+    @Column(name = "word_count")
+    private Integer wordCount;
+
+    @Column(name = "reading_time")
+    private Integer readingTime;
+
+    @Column(name = "search_text", columnDefinition = "TEXT")
+    private String searchText;
+
+    // İçerik veya URL her değiştiğinde artar; sunucuda oluşturulan HTML (PostRender) bu revizyona bağlıdır
+    @Column(name = "content_revision")
+    private Integer contentRevision;
+
+    // İçerik veya URL değiştiyse türetilen alanlar güncellemede yeniden hesaplanır
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean contentChanged;
+
     @Column(name = "view_count")
     @Builder.Default
     private Long viewCount = 0L;
@@ -94,37 +128,55 @@ public class Post {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
-        if (content != null && excerpt == null) {
-            excerpt = content.length() > 200 ? content.substring(0, 200) + "..." : content;
-        }
+        refreshDerivedContent();
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        if (contentChanged) {
+            refreshDerivedContent();
+        }
     }
 
-    // Helper metotlar
-    public double getAverageRating() {
-        if (ratings == null || ratings.isEmpty()) {
-            return 0.0;
+    // Aynı değer yeniden atandığında revizyon artmaz (yalnızca kategori veya ayar düzenlemeleri yeniden render etmesin)
+    public void setContent(String content) {
+        if (!Objects.equals(this.content, content)) {
+            this.content = content;
+            this.contentChanged = true;
         }
-        return ratings.stream()
-                .mapToInt(Rating::getScore)
-                .average()
-                .orElse(0.0);
     }
 
-    public int getRatingCount() {
-        return ratings != null ? ratings.size() : 0;
+    public void setUrl(String url) {
+        if (!Objects.equals(this.url, url)) {
+            this.url = url;
+            this.contentChanged = true;
+        }
     }
 
-    public int getCommentCount() {
-        return comments != null ? comments.size() : 0;
+    /**
+     * Kelime sayısı, okuma süresi, özet ve arama metnini içerikten yeniden hesapla, içerik revizyonunu artır
+     */
+    public void refreshDerivedContent() {
+        ProcessedContent processed = ContentProcessor.process(content, url);
+        wordCount = processed.getWordCount();
+        readingTime = processed.getReadingTime();
+        excerpt = processed.getExcerpt();
+        searchText = processed.getSearchText();
+        contentRevision = getRevision() + 1;
+        contentChanged = false;
+    }
+
+    /**
+     * İçerik revizyonu (henüz atanmamışsa 0)
+     */
+    public int getRevision() {
+        return contentRevision != null ? contentRevision : 0;
     }
 
-    public int getBookmarkCount() {
-        return bookmarks != null ? bookmarks.size() : 0;
+    // Helper metotlar
+    public String getCategoryName() {
+        return category != null ? category.getName() : null;
     }
 
     public void incrementViewCount() {
@@ -137,6 +189,13 @@ public class Post {
     }
 
     public String getRelativeTime() {
+        return relativeTime(createdAt);
+    }
+
+    /**
+     * Verilen zamanı "3 saat önce" gibi göreli metne çevir (projeksiyonlar da kullanır)
+     */
+    public static String relativeTime(LocalDateTime createdAt) {
         if (createdAt == null) return "";
         
         LocalDateTime now = LocalDateTime.now();
@@ -161,19 +220,14 @@ public class Post {
     }
 
     public String getReadTimeText() {
-        if (content == null || content.isEmpty()) return "1 dk";
-        int wordCount = content.split("\\s+").length;
-        int minutes = Math.max(1, wordCount / 200); // Ortalama okuma hızı: 200 kelime/dk
-        return minutes + " dk";
+        return getReadingTime() + " dk";
     }
 
     /**
      * Reading time in minutes (alias for templates)
      */
     public int getReadingTime() {
-        if (content == null || content.isEmpty()) return 1;
-        int wordCount = content.split("\\s+").length;
-        return Math.max(1, wordCount / 200);
+        return readingTime != null ? readingTime : 1;
     }
 
     /**
@@ -0,0 +1,49 @@
+package com.blog.blogprojesi.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Post içeriğinin sunucuda oluşturulmuş HTML'i
+ * Markdown içerik yazma anında HTML'e çevrilir, temizlenir ve kod blokları renklendirilir;
+ * kayıt postun içerik revizyonuyla eşleştiği sürece detay sayfası bu HTML'i doğrudan gönderir
+ */
+@Entity
+@Table(name = "post_renders")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostRender {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @MapsId
+    @JoinColumn(name = "post_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Post post;
+
+    // HTML'in oluşturulduğu içerik revizyonu (Post.contentRevision)
+    @Column(name = "revision", nullable = false)
+    private int revision;
+
+    @Column(name = "html", columnDefinition = "TEXT", nullable = false)
+    private String html;
+
+    @Column(name = "rendered_at", nullable = false)
+    private LocalDateTime renderedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        renderedAt = LocalDateTime.now();
+    }
+}
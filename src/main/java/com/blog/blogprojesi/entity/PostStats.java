@@ -0,0 +1,167 @@
+package com.blog.blogprojesi.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Post istatistikleri Entity sınıfı
+ * Puan, yorum ve yer imi sayılarını yazma anında güncel tutar;
+ * listeleme sayfaları ilişkili koleksiyonları yüklemek yerine bu kaydı okur
+ */
+@Entity
+@Table(name = "post_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostStats {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @MapsId
+    @JoinColumn(name = "post_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Post post;
+
+    @Column(name = "rating_sum", nullable = false)
+    @Builder.Default
+    private long ratingSum = 0L;
+
+    @Column(name = "rating_count", nullable = false)
+    @Builder.Default
+    private long ratingCount = 0L;
+
+    @Column(name = "rating_1_count", nullable = false)
+    @Builder.Default
+    private long rating1Count = 0L;
+
+    @Column(name = "rating_2_count", nullable = false)
+    @Builder.Default
+    private long rating2Count = 0L;
+
+    @Column(name = "rating_3_count", nullable = false)
+    @Builder.Default
+    private long rating3Count = 0L;
+
+    @Column(name = "rating_4_count", nullable = false)
+    @Builder.Default
+    private long rating4Count = 0L;
+
+    @Column(name = "rating_5_count", nullable = false)
+    @Builder.Default
+    private long rating5Count = 0L;
+
+    @Column(name = "average_rating", nullable = false)
+    @Builder.Default
+    private double averageRating = 0.0;
+
+    @Column(name = "comment_count", nullable = false)
+    @Builder.Default
+    private long commentCount = 0L;
+
+    @Column(name = "bookmark_count", nullable = false)
+    @Builder.Default
+    private long bookmarkCount = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Helper metotlar
+    public void addRating(int score) {
+        adjustScore(score, 1);
+        ratingSum += score;
+        ratingCount++;
+        recalculateAverage();
+    }
+
+    public void removeRating(int score) {
+        adjustScore(score, -1);
+        ratingSum = Math.max(0L, ratingSum - score);
+        ratingCount = Math.max(0L, ratingCount - 1);
+        recalculateAverage();
+    }
+
+    public void changeRating(int oldScore, int newScore) {
+        if (oldScore == newScore) return;
+        adjustScore(oldScore, -1);
+        adjustScore(newScore, 1);
+        ratingSum = Math.max(0L, ratingSum - oldScore + newScore);
+        recalculateAverage();
+    }
+
+    public void addComment() {
+        commentCount++;
+    }
+
+    public void removeComment() {
+        commentCount = Math.max(0L, commentCount - 1);
+    }
+
+    public void addBookmark() {
+        bookmarkCount++;
+    }
+
+    public void removeBookmark() {
+        bookmarkCount = Math.max(0L, bookmarkCount - 1);
+    }
+
+    /**
+     * Puan dağılımı (1-5 arası her puan için sayı)
+     */
+    public Map<Integer, Long> getDistribution() {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        for (int score = 1; score <= 5; score++) {
+            distribution.put(score, getScoreCount(score));
+        }
+        return distribution;
+    }
+
+    public long getScoreCount(int score) {
+        return switch (score) {
+            case 1 -> rating1Count;
+            case 2 -> rating2Count;
+            case 3 -> rating3Count;
+            case 4 -> rating4Count;
+            case 5 -> rating5Count;
+            default -> 0L;
+        };
+    }
+
+    /**
+     * Belirli bir puanın sayısını doğrudan ayarla (yeniden hesaplama için)
+     */
+    public void setScoreCount(int score, long count) {
+        switch (score) {
+            case 1 -> rating1Count = count;
+            case 2 -> rating2Count = count;
+            case 3 -> rating3Count = count;
+            case 4 -> rating4Count = count;
+            case 5 -> rating5Count = count;
+            default -> { }
+        }
+    }
+
+    public void recalculateAverage() {
+        averageRating = ratingCount > 0 ? (double) ratingSum / ratingCount : 0.0;
+    }
+
+    private void adjustScore(int score, long delta) {
+        setScoreCount(score, Math.max(0L, getScoreCount(score) + delta));
+    }
+}
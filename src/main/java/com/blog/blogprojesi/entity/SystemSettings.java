@@ -1,7 +1,10 @@
 package com.blog.blogprojesi.entity;
 
+import com.blog.blogprojesi.config.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -11,6 +14,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "system_settings")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SYSTEM_SETTINGS)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -58,4 +63,7 @@ public class SystemSettings {
     public static final String KEY_COMMENTS_ENABLED = "comments_enabled";
     public static final String KEY_MAX_LOGIN_ATTEMPTS = "max_login_attempts";
     public static final String KEY_LOCKOUT_DURATION_MINUTES = "lockout_duration_minutes";
+
+    // Her ayar değişikliğinde artan genel sürüm; diğer sunucular ayar önbelleğini buna göre yeniler
+    public static final String KEY_SETTINGS_VERSION = "settings_version";
 }
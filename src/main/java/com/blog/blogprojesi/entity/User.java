@@ -1,7 +1,10 @@
 package com.blog.blogprojesi.entity;
 
+import com.blog.blogprojesi.config.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,6 +20,8 @@ import java.util.List;
  */
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USERS)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -111,6 +116,13 @@ public class User implements UserDetails {
 
     // Helper metotlar
     public String getInitials() {
+        return initials(firstName, lastName, username);
+    }
+
+    /**
+     * Ad-soyad veya kullanıcı adından baş harfler (projeksiyonlar da kullanır)
+     */
+    public static String initials(String firstName, String lastName, String username) {
         if (firstName != null && !firstName.isEmpty() && lastName != null && !lastName.isEmpty()) {
             return (firstName.substring(0, 1) + lastName.substring(0, 1)).toUpperCase();
         }
@@ -0,0 +1,9 @@
+package com.blog.blogprojesi.event;
+
+/**
+ * Kategori kaydı sayıları veritabanından yeniden yükledikten sonra yayınlanan uygulama olayı
+ * Kategori sayılarını kopyalayan görüntüler bu olayla geçersiz kılınır; böylece yeni görüntü
+ * her zaman güncel sayılarla oluşturulur.
+ */
+public class CategoryCountsReloadedEvent {
+}
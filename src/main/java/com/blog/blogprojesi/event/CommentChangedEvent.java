@@ -0,0 +1,29 @@
+package com.blog.blogprojesi.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Yorum eklendiğinde veya silindiğinde yayınlanan uygulama olayı
+ */
+@Getter
+@AllArgsConstructor
+public class CommentChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        DELETED
+    }
+
+    private final Long commentId;
+    private final Long postId;
+    private final ChangeType changeType;
+
+    public static CommentChangedEvent created(Long commentId, Long postId) {
+        return new CommentChangedEvent(commentId, postId, ChangeType.CREATED);
+    }
+
+    public static CommentChangedEvent deleted(Long commentId, Long postId) {
+        return new CommentChangedEvent(commentId, postId, ChangeType.DELETED);
+    }
+}
@@ -0,0 +1,40 @@
+package com.blog.blogprojesi.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Post oluşturulduğunda, güncellendiğinde, silindiğinde veya yayın durumu
+ * değiştiğinde yayınlanan uygulama olayı.
+ * Dinleyiciler @TransactionalEventListener ile commit sonrasında çalışır.
+ */
+@Getter
+@AllArgsConstructor
+public class PostChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        PUBLISH_CHANGED
+    }
+
+    private final Long postId;
+    private final ChangeType changeType;
+
+    public static PostChangedEvent created(Long postId) {
+        return new PostChangedEvent(postId, ChangeType.CREATED);
+    }
+
+    public static PostChangedEvent updated(Long postId) {
+        return new PostChangedEvent(postId, ChangeType.UPDATED);
+    }
+
+    public static PostChangedEvent deleted(Long postId) {
+        return new PostChangedEvent(postId, ChangeType.DELETED);
+    }
+
+    public static PostChangedEvent publishChanged(Long postId) {
+        return new PostChangedEvent(postId, ChangeType.PUBLISH_CHANGED);
+    }
+}
@@ -0,0 +1,16 @@
+package com.blog.blogprojesi.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Bir postun puan toplamı veya puan sayısı değiştiğinde yayınlanan uygulama olayı
+ * Yalnızca post ID'sini taşır: olaylar commit sonrasında farklı sırada gelebileceği için
+ * dinleyiciler güncel değerleri veritabanından okur.
+ */
+@Getter
+@AllArgsConstructor
+public class PostRatingChangedEvent {
+
+    private final Long postId;
+}
@@ -0,0 +1,39 @@
+package com.blog.blogprojesi.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Kullanıcı oluşturulduğunda, rolü / durumu / profil bilgisi güncellendiğinde
+ * veya silindiğinde yayınlanan uygulama olayı.
+ * Silme olayı, kullanıcıyla birlikte silinen postların ID'lerini de taşır; commit sonrasında
+ * bu postlar veritabanında artık bulunamaz.
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Long userId;
+    private final ChangeType changeType;
+    private final List<Long> deletedPostIds;
+
+    public static UserChangedEvent created(Long userId) {
+        return new UserChangedEvent(userId, ChangeType.CREATED, List.of());
+    }
+
+    public static UserChangedEvent updated(Long userId) {
+        return new UserChangedEvent(userId, ChangeType.UPDATED, List.of());
+    }
+
+    public static UserChangedEvent deleted(Long userId, List<Long> deletedPostIds) {
+        return new UserChangedEvent(userId, ChangeType.DELETED, List.copyOf(deletedPostIds));
+    }
+}
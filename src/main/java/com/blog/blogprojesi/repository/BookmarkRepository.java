@@ -1,5 +1,6 @@
 package com.blog.blogprojesi.repository;
 
+import com.blog.blogprojesi.dto.PostCard;
 import com.blog.blogprojesi.entity.Bookmark;
 import com.blog.blogprojesi.entity.Post;
 import com.blog.blogprojesi.entity.User;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +26,11 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     @Query("SELECT b FROM Bookmark b LEFT JOIN FETCH b.post p LEFT JOIN FETCH p.author WHERE b.user.id = :userId ORDER BY b.createdAt DESC")
     List<Bookmark> findByUserIdWithPost(@Param("userId") Long userId);
 
+    // Kullanıcının yer imli post kartları (post içeriği yüklenmez)
+    @Query(PostCard.SELECT + "FROM Bookmark b JOIN b.post p JOIN p.author a LEFT JOIN p.category c LEFT JOIN PostStats s ON s.postId = p.id " +
+           "WHERE b.user.id = :userId ORDER BY b.createdAt DESC")
+    List<PostCard> findPostCardsByUserId(@Param("userId") Long userId);
+
     // Kullanıcının bu postu yer imlerine ekleyip eklemediğini kontrol et
     boolean existsByUserAndPost(User user, Post post);
 
@@ -37,6 +44,14 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     // Bir kullanıcının yer imi sayısı
     long countByUser(User user);
 
+    // Postlara göre yer imi sayıları (istatistik yeniden hesaplama için)
+    @Query("SELECT b.post.id, COUNT(b) FROM Bookmark b WHERE b.post.id IN :postIds GROUP BY b.post.id")
+    List<Object[]> countByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // Kullanıcının yer imine eklediği postların ID'leri
+    @Query("SELECT b.post.id FROM Bookmark b WHERE b.user.id = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId);
+
     // Kullanıcı ve Post ID ile sil
     void deleteByUserAndPost(User user, Post post);
 }
@@ -0,0 +1,50 @@
+package com.blog.blogprojesi.repository;
+
+import com.blog.blogprojesi.entity.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Category Repository Interface
+ */
+@Repository
+public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    // İsme göre kategori getir
+    Optional<Category> findByName(String name);
+
+    // Tüm kategorilerin ID, ad ve yayınlanmış post sayısı
+    // Skaler okunur: kalıcılık bağlamındaki (toplu UPDATE'ten önce yüklenmiş) eski entity'ler dönmez
+    @Query("SELECT c.id, c.name, c.publishedPostCount FROM Category c")
+    List<Object[]> findAllPublishedCounts();
+
+    // Kategori yoksa oluştur; aynı adı eşzamanlı oluşturan transaction varsa onun commit'ini bekler, hata vermez
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "categories"))
+    @Query(value = "INSERT INTO categories (name, published_post_count, created_at) VALUES (:name, 0, now()) " +
+                   "ON CONFLICT (name) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name);
+
+    // Yayınlanmış post sayısını atomik olarak artır / azalt
+    @Modifying
+    @Query("UPDATE Category c SET c.publishedPostCount = c.publishedPostCount + :delta WHERE c.id = :id")
+    int adjustPublishedPostCount(@Param("id") Long id, @Param("delta") long delta);
+
+    // Tüm kategorilerin yayınlanmış post sayılarını postlardan yeniden hesapla
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "categories"))
+    @Query(value = "UPDATE categories c SET published_post_count = " +
+                   "(SELECT COUNT(*) FROM posts p WHERE p.category_id = c.id AND p.is_published = true)",
+           nativeQuery = true)
+    int recountPublishedPosts();
+}
@@ -3,11 +3,14 @@ package com.blog.blogprojesi.repository;
 import com.blog.blogprojesi.entity.Comment;
 import com.blog.blogprojesi.entity.Post;
 import com.blog.blogprojesi.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -23,6 +26,10 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.user WHERE c.post.id = :postId ORDER BY c.createdAt DESC")
     List<Comment> findByPostIdWithUser(@Param("postId") Long postId);
 
+    // Bir postun yorumlarının bir sayfası (kullanıcı bilgisiyle, sayım sorgusu olmadan)
+    @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.user WHERE c.post.id = :postId ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<Comment> findPageByPostId(@Param("postId") Long postId, Pageable pageable);
+
     // Belirli bir kullanıcının yorumlarını getir
     List<Comment> findByUserOrderByCreatedAtDesc(User user);
 
@@ -32,6 +39,17 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     // Bir kullanıcının yorum sayısı
     long countByUser(User user);
 
+    // Kullanıcının yorumu var mı
+    boolean existsByUserId(Long userId);
+
+    // Postlara göre yorum sayıları (istatistik yeniden hesaplama için)
+    @Query("SELECT c.post.id, COUNT(c) FROM Comment c WHERE c.post.id IN :postIds GROUP BY c.post.id")
+    List<Object[]> countByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // Kullanıcının yorum yaptığı postların ID'leri
+    @Query("SELECT DISTINCT c.post.id FROM Comment c WHERE c.user.id = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId);
+
     // Son yorumlar
     List<Comment> findTop10ByOrderByCreatedAtDesc();
 }
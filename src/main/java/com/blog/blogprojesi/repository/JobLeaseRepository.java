@@ -0,0 +1,48 @@
+package com.blog.blogprojesi.repository;
+
+import com.blog.blogprojesi.entity.JobLease;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * JobLease Repository Interface
+ */
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    // Kilidi al: satır yoksa oluştur, süresi dolmuşsa veya zaten bu düğümdeyse devral (alındıysa 1 döner)
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_leases"))
+    @Query(value = "INSERT INTO job_leases (job_name, owner, lease_until, acquired_at) " +
+                   "VALUES (:jobName, :owner, now() + (:leaseSeconds * interval '1 second'), now()) " +
+                   "ON CONFLICT (job_name) DO UPDATE SET owner = EXCLUDED.owner, " +
+                   "lease_until = EXCLUDED.lease_until, acquired_at = EXCLUDED.acquired_at " +
+                   "WHERE job_leases.lease_until < now() OR job_leases.owner = EXCLUDED.owner",
+           nativeQuery = true)
+    int tryAcquire(@Param("jobName") String jobName, @Param("owner") String owner,
+                   @Param("leaseSeconds") long leaseSeconds);
+
+    // Kilidi bırak; diğer düğümlerin aynı zamanlamayı tekrar çalıştırmaması için en az holdSeconds tutulur
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_leases"))
+    @Query(value = "UPDATE job_leases SET lease_until = " +
+                   "GREATEST(now(), acquired_at + (:holdSeconds * interval '1 second')) " +
+                   "WHERE job_name = :jobName AND owner = :owner",
+           nativeQuery = true)
+    int release(@Param("jobName") String jobName, @Param("owner") String owner,
+                @Param("holdSeconds") long holdSeconds);
+
+    // Tüm kilitler (admin paneli)
+    List<JobLease> findAllByOrderByJobNameAsc();
+}
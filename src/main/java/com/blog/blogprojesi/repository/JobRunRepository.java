@@ -0,0 +1,41 @@
+package com.blog.blogprojesi.repository;
+
+import com.blog.blogprojesi.entity.JobRun;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JobRun Repository Interface
+ */
+@Repository
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+
+    // Son çalıştırmalar (admin paneli)
+    List<JobRun> findTop100ByOrderByStartedAtDesc();
+
+    // İş başına çalıştırma sayısı, başarısız sayısı, ortalama / en uzun süre ve son başlama zamanı
+    @Query("SELECT r.jobName, COUNT(r), " +
+           "SUM(CASE WHEN r.status = :failed THEN 1 ELSE 0 END), " +
+           "AVG(r.durationMs), MAX(r.durationMs), MAX(r.startedAt) " +
+           "FROM JobRun r GROUP BY r.jobName ORDER BY r.jobName")
+    List<Object[]> summarizeByJob(@Param("failed") JobRun.JobRunStatus failed);
+
+    // Eski çalıştırma kayıtlarını sınırlı parçalar halinde sil (silinen satır sayısı döner)
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_runs"))
+    @Query(value = "DELETE FROM job_runs WHERE id IN " +
+                   "(SELECT id FROM job_runs WHERE started_at < :before ORDER BY id LIMIT :limit)",
+           nativeQuery = true)
+    int deleteChunkOlderThan(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
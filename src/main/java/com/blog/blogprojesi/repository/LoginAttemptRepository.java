@@ -1,14 +1,17 @@
 package com.blog.blogprojesi.repository;
 
 import com.blog.blogprojesi.entity.LoginAttempt;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * LoginAttempt Repository Interface
@@ -28,26 +31,14 @@ public interface LoginAttemptRepository extends JpaRepository<LoginAttempt, Long
     List<LoginAttempt> findRecentFailedAttemptsByIp(@Param("ip") String ip, 
                                                       @Param("since") LocalDateTime since);
 
-    // Başarısız deneme sayısını getir
-    @Query("SELECT COUNT(l) FROM LoginAttempt l WHERE l.username = :username AND l.success = false " +
-           "AND l.attemptTime >= :since")
-    long countRecentFailedAttempts(@Param("username") String username, @Param("since") LocalDateTime since);
-
-    // IP için başarısız deneme sayısını getir
-    @Query("SELECT COUNT(l) FROM LoginAttempt l WHERE l.ipAddress = :ip AND l.success = false " +
-           "AND l.attemptTime >= :since")
-    long countRecentFailedAttemptsByIp(@Param("ip") String ip, @Param("since") LocalDateTime since);
+    // Belirli zamandan sonraki denemeler: username, ipAddress, attemptTime, success (eskiden yeniye;
+    // açılışta sayaçları geri yüklemek için). Entity yerine skaler satırlar imleçle akıtılır;
+    // çağıran transaction içinde olmalı ve stream'i kapatmalıdır.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT l.username, l.ipAddress, l.attemptTime, l.success FROM LoginAttempt l " +
+           "WHERE l.attemptTime >= :since ORDER BY l.attemptTime")
+    Stream<Object[]> streamAttemptsSince(@Param("since") LocalDateTime since);
 
     // Admin login denemelerini getir
     List<LoginAttempt> findByIsAdminLoginTrueOrderByAttemptTimeDesc();
-
-    // Eski kayıtları temizle
-    @Modifying
-    @Query("DELETE FROM LoginAttempt l WHERE l.attemptTime < :before")
-    void deleteOldAttempts(@Param("before") LocalDateTime before);
-
-    // Kullanıcı için tüm denemeleri sil (başarılı login sonrası)
-    @Modifying
-    @Query("DELETE FROM LoginAttempt l WHERE l.username = :username AND l.success = false")
-    void clearFailedAttempts(@Param("username") String username);
 }
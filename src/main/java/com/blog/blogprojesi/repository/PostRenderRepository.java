@@ -0,0 +1,20 @@
+package com.blog.blogprojesi.repository;
+
+import com.blog.blogprojesi.entity.PostRender;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * PostRender Repository Interface
+ */
+@Repository
+public interface PostRenderRepository extends JpaRepository<PostRender, Long> {
+
+    // HTML kaydı olmayan veya içerik revizyonu değişmiş postların ID'leri
+    @Query("SELECT p.id FROM Post p WHERE p.content IS NOT NULL AND NOT EXISTS " +
+           "(SELECT 1 FROM PostRender r WHERE r.postId = p.id AND r.revision = COALESCE(p.contentRevision, 0))")
+    List<Long> findPostIdsWithStaleRender();
+}
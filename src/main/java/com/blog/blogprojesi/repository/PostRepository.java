@@ -1,15 +1,21 @@
 package com.blog.blogprojesi.repository;
 
+import com.blog.blogprojesi.dto.PostCard;
+import com.blog.blogprojesi.dto.PostVersion;
 import com.blog.blogprojesi.entity.Post;
 import com.blog.blogprojesi.entity.PostType;
 import com.blog.blogprojesi.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,81 +25,218 @@ import java.util.Optional;
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    // Post kartı sorgularının FROM kısmı (istatistik kaydı olmayan postlar dahil)
+    String CARD_FROM = "FROM Post p JOIN p.author a LEFT JOIN p.category c LEFT JOIN PostStats s ON s.postId = p.id ";
+
+    // Tüm postları getir (author ile birlikte)
+    @Override
+    @EntityGraph(attributePaths = {"author"})
+    List<Post> findAll();
+
+    // Tüm postları sayfalı getir (author ile birlikte)
+    @Override
+    @EntityGraph(attributePaths = {"author"})
+    Page<Post> findAll(Pageable pageable);
+
     // Yayınlanmış tüm postları getir (sayfalama ile)
+    @EntityGraph(attributePaths = {"author", "category"})
     Page<Post> findByIsPublishedTrueOrderByCreatedAtDesc(Pageable pageable);
 
     // Yayınlanmış tüm postları getir
+    @EntityGraph(attributePaths = {"author"})
     List<Post> findByIsPublishedTrueOrderByCreatedAtDesc();
 
     // Belirli bir kullanıcının postlarını getir
+    @EntityGraph(attributePaths = {"author"})
     List<Post> findByAuthorOrderByCreatedAtDesc(User author);
 
+    // Kullanıcının post kartları (yayınlanmış ve taslak)
+    @Query(PostCard.SELECT + CARD_FROM + "WHERE p.author = :author ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCard> findCardsByAuthor(@Param("author") User author);
+
+    // Kullanıcının yayın durumuna göre post kartları
+    @Query(PostCard.SELECT + CARD_FROM + "WHERE p.author = :author AND p.isPublished = :published " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCard> findCardsByAuthorAndPublished(@Param("author") User author, @Param("published") boolean published);
+
+    // Tüm post kartları sayfalı (admin listesi)
+    @Query(value = PostCard.SELECT + CARD_FROM + "ORDER BY p.createdAt DESC, p.id DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostCard> findAllCards(Pageable pageable);
+
     // Belirli bir kullanıcının yayınlanmış postlarını getir
+    @EntityGraph(attributePaths = {"author"})
     List<Post> findByAuthorAndIsPublishedTrueOrderByCreatedAtDesc(User author);
 
     // Kategori bazlı postları getir
-    List<Post> findByCategoryAndIsPublishedTrueOrderByCreatedAtDesc(String category);
+    @EntityGraph(attributePaths = {"author"})
+    List<Post> findByCategoryIdAndIsPublishedTrueOrderByCreatedAtDesc(Long categoryId);
 
     // Post tipine göre getir
+    @EntityGraph(attributePaths = {"author"})
     List<Post> findByPostTypeAndIsPublishedTrueOrderByCreatedAtDesc(PostType postType);
 
     // Öne çıkan postları getir
+    @EntityGraph(attributePaths = {"author"})
     List<Post> findByIsFeaturedTrueAndIsPublishedTrueOrderByCreatedAtDesc();
 
     // ID ile post getir (fetch join ile author)
     @Query("SELECT p FROM Post p LEFT JOIN FETCH p.author WHERE p.id = :id")
     Optional<Post> findByIdWithAuthor(@Param("id") Long id);
 
-    // ID ile post getir (fetch join ile tüm ilişkiler)
+    // Post sayfalarının koşullu GET doğrulayıcıları (birincil anahtar üzerinden tek sorgu)
+    @Query(PostVersion.SELECT + "FROM Post p JOIN p.author a LEFT JOIN PostStats s ON s.postId = p.id WHERE p.id = :id")
+    Optional<PostVersion> findVersionById(@Param("id") Long id);
+
+    // ID ile post getir (yazar ve kategori tek sorguda)
     @Query("SELECT p FROM Post p " +
            "LEFT JOIN FETCH p.author " +
-           "LEFT JOIN FETCH p.comments c " +
-           "LEFT JOIN FETCH c.user " +
+           "LEFT JOIN FETCH p.category " +
            "WHERE p.id = :id")
     Optional<Post> findByIdWithDetails(@Param("id") Long id);
 
-    // Başlık veya içerikte arama
-    @Query("SELECT p FROM Post p WHERE p.isPublished = true AND " +
-           "(LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-           "ORDER BY p.createdAt DESC")
-    List<Post> searchPosts(@Param("keyword") String keyword);
+    // Detay sayfası: post, yazar, kategori, istatistik kaydı ve güncel revizyonun HTML'i tek sorguda
+    // (satır: Post, PostStats veya null, HTML veya kayıt yok / eskiyse null)
+    @Query("SELECT p, s, r.html FROM Post p " +
+           "LEFT JOIN FETCH p.author " +
+           "LEFT JOIN FETCH p.category " +
+           "LEFT JOIN PostStats s ON s.postId = p.id " +
+           "LEFT JOIN PostRender r ON r.postId = p.id AND r.revision = COALESCE(p.contentRevision, 0) " +
+           "WHERE p.id = :id")
+    List<Object[]> findDetailById(@Param("id") Long id);
+
+    // Ana sayfa akışı - ilk sayfa (keyset: createdAt, id)
+    @Query(PostCard.SELECT + CARD_FROM + "WHERE p.isPublished = true " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCard> findPublishedFeed(Pageable pageable);
+
+    // Ana sayfa akışı - cursor sonrası
+    @Query(PostCard.SELECT + CARD_FROM + "WHERE p.isPublished = true AND " +
+           "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCard> findPublishedFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id, Pageable pageable);
+
+    // Kategori akışı - ilk sayfa
+    @Query(PostCard.SELECT + CARD_FROM + "WHERE p.isPublished = true AND p.category.id = :categoryId " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCard> findPublishedFeedByCategory(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    // Kategori akışı - cursor sonrası
+    @Query(PostCard.SELECT + CARD_FROM + "WHERE p.isPublished = true AND p.category.id = :categoryId AND " +
+           "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCard> findPublishedFeedByCategoryAfter(@Param("categoryId") Long categoryId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") Long id, Pageable pageable);
+
+    // Popüler akış - ilk sayfa (keyset: viewCount, id)
+    @Query(PostCard.SELECT + CARD_FROM + "WHERE p.isPublished = true " +
+           "ORDER BY p.viewCount DESC, p.id DESC")
+    List<PostCard> findPopularFeed(Pageable pageable);
+
+    // Popüler akış - cursor sonrası
+    @Query(PostCard.SELECT + CARD_FROM + "WHERE p.isPublished = true AND " +
+           "(p.viewCount < :viewCount OR (p.viewCount = :viewCount AND p.id < :id)) " +
+           "ORDER BY p.viewCount DESC, p.id DESC")
+    List<PostCard> findPopularFeedAfter(@Param("viewCount") long viewCount,
+                                        @Param("id") Long id, Pageable pageable);
+
+    // Kategoride popüler akış - ilk sayfa
+    @Query(PostCard.SELECT + CARD_FROM + "WHERE p.isPublished = true AND p.category.id = :categoryId " +
+           "ORDER BY p.viewCount DESC, p.id DESC")
+    List<PostCard> findPopularFeedByCategory(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    // Kategoride popüler akış - cursor sonrası
+    @Query(PostCard.SELECT + CARD_FROM + "WHERE p.isPublished = true AND p.category.id = :categoryId AND " +
+           "(p.viewCount < :viewCount OR (p.viewCount = :viewCount AND p.id < :id)) " +
+           "ORDER BY p.viewCount DESC, p.id DESC")
+    List<PostCard> findPopularFeedByCategoryAfter(@Param("categoryId") Long categoryId,
+                                                  @Param("viewCount") long viewCount,
+                                                  @Param("id") Long id, Pageable pageable);
+
+    // Arama sonuçlarını tarihe göre sırala - ilk sayfa (keyset: createdAt, id)
+    @Query(PostCard.SELECT + CARD_FROM + "WHERE p.id IN :ids AND p.isPublished = true " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCard> findPublishedFeedByIdIn(@Param("ids") Collection<Long> ids, Pageable pageable);
+
+    // Arama sonuçlarını tarihe göre sırala - cursor sonrası
+    @Query(PostCard.SELECT + CARD_FROM + "WHERE p.id IN :ids AND p.isPublished = true AND " +
+           "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCard> findPublishedFeedByIdInAfter(@Param("ids") Collection<Long> ids,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id, Pageable pageable);
+
+    // Arama sonuçlarını görüntülenmeye göre sırala
+    @Query(PostCard.SELECT + CARD_FROM +
+           "WHERE p.id IN :ids AND p.isPublished = true ORDER BY p.viewCount DESC, p.id DESC")
+    Slice<PostCard> findPublishedByIdInOrderByViews(@Param("ids") Collection<Long> ids, Pageable pageable);
+
+    // ID listesine göre yayınlanmış postları getir (arama sonuçları için)
+    @Query("SELECT p FROM Post p LEFT JOIN FETCH p.author " +
+           "WHERE p.id IN :ids AND p.isPublished = true")
+    List<Post> findPublishedByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ID listesine göre yayınlanmış post kartlarını getir (arama akışı için)
+    @Query(PostCard.SELECT + CARD_FROM + "WHERE p.id IN :ids AND p.isPublished = true")
+    List<PostCard> findPublishedCardsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Arama indeksi parmak izi: yayınlanmış post sayısı, en büyük ID ve son güncelleme
+    @Query("SELECT COUNT(p), MAX(p.id), MAX(p.updatedAt) FROM Post p WHERE p.isPublished = true")
+    List<Object[]> getPublishedFingerprint();
 
     // En çok görüntülenen postlar
+    @EntityGraph(attributePaths = {"author"})
     List<Post> findTop10ByIsPublishedTrueOrderByViewCountDesc();
 
-    // En çok puanlanan postlar
-    @Query("SELECT p FROM Post p WHERE p.isPublished = true " +
-           "ORDER BY (SELECT COALESCE(AVG(r.score), 0) FROM Rating r WHERE r.post = p) DESC")
-    List<Post> findTopRatedPosts(Pageable pageable);
-
     // Son eklenen postlar (limit)
+    @EntityGraph(attributePaths = {"author"})
     List<Post> findTop5ByIsPublishedTrueOrderByCreatedAtDesc();
 
     // Kullanıcının post sayısı
     long countByAuthor(User author);
 
-    // Kategorileri getir
-    @Query("SELECT DISTINCT p.category FROM Post p WHERE p.category IS NOT NULL AND p.isPublished = true")
-    List<String> findAllCategories();
+    // Her kategorinin en yeni yayınlanmış postları (tek sorguda, kategori başına en fazla :perCategory adet)
+    // Sütunlar: id, category, title, created_at, username, first_name, last_name
+    @Query(value = "SELECT r.id, r.category, r.title, r.created_at, r.username, r.first_name, r.last_name FROM (" +
+                   "SELECT p.id, c.name AS category, p.title, p.created_at, u.username, u.first_name, u.last_name, " +
+                   "ROW_NUMBER() OVER (PARTITION BY p.category_id ORDER BY p.created_at DESC, p.id DESC) AS rn " +
+                   "FROM posts p JOIN categories c ON c.id = p.category_id JOIN users u ON u.id = p.author_id " +
+                   "WHERE p.is_published = true) r " +
+                   "WHERE r.rn <= :perCategory ORDER BY r.category, r.rn",
+           nativeQuery = true)
+    List<Object[]> findRecentPostCardsPerCategory(@Param("perCategory") int perCategory);
+
+    // Tüm postların istatistik için gereken durumu: id, yazar id, yayında mı, öne çıkan mı
+    @Query("SELECT p.id, p.author.id, p.isPublished, p.isFeatured FROM Post p")
+    List<Object[]> findAllPostStates();
+
+    // Tek bir postun istatistik durumu
+    @Query("SELECT p.id, p.author.id, p.isPublished, p.isFeatured FROM Post p WHERE p.id = :id")
+    List<Object[]> findPostState(@Param("id") Long id);
+
+    // Yazarın tüm postlarının ID'leri (kullanıcı silinirken bellek içi yapılardan çıkarmak için)
+    @Query("SELECT p.id FROM Post p WHERE p.author.id = :authorId")
+    List<Long> findIdsByAuthorId(@Param("authorId") Long authorId);
 
-    // Kategoriye göre post sayısı
-    @Query("SELECT p.category, COUNT(p) FROM Post p WHERE p.isPublished = true AND p.category IS NOT NULL " +
-           "GROUP BY p.category ORDER BY COUNT(p) DESC")
-    List<Object[]> countByCategory();
+    // Yazarın yayınlanmış postu var mı
+    boolean existsByAuthorIdAndIsPublishedTrue(Long authorId);
 
     // Kullanıcının kategorilerine göre post sayısı
-    @Query("SELECT p.category, COUNT(p) FROM Post p WHERE p.author = :author AND p.category IS NOT NULL " +
-           "GROUP BY p.category ORDER BY COUNT(p) DESC")
+    @Query("SELECT c.name, COUNT(p) FROM Post p JOIN p.category c WHERE p.author = :author " +
+           "GROUP BY c.name ORDER BY COUNT(p) DESC")
     List<Object[]> countByCategoryAndAuthor(@Param("author") User author);
 
     // Yayınlanmış post sayısı
     long countByIsPublishedTrue();
 
-    // Kategoriye göre postlar
-    List<Post> findByIsPublishedTrueAndCategoryOrderByCreatedAtDesc(String category);
+    // İçerikten türetilen alanları henüz hesaplanmamış postların ID'leri
+    @Query("SELECT p.id FROM Post p WHERE p.wordCount IS NULL")
+    List<Long> findIdsWithoutDerivedContent();
 
     // Kullanıcının taslak postlarını getir (isPublished = false)
+    @EntityGraph(attributePaths = {"author"})
     List<Post> findByAuthorAndIsPublishedFalseOrderByCreatedAtDesc(User author);
 
     // Kullanıcının taslak sayısı
@@ -0,0 +1,42 @@
+package com.blog.blogprojesi.repository;
+
+import com.blog.blogprojesi.entity.PostStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PostStats Repository Interface
+ */
+@Repository
+public interface PostStatsRepository extends JpaRepository<PostStats, Long> {
+
+    // Güncelleme için satırı kilitleyerek getir (eşzamanlı sayaç güncellemeleri için)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PostStats s WHERE s.postId = :postId")
+    Optional<PostStats> findByPostIdForUpdate(@Param("postId") Long postId);
+
+    // Birden fazla postun istatistiklerini getir
+    List<PostStats> findByPostIdIn(Collection<Long> postIds);
+
+    // Yayınlanmış postların puan toplamları, sayıları ve kategorileri (sıralama için)
+    @Query("SELECT s.postId, s.ratingSum, s.ratingCount, c.id FROM PostStats s JOIN s.post p " +
+           "LEFT JOIN p.category c WHERE p.isPublished = true")
+    List<Object[]> findPublishedRatingTotals();
+
+    // Tek postun güncel puan toplamı, sayısı ve kategorisi (yayınlanmamışsa boş)
+    @Query("SELECT s.postId, s.ratingSum, s.ratingCount, c.id FROM PostStats s JOIN s.post p " +
+           "LEFT JOIN p.category c WHERE s.postId = :postId AND p.isPublished = true")
+    List<Object[]> findPublishedRatingTotals(@Param("postId") Long postId);
+
+    // İstatistik kaydı olmayan postların ID'leri
+    @Query("SELECT p.id FROM Post p WHERE NOT EXISTS (SELECT 1 FROM PostStats s WHERE s.postId = p.id)")
+    List<Long> findPostIdsWithoutStats();
+}
@@ -23,6 +23,10 @@ public interface RatingRepository extends JpaRepository<Rating, Long> {
     @Query("SELECT r FROM Rating r WHERE r.user.id = :userId AND r.post.id = :postId")
     Optional<Rating> findByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
 
+    // Kullanıcının bir posta verdiği puan değeri (entity yüklemeden)
+    @Query("SELECT r.score FROM Rating r WHERE r.user.id = :userId AND r.post.id = :postId")
+    Optional<Integer> findScoreByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
+
     // Kullanıcının bu postu daha önce puanlayıp puanlamadığını kontrol et
     boolean existsByUserAndPost(User user, Post post);
 
@@ -38,6 +42,14 @@ public interface RatingRepository extends JpaRepository<Rating, Long> {
     @Query("SELECT r.score, COUNT(r) FROM Rating r WHERE r.post.id = :postId GROUP BY r.score ORDER BY r.score")
     java.util.List<Object[]> getRatingDistributionByPostId(@Param("postId") Long postId);
 
+    // Postlara göre puan dağılımı (istatistik yeniden hesaplama için)
+    @Query("SELECT r.post.id, r.score, COUNT(r) FROM Rating r WHERE r.post.id IN :postIds GROUP BY r.post.id, r.score")
+    java.util.List<Object[]> countByPostIdsAndScore(@Param("postIds") java.util.Collection<Long> postIds);
+
+    // Kullanıcının puan verdiği postların ID'leri
+    @Query("SELECT DISTINCT r.post.id FROM Rating r WHERE r.user.id = :userId")
+    java.util.List<Long> findPostIdsByUserId(@Param("userId") Long userId);
+
     // Bir kullanıcının verdiği tüm puanları getir
     java.util.List<Rating> findByUser(User user);
 
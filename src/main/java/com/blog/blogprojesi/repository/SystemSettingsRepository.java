@@ -1,7 +1,13 @@
 package com.blog.blogprojesi.repository;
 
 import com.blog.blogprojesi.entity.SystemSettings;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -15,4 +21,16 @@ public interface SystemSettingsRepository extends JpaRepository<SystemSettings,
     Optional<SystemSettings> findBySettingKey(String settingKey);
 
     boolean existsBySettingKey(String settingKey);
+
+    // Sadece bir ayarın değerini getir (entity yüklemeden)
+    @Query("SELECT s.settingValue FROM SystemSettings s WHERE s.settingKey = :key")
+    Optional<String> findValueBySettingKey(@Param("key") String settingKey);
+
+    // Sayısal bir ayarı veritabanında atomik olarak bir artır
+    // (etkilenen tablo bildirilir; yoksa Hibernate tüm ikinci seviye önbelleği boşaltır)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "system_settings"))
+    @Query(value = "UPDATE system_settings SET setting_value = CAST(CAST(setting_value AS BIGINT) + 1 AS TEXT), " +
+                   "updated_at = CURRENT_TIMESTAMP WHERE setting_key = :key", nativeQuery = true)
+    int incrementNumericSetting(@Param("key") String settingKey);
 }
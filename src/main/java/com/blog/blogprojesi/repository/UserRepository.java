@@ -70,4 +70,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT FUNCTION('DATE', u.createdAt) as regDate, COUNT(u) as count FROM User u " +
            "WHERE u.createdAt >= :startDate GROUP BY FUNCTION('DATE', u.createdAt) ORDER BY regDate DESC")
     List<Object[]> countRegistrationsByDay(@Param("startDate") LocalDateTime startDate);
+
+    // Tüm kullanıcıların istatistik için gereken durumu: id, rol, aktif mi, kayıt tarihi
+    @Query("SELECT u.id, u.role, u.isEnabled, u.createdAt FROM User u")
+    List<Object[]> findAllUserStates();
+
+    // Tek bir kullanıcının istatistik durumu
+    @Query("SELECT u.id, u.role, u.isEnabled, u.createdAt FROM User u WHERE u.id = :id")
+    List<Object[]> findUserState(@Param("id") Long id);
 }
@@ -0,0 +1,241 @@
+package com.blog.blogprojesi.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bellek içi ters indeks (terim → doküman) ve BM25 sıralaması
+ * Alanlar ağırlıklandırılarak tek bir terim frekansında birleştirilir
+ * (başlık > kategori > özet > içerik). Eşzamanlı okuma için read/write lock kullanır.
+ */
+public class InvertedIndex {
+
+    private static final int FORMAT_VERSION = 2; // 2: terimlerde ı → i katlaması
+    private static final int MAGIC = 0x424C4958; // "BLIX"
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float CATEGORY_WEIGHT = 2.0f;
+    private static final float EXCERPT_WEIGHT = 1.5f;
+    private static final float CONTENT_WEIGHT = 1.0f;
+
+    // BM25 parametreleri
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Terim → (doküman ID → ağırlıklı terim frekansı)
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+
+    // Doküman ID → terim frekansları (silme ve kalıcı kayıt için)
+    private final Map<Long, Map<String, Float>> documents = new HashMap<>();
+
+    // Doküman ID → ağırlıklı doküman uzunluğu
+    private final Map<Long, Float> documentLengths = new HashMap<>();
+
+    private double totalLength = 0.0;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Dokümanı indeksle (varsa önce eski hali silinir)
+     */
+    public void index(long documentId, String title, String category, String excerpt, String content) {
+        Map<String, Float> termFrequencies = new HashMap<>();
+        float length = 0f;
+        length += addField(termFrequencies, title, TITLE_WEIGHT);
+        length += addField(termFrequencies, category, CATEGORY_WEIGHT);
+        length += addField(termFrequencies, excerpt, EXCERPT_WEIGHT);
+        length += addField(termFrequencies, content, CONTENT_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(documentId);
+            putInternal(documentId, termFrequencies, length);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Dokümanı indeksten çıkar
+     */
+    public void remove(long documentId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Tüm indeksi temizle
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            documentLengths.clear();
+            totalLength = 0.0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sorguyu BM25 ile puanla, en yüksek puandan düşüğe sıralı sonuç döndür
+     */
+    public List<SearchHit> search(String query) {
+        Set<String> terms = new LinkedHashSet<>(TurkishAnalyzer.analyze(query));
+        if (terms.isEmpty()) return List.of();
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) return List.of();
+            double averageLength = totalLength / documentCount;
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<Long, Float> termPostings = postings.get(term);
+                if (termPostings == null) continue;
+
+                int documentFrequency = termPostings.size();
+                double idf = Math.log(1.0 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                for (Map.Entry<Long, Float> posting : termPostings.entrySet()) {
+                    double tf = posting.getValue();
+                    double length = documentLengths.get(posting.getKey());
+                    double norm = K1 * (1.0 - B + B * length / averageLength);
+                    double score = idf * (tf * (K1 + 1.0)) / (tf + norm);
+                    scores.merge(posting.getKey(), score, Double::sum);
+                }
+            }
+
+            List<SearchHit> hits = new ArrayList<>(scores.size());
+            scores.forEach((id, score) -> hits.add(new SearchHit(id, score)));
+            hits.sort(Comparator.comparingDouble(SearchHit::getScore).reversed()
+                    .thenComparing(SearchHit::getDocumentId, Comparator.reverseOrder()));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * İndeksi ikili formatta yaz (terim frekansları saklanır, yeniden tokenizasyon gerekmez)
+     */
+    public void writeTo(DataOutputStream out, String fingerprint) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(fingerprint);
+            out.writeInt(documents.size());
+            for (Map.Entry<Long, Map<String, Float>> document : documents.entrySet()) {
+                out.writeLong(document.getKey());
+                out.writeFloat(documentLengths.get(document.getKey()));
+                out.writeInt(document.getValue().size());
+                for (Map.Entry<String, Float> term : document.getValue().entrySet()) {
+                    out.writeUTF(term.getKey());
+                    out.writeFloat(term.getValue());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * İndeksi ikili formattan oku
+     * Dosya formatı veya parmak izi beklenenle uyuşmazsa false döner ve indeks değişmez
+     */
+    public boolean readFrom(DataInputStream in, String expectedFingerprint) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) return false;
+        if (!in.readUTF().equals(expectedFingerprint)) return false;
+
+        int documentCount = in.readInt();
+        Map<Long, Map<String, Float>> loadedDocuments = new HashMap<>(documentCount * 2);
+        Map<Long, Float> loadedLengths = new HashMap<>(documentCount * 2);
+        for (int i = 0; i < documentCount; i++) {
+            long documentId = in.readLong();
+            loadedLengths.put(documentId, in.readFloat());
+            int termCount = in.readInt();
+            Map<String, Float> termFrequencies = new HashMap<>(termCount * 2);
+            for (int j = 0; j < termCount; j++) {
+                termFrequencies.put(in.readUTF(), in.readFloat());
+            }
+            loadedDocuments.put(documentId, termFrequencies);
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            documentLengths.clear();
+            totalLength = 0.0;
+            loadedDocuments.forEach((id, terms) -> putInternal(id, terms, loadedLengths.get(id)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return true;
+    }
+
+    private float addField(Map<String, Float> termFrequencies, String text, float weight) {
+        List<String> tokens = TurkishAnalyzer.analyze(text);
+        for (String token : tokens) {
+            termFrequencies.merge(token, weight, Float::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    private void putInternal(long documentId, Map<String, Float> termFrequencies, float length) {
+        documents.put(documentId, termFrequencies);
+        documentLengths.put(documentId, length);
+        totalLength += length;
+        for (Map.Entry<String, Float> term : termFrequencies.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), t -> new HashMap<>()).put(documentId, term.getValue());
+        }
+    }
+
+    private void removeInternal(long documentId) {
+        Map<String, Float> termFrequencies = documents.remove(documentId);
+        if (termFrequencies == null) return;
+        totalLength -= documentLengths.remove(documentId);
+        for (String term : termFrequencies.keySet()) {
+            Map<Long, Float> termPostings = postings.get(term);
+            if (termPostings == null) continue;
+            termPostings.remove(documentId);
+            if (termPostings.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+}
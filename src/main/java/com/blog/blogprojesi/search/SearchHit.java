@@ -0,0 +1,15 @@
+package com.blog.blogprojesi.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Arama sonucu: doküman (post) ID'si ve BM25 puanı
+ */
+@Getter
+@AllArgsConstructor
+public class SearchHit {
+
+    private final long documentId;
+    private final double score;
+}
@@ -0,0 +1,83 @@
+package com.blog.blogprojesi.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Türkçe metin çözümleyici
+ * Metni kelimelere ayırır, Türkçe kurallarıyla küçük harfe çevirir ve ı/i farkını
+ * kaldırır (I, ı, İ, i → i; böylece "Index" ile "index", "ılık" ile "ILIK" eşleşir),
+ * kesme işaretinden sonraki ekleri atar ("İstanbul'da" → "istanbul") ve
+ * anlam taşımayan bağlaçları/edatları eler.
+ */
+public final class TurkishAnalyzer {
+
+    private static final Locale TURKISH = Locale.forLanguageTag("tr-TR");
+
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int MAX_TOKEN_LENGTH = 64;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "ve", "veya", "ile", "ama", "fakat", "ancak", "de", "da", "ki", "mi", "mu", "mü",
+            "bir", "bu", "şu", "o", "için", "gibi", "daha", "çok", "en", "ne", "her", "olan", "olarak",
+            "diye", "ise", "kadar", "sonra", "önce", "göre", "the", "and", "or", "of", "to", "in", "is", "a", "an"
+    );
+
+    private TurkishAnalyzer() {
+    }
+
+    /**
+     * Metni arama terimlerine ayır
+     */
+    public static List<String> analyze(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        StringBuilder current = new StringBuilder();
+        boolean skippingSuffix = false;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (!skippingSuffix) {
+                    current.append(c);
+                }
+            } else if (isApostrophe(c) && current.length() > 0) {
+                // Kesme işaretinden sonraki çekim ekini atla
+                skippingSuffix = true;
+            } else {
+                addToken(tokens, current);
+                skippingSuffix = false;
+            }
+        }
+        addToken(tokens, current);
+        return tokens;
+    }
+
+    /**
+     * Tek bir kelimeyi Türkçe kurallarına göre küçük harfe çevir
+     * Noktasız ı da i'ye katlanır: Türkçe yazılmış İngilizce terimler ("INDEX" → "ındex")
+     * ile klavyede Türkçe karakter kullanmadan yazılan aramalar aynı terime düşer.
+     * Stop word listesi zaten katlanmış biçimde tutulur ("mı" → "mi").
+     */
+    public static String fold(String word) {
+        return word.toLowerCase(TURKISH).replace('ı', 'i');
+    }
+
+    private static void addToken(List<String> tokens, StringBuilder current) {
+        if (current.length() == 0) return;
+        String token = fold(current.toString());
+        current.setLength(0);
+        if (token.length() < MIN_TOKEN_LENGTH || token.length() > MAX_TOKEN_LENGTH) return;
+        if (STOP_WORDS.contains(token)) return;
+        tokens.add(token);
+    }
+
+    private static boolean isApostrophe(char c) {
+        return c == '\'' || c == '\u2019';
+    }
+}
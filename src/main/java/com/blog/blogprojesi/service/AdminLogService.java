@@ -4,33 +4,87 @@ import com.blog.blogprojesi.entity.AdminLog;
 import com.blog.blogprojesi.entity.AdminLog.AdminActionType;
 import com.blog.blogprojesi.entity.User;
 import com.blog.blogprojesi.repository.AdminLogRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Admin Log Service
- * Admin işlemlerini loglar
+ * Admin işlemlerini loglar.
+ * Kayıtlar çağıranın transaction'ı commit edildikten sonra sınırlı bir kuyruğa alınır ve arka planda
+ * çok satırlı INSERT'lerle toplu yazılır; geri alınan işlemler loglanmaz. Kuyruk doluysa kayıt
+ * kısa bir süre bekletilir, yine yer açılmazsa çağıran iş parçacığında yazılır (kayıt atılmaz).
+ * Uygulama kapanırken kuyruktaki tüm kayıtlar yazılır.
  */
 @Service
 @RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class AdminLogService {
 
+    private static final String INSERT_PREFIX = "INSERT INTO admin_logs (admin_id, admin_username, action, " +
+            "action_type, target_type, target_id, details, ip_address, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Tek INSERT'teki en fazla satır (PostgreSQL parametre sınırının altında kalır)
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
     private final AdminLogRepository adminLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${blog.admin-log.queue-capacity:5000}")
+    private int queueCapacity;
+
+    @Value("${blog.admin-log.batch-size:100}")
+    private int batchSize;
+
+    @Value("${blog.admin-log.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${blog.admin-log.offer-timeout-ms:100}")
+    private long offerTimeoutMs;
+
+    private AsyncBatchWriter<AdminLog> logWriter;
+
+    @PostConstruct
+    void init() {
+        logWriter = new AsyncBatchWriter<>("admin-log", queueCapacity,
+                Math.min(batchSize, MAX_ROWS_PER_STATEMENT), Duration.ofMillis(flushIntervalMs),
+                Duration.ofMillis(offerTimeoutMs), AsyncBatchWriter.OverflowPolicy.CALLER_RUNS, this::insertBatch);
+    }
+
+    /**
+     * Kapanışta kuyruktaki tüm kayıtları yaz
+     */
+    @PreDestroy
+    void shutdown() {
+        logWriter.close();
+        log.info("Admin log writer closed ({} written, {} written by callers on overflow, {} failed)",
+                logWriter.getWritten(), logWriter.getOverflowed(), logWriter.getFailed());
+    }
 
     /**
-     * Admin işlemini logla
+     * Admin işlemini logla (commit sonrasında kuyruğa alınır)
      */
-    public AdminLog logAction(User admin, AdminActionType actionType, String action, 
-                               String targetType, Long targetId, String details, String ipAddress) {
+    public void logAction(User admin, AdminActionType actionType, String action,
+                          String targetType, Long targetId, String details, String ipAddress) {
         AdminLog adminLog = AdminLog.builder()
                 .adminId(admin.getId())
                 .adminUsername(admin.getUsername())
@@ -40,11 +94,20 @@ public class AdminLogService {
                 .targetId(targetId)
                 .details(details)
                 .ipAddress(ipAddress)
+                .createdAt(LocalDateTime.now())
                 .build();
 
-        AdminLog savedLog = adminLogRepository.save(adminLog);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    logWriter.submit(adminLog);
+                }
+            });
+        } else {
+            logWriter.submit(adminLog);
+        }
         log.info("Admin action logged: {} - {} by {}", actionType, action, admin.getUsername());
-        return savedLog;
     }
 
     /**
@@ -130,4 +193,44 @@ public class AdminLogService {
         LocalDateTime today = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
         return adminLogRepository.countTodayLogins(today);
     }
+
+    /**
+     * Yazılmayı bekleyen log sayısı
+     */
+    public int getPendingLogCount() {
+        return logWriter.getQueued();
+    }
+
+    /**
+     * Bir grup logu çok satırlı INSERT'lerle yaz
+     */
+    private void insertBatch(List<AdminLog> logs) {
+        for (int from = 0; from < logs.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<AdminLog> chunk = logs.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, logs.size()));
+            String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDERS));
+            jdbcTemplate.update(sql, ps -> {
+                int index = 1;
+                for (AdminLog adminLog : chunk) {
+                    index = bindRow(ps, index, adminLog);
+                }
+            });
+        }
+    }
+
+    private int bindRow(PreparedStatement ps, int index, AdminLog adminLog) throws SQLException {
+        ps.setLong(index++, adminLog.getAdminId());
+        ps.setString(index++, adminLog.getAdminUsername());
+        ps.setString(index++, adminLog.getAction());
+        ps.setString(index++, adminLog.getActionType().name());
+        ps.setString(index++, adminLog.getTargetType());
+        if (adminLog.getTargetId() != null) {
+            ps.setLong(index++, adminLog.getTargetId());
+        } else {
+            ps.setNull(index++, Types.BIGINT);
+        }
+        ps.setString(index++, adminLog.getDetails());
+        ps.setString(index++, adminLog.getIpAddress());
+        ps.setTimestamp(index++, Timestamp.valueOf(adminLog.getCreatedAt()));
+        return index;
+    }
 }
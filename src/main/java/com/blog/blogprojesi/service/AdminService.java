@@ -1,17 +1,24 @@
 package com.blog.blogprojesi.service;
 
+import com.blog.blogprojesi.dto.PostCard;
 import com.blog.blogprojesi.entity.*;
 import com.blog.blogprojesi.entity.AdminLog.AdminActionType;
+import com.blog.blogprojesi.event.CommentChangedEvent;
+import com.blog.blogprojesi.event.PostChangedEvent;
+import com.blog.blogprojesi.event.UserChangedEvent;
 import com.blog.blogprojesi.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -29,6 +36,11 @@ public class AdminService {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final AdminLogService adminLogService;
+    private final PostStatsService postStatsService;
+    private final CategoryService categoryService;
+    private final SiteStatisticsRegistry siteStatistics;
+    private final TopicsService topicsService;
+    private final ApplicationEventPublisher eventPublisher;
     private final PasswordEncoder passwordEncoder;
 
     // ==================== USER MANAGEMENT ====================
@@ -75,6 +87,7 @@ public class AdminService {
         boolean wasEnabled = user.isEnabled();
         user.setEnabled(!wasEnabled);
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(userId));
 
         AdminActionType actionType = wasEnabled ? AdminActionType.USER_DISABLE : AdminActionType.USER_ENABLE;
         String action = wasEnabled ? "Kullanıcı pasif yapıldı" : "Kullanıcı aktif yapıldı";
@@ -99,6 +112,7 @@ public class AdminService {
         Role oldRole = user.getRole();
         user.setRole(newRole);
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(userId));
 
         String action = String.format("Kullanıcı rolü değiştirildi: %s -> %s", oldRole, newRole);
         adminLogService.logUserAction(admin, AdminActionType.USER_ROLE_CHANGE, user, action, ipAddress);
@@ -133,7 +147,14 @@ public class AdminService {
                                    "Kullanıcı silindi: " + username, 
                                    "USER", userId, null, ipAddress);
 
+        // Kullanıcının puan, yorum ve yer imleri silineceği için etkilenen postları sonra yeniden hesapla
+        Set<Long> touchedPostIds = postStatsService.findPostIdsTouchedByUser(userId);
+        List<Long> authoredPostIds = postRepository.findIdsByAuthorId(userId);
         userRepository.delete(user);
+        userRepository.flush();
+        postStatsService.refresh(touchedPostIds);
+        categoryService.recountPublishedPosts();
+        eventPublisher.publishEvent(UserChangedEvent.deleted(userId, authoredPostIds));
         log.info("User {} deleted by admin {}", username, admin.getUsername());
     }
 
@@ -162,6 +183,7 @@ public class AdminService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.created(savedUser.getId()));
 
         adminLogService.logUserAction(admin, AdminActionType.USER_CREATE, savedUser, 
                                        "Yeni kullanıcı oluşturuldu", ipAddress);
@@ -190,6 +212,7 @@ public class AdminService {
         if (bio != null) user.setBio(bio);
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(userId));
 
         adminLogService.logUserAction(admin, AdminActionType.USER_UPDATE, savedUser, 
                                        "Kullanıcı bilgileri güncellendi", ipAddress);
@@ -220,8 +243,8 @@ public class AdminService {
      * Tüm postları getir (sayfalama ile)
      */
     @Transactional(readOnly = true)
-    public Page<Post> getAllPosts(int page, int size) {
-        return postRepository.findAll(PageRequest.of(page, size));
+    public Page<PostCard> getAllPosts(int page, int size) {
+        return postRepository.findAllCards(PageRequest.of(page, size));
     }
 
     /**
@@ -250,6 +273,8 @@ public class AdminService {
         boolean wasPublished = post.isPublished();
         post.setPublished(!wasPublished);
         Post savedPost = postRepository.save(post);
+        categoryService.updatePublishedCounts(post.getCategory(), wasPublished, post.getCategory(), !wasPublished);
+        eventPublisher.publishEvent(PostChangedEvent.publishChanged(postId));
 
         AdminActionType actionType = wasPublished ? AdminActionType.POST_UNPUBLISH : AdminActionType.POST_PUBLISH;
         String action = wasPublished ? "Post gizlendi" : "Post yayınlandı";
@@ -269,6 +294,7 @@ public class AdminService {
         boolean wasFeatured = post.isFeatured();
         post.setFeatured(!wasFeatured);
         Post savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(PostChangedEvent.updated(postId));
 
         String action = wasFeatured ? "Post öne çıkarmadan kaldırıldı" : "Post öne çıkarıldı";
         adminLogService.logPostAction(admin, AdminActionType.POST_FEATURE, postId, action, ipAddress);
@@ -288,7 +314,9 @@ public class AdminService {
         adminLogService.logPostAction(admin, AdminActionType.POST_DELETE, postId, 
                                        "Post silindi: " + title, ipAddress);
 
+        categoryService.updatePublishedCounts(post.getCategory(), post.isPublished(), null, false);
         postRepository.delete(post);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(postId));
         log.info("Post {} deleted by admin {}", postId, admin.getUsername());
     }
 
@@ -301,19 +329,17 @@ public class AdminService {
                 .orElseThrow(() -> new RuntimeException("Post bulunamadı"));
 
         if (title != null) post.setTitle(title);
-        if (content != null) {
-            post.setContent(content);
-            if (content.length() > 200) {
-                post.setExcerpt(content.substring(0, 200) + "...");
-            } else {
-                post.setExcerpt(content);
-            }
+        if (content != null) post.setContent(content);
+        if (category != null) {
+            Category previousCategory = post.getCategory();
+            post.setCategory(categoryService.resolve(category));
+            categoryService.updatePublishedCounts(previousCategory, post.isPublished(), post.getCategory(), post.isPublished());
         }
-        if (category != null) post.setCategory(category);
         post.setCommentsEnabled(commentsEnabled);
         post.setUpdatedAt(LocalDateTime.now());
 
         Post savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(PostChangedEvent.updated(postId));
 
         adminLogService.logPostAction(admin, AdminActionType.POST_UPDATE, postId, 
                                        "Post güncellendi", ipAddress);
@@ -343,7 +369,9 @@ public class AdminService {
                                    "Yorum silindi", "COMMENT", commentId, 
                                    "Post ID: " + comment.getPost().getId(), ipAddress);
 
+        postStatsService.recordCommentRemoved(comment.getPost().getId());
         commentRepository.delete(comment);
+        eventPublisher.publishEvent(CommentChangedEvent.deleted(commentId, comment.getPost().getId()));
         log.info("Comment {} deleted by admin {}", commentId, admin.getUsername());
     }
 
@@ -351,42 +379,39 @@ public class AdminService {
 
     /**
      * Dashboard istatistiklerini getir
+     * Sayaçlar istatistik kaydından, kategori sayıları konular görüntüsünden okunur
      */
     @Transactional(readOnly = true)
     public Map<String, Object> getDashboardStats() {
         Map<String, Object> stats = new HashMap<>();
 
-        LocalDateTime today = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
-        LocalDateTime startOfMonth = today.withDayOfMonth(1);
-        LocalDateTime last7Days = today.minusDays(7);
-        LocalDateTime last30Days = today.minusDays(30);
+        LocalDateTime last7Days = LocalDateTime.now().toLocalDate().atStartOfDay().minusDays(7);
 
         // Kullanıcı istatistikleri
-        stats.put("totalUsers", userRepository.count());
-        stats.put("totalAdmins", userRepository.countByRole(Role.ADMIN));
-        stats.put("activeUsers", userRepository.countByIsEnabled(true));
-        stats.put("newUsersToday", userRepository.countUsersRegisteredToday(today));
-        stats.put("newUsersThisMonth", userRepository.countUsersRegisteredThisMonth(startOfMonth));
+        stats.put("totalUsers", siteStatistics.getTotalUsers());
+        stats.put("totalAdmins", siteStatistics.getUserCount(Role.ADMIN));
+        stats.put("activeUsers", siteStatistics.getEnabledUsers());
+        stats.put("newUsersToday", siteStatistics.getRegistrationsToday());
+        stats.put("newUsersThisMonth", siteStatistics.getRegistrationsThisMonth());
 
         // Post istatistikleri
-        stats.put("totalPosts", postRepository.count());
-        stats.put("publishedPosts", postRepository.countByIsPublishedTrue());
-        stats.put("featuredPosts", postRepository.findByIsFeaturedTrueAndIsPublishedTrueOrderByCreatedAtDesc().size());
+        stats.put("totalPosts", siteStatistics.getTotalPosts());
+        stats.put("publishedPosts", siteStatistics.getPublishedPosts());
+        stats.put("featuredPosts", siteStatistics.getFeaturedPosts());
 
         // Yorum istatistikleri
-        stats.put("totalComments", commentRepository.count());
+        stats.put("totalComments", siteStatistics.getTotalComments());
 
         // Son kayıt olanlar
         stats.put("recentUsers", userRepository.findUsersRegisteredSince(last7Days));
 
-        // Kategori istatistikleri
-        List<Object[]> categoryStats = postRepository.countByCategory();
+        // Kategori istatistikleri (varsayılan kategoriler için eklenen sıfırlar hariç)
         Map<String, Long> categoryMap = new LinkedHashMap<>();
-        for (Object[] row : categoryStats) {
-            if (row[0] != null) {
-                categoryMap.put((String) row[0], (Long) row[1]);
+        topicsService.getSnapshot().getCategoryCount().forEach((category, count) -> {
+            if (count > 0) {
+                categoryMap.put(category, count);
             }
-        }
+        });
         stats.put("categoryStats", categoryMap);
 
         return stats;
@@ -395,18 +420,17 @@ public class AdminService {
     /**
      * Son 30 günlük kayıt grafiği verileri
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Map<String, Object>> getRegistrationChartData() {
-        LocalDateTime last30Days = LocalDateTime.now().minusDays(30);
-        List<Object[]> data = userRepository.countRegistrationsByDay(last30Days);
+        Map<LocalDate, Long> data = siteStatistics.getRegistrationsByDaySince(LocalDate.now().minusDays(30));
 
         List<Map<String, Object>> chartData = new ArrayList<>();
-        for (Object[] row : data) {
+        data.forEach((date, count) -> {
             Map<String, Object> point = new HashMap<>();
-            point.put("date", row[0].toString());
-            point.put("count", row[1]);
+            point.put("date", date.toString());
+            point.put("count", count);
             chartData.add(point);
-        }
+        });
         return chartData;
     }
 
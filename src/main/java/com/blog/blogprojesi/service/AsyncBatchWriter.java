@@ -0,0 +1,231 @@
+package com.blog.blogprojesi.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Arka planda toplu yazan sınırlı kuyruk (write-behind)
+ * Kayıtlar sınırlı bir kuyruğa alınır; tek bir arka plan iş parçacığı kuyruğu batchSize kayıt
+ * birikince veya ilk kaydın üzerinden flushInterval geçince tek seferde yazıcıya verir.
+ * Kuyruk doluysa kayıt offerTimeout kadar bekletilir, yine yer açılmazsa taşma politikası uygulanır.
+ * {@link #close()} kuyruktaki tüm kayıtları yazdıktan sonra döner; kapandıktan sonra gelen kayıtlar
+ * politikaya göre çağıran iş parçacığında yazılır veya atılır.
+ * CALLER_RUNS yazıcılarında kapanış sırasında başarısız olan grup artan beklemelerle yeniden denenir;
+ * yine yazılamazsa kayıtlar kaybolmasın diye tek tek hata loguna dökülür.
+ */
+@Slf4j
+public final class AsyncBatchWriter<T> implements AutoCloseable {
+
+    /**
+     * Kuyruk dolduğunda ne yapılacağı
+     */
+    public enum OverflowPolicy {
+        // Kayıt atılır ve sayılır (kaybı kabul edilebilir, çağıranı asla bekletmeyen kayıtlar)
+        DROP,
+        // Kayıt çağıran iş parçacığında tek başına yazılır (kaybı kabul edilemeyen kayıtlar)
+        CALLER_RUNS
+    }
+
+    // Kapanışta başarısız grup için deneme sayısı ve ilk bekleme (her denemede iki katına çıkar)
+    private static final int DRAIN_MAX_ATTEMPTS = 6;
+    private static final long DRAIN_INITIAL_BACKOFF_MILLIS = 250;
+
+    private final String name;
+    private final Consumer<List<T>> writer;
+    private final BlockingQueue<T> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+    private final OverflowPolicy overflowPolicy;
+    private final Thread worker;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong overflowed = new AtomicLong();
+
+    private volatile boolean closed;
+
+    public AsyncBatchWriter(String name, int capacity, int batchSize, Duration flushInterval,
+                            Duration offerTimeout, OverflowPolicy overflowPolicy, Consumer<List<T>> writer) {
+        this.name = name;
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMillis = Math.max(1L, flushInterval.toMillis());
+        this.offerTimeoutMillis = Math.max(0L, offerTimeout.toMillis());
+        this.overflowPolicy = overflowPolicy;
+        this.worker = new Thread(this::run, name + "-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Kaydı yazılmak üzere kuyruğa al
+     * @return kayıt kuyruğa alındıysa veya yazıldıysa true, atıldıysa false
+     */
+    public boolean submit(T item) {
+        if (!closed) {
+            try {
+                if (queue.offer(item) || (offerTimeoutMillis > 0 && queue.offer(item, offerTimeoutMillis, TimeUnit.MILLISECONDS))) {
+                    // Kapanış bu sırada tamamlandıysa kayıt kuyrukta kalmasın
+                    if (closed) {
+                        drainRemaining();
+                    }
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            overflowed.incrementAndGet();
+        }
+
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            write(List.of(item));
+            return true;
+        }
+        long count = dropped.incrementAndGet();
+        // Taşma sırasında her kayıt için log basılmaz
+        if (Long.bitCount(count) == 1) {
+            log.warn("{} queue full, {} records dropped so far", name, count);
+        }
+        return false;
+    }
+
+    /**
+     * Kuyruktaki kayıtları yaz ve arka plan iş parçacığını durdur
+     */
+    @Override
+    public void close() {
+        closed = true;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // İş parçacığı zamanında bitmediyse kalanları burada yaz
+        drainRemaining();
+    }
+
+    public int getQueued() {
+        return queue.size();
+    }
+
+    public long getWritten() {
+        return written.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    public long getOverflowed() {
+        return overflowed.get();
+    }
+
+    private void run() {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (!closed) {
+            try {
+                T first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.currentTimeMillis() + flushIntervalMillis;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long wait = deadline - System.currentTimeMillis();
+                    if (batch.size() >= batchSize || wait <= 0) {
+                        break;
+                    }
+                    T next = queue.poll(wait, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // close(): toplanan kayıtlar aşağıda yazılır, kalanlar drainRemaining ile
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        drainRemaining();
+    }
+
+    private void drainRemaining() {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Bir grubu yaz; hata durumunda bir kez daha dener, yine başarısız olursa grubu atar
+     * Kaybı kabul edilemeyen kayıtlar kapanışta artan beklemelerle daha çok denenir ve
+     * sonunda yazılamazlarsa loga dökülür.
+     */
+    private void write(List<T> batch) {
+        boolean draining = closed && overflowPolicy == OverflowPolicy.CALLER_RUNS;
+        int maxAttempts = draining ? DRAIN_MAX_ATTEMPTS : 2;
+        long backoffMillis = DRAIN_INITIAL_BACKOFF_MILLIS;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                writer.accept(batch);
+                written.addAndGet(batch.size());
+                return;
+            } catch (Exception e) {
+                if (attempt == maxAttempts) {
+                    failed.addAndGet(batch.size());
+                    log.error("{} batch of {} records could not be written: {}", name, batch.size(), e.getMessage());
+                    if (draining) {
+                        for (T item : batch) {
+                            log.error("{} unwritten record: {}", name, item);
+                        }
+                    }
+                } else if (draining) {
+                    log.warn("{} batch of {} records failed during shutdown (attempt {}), retrying in {} ms: {}",
+                            name, batch.size(), attempt, backoffMillis, e.getMessage());
+                    sleepUninterruptibly(backoffMillis);
+                    backoffMillis *= 2;
+                }
+            }
+        }
+    }
+
+    /**
+     * Kapanışta iş parçacığı close() tarafından kesilmiş olabilir; bekleme yine de tamamlanır
+     */
+    private static void sleepUninterruptibly(long millis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        boolean interrupted = false;
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,19 +1,30 @@
 package com.blog.blogprojesi.service;
 
+import com.blog.blogprojesi.dto.PostCard;
 import com.blog.blogprojesi.entity.Bookmark;
 import com.blog.blogprojesi.entity.Post;
 import com.blog.blogprojesi.entity.User;
 import com.blog.blogprojesi.repository.BookmarkRepository;
 import com.blog.blogprojesi.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Bookmark (Yer İmi) işlemleri için Service sınıfı
+ * Kullanıcı başına yer imli post ID kümesi bellekte tutulur (LRU, sınırlı boyut);
+ * liste sayfaları yer imi durumunu post başına sorgu atmadan bu kümeden okur.
  */
 @Service
 @RequiredArgsConstructor
@@ -22,6 +33,21 @@ public class BookmarkService {
 
     private final BookmarkRepository bookmarkRepository;
     private final PostRepository postRepository;
+    private final PostStatsService postStatsService;
+
+    @Value("${blog.bookmarks.cache-size:10000}")
+    private int cacheSize;
+
+    // Kullanıcı ID -> yer imli post kümesi (erişim sırasına göre LRU)
+    private final Map<Long, BookmarkedPostSet> bookmarkedPostCache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, BookmarkedPostSet> eldest) {
+            return size() > cacheSize;
+        }
+    };
+
+    // Her yer imi değişikliğinde artar; eşzamanlı yüklemenin eski veriyi önbelleğe yazmasını engeller
+    private final AtomicLong modificationCount = new AtomicLong();
 
     /**
      * Post'u yer imlerine ekle
@@ -35,12 +61,15 @@ public class BookmarkService {
             throw new RuntimeException("Bu gönderi zaten yer imlerinde");
         }
 
+        postStatsService.recordBookmarkAdded(postId);
         Bookmark bookmark = Bookmark.builder()
                 .user(user)
                 .post(post)
                 .build();
 
-        return bookmarkRepository.save(bookmark);
+        Bookmark savedBookmark = bookmarkRepository.save(bookmark);
+        updateCacheAfterCommit(user.getId(), postId, true);
+        return savedBookmark;
     }
 
     /**
@@ -51,7 +80,11 @@ public class BookmarkService {
                 .orElseThrow(() -> new RuntimeException("Post bulunamadı"));
 
         bookmarkRepository.findByUserAndPost(user, post)
-                .ifPresent(bookmarkRepository::delete);
+                .ifPresent(bookmark -> {
+                    postStatsService.recordBookmarkRemoved(postId);
+                    bookmarkRepository.delete(bookmark);
+                    updateCacheAfterCommit(user.getId(), postId, false);
+                });
     }
 
     /**
@@ -62,14 +95,18 @@ public class BookmarkService {
                 .orElseThrow(() -> new RuntimeException("Post bulunamadı"));
 
         if (bookmarkRepository.existsByUserAndPost(user, post)) {
+            postStatsService.recordBookmarkRemoved(postId);
             bookmarkRepository.deleteByUserAndPost(user, post);
+            updateCacheAfterCommit(user.getId(), postId, false);
             return false; // Yer imi kaldırıldı
         } else {
+            postStatsService.recordBookmarkAdded(postId);
             Bookmark bookmark = Bookmark.builder()
                     .user(user)
                     .post(post)
                     .build();
             bookmarkRepository.save(bookmark);
+            updateCacheAfterCommit(user.getId(), postId, true);
             return true; // Yer imi eklendi
         }
     }
@@ -86,11 +123,8 @@ public class BookmarkService {
      * Kullanıcının yer imli postlarını getir
      */
     @Transactional(readOnly = true)
-    public List<Post> getBookmarkedPosts(User user) {
-        return bookmarkRepository.findByUserIdWithPost(user.getId())
-                .stream()
-                .map(Bookmark::getPost)
-                .collect(Collectors.toList());
+    public List<PostCard> getBookmarkedPosts(User user) {
+        return bookmarkRepository.findPostCardsByUserId(user.getId());
     }
 
     /**
@@ -98,7 +132,24 @@ public class BookmarkService {
      */
     @Transactional(readOnly = true)
     public boolean isBookmarked(User user, Long postId) {
-        return bookmarkRepository.existsByUserIdAndPostId(user.getId(), postId);
+        return getBookmarkedPostSet(user.getId()).contains(postId);
+    }
+
+    /**
+     * Verilen postlardan kullanıcının yer imine eklediklerini döndür
+     * Küme önbellekte yoksa tek sorguyla yüklenir, sonraki çağrılar veritabanına gitmez
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findBookmarkedPostIds(User user, Collection<Long> postIds) {
+        if (user == null || postIds.isEmpty()) return Set.of();
+        BookmarkedPostSet bookmarked = getBookmarkedPostSet(user.getId());
+        Set<Long> result = new HashSet<>();
+        for (Long postId : postIds) {
+            if (bookmarked.contains(postId)) {
+                result.add(postId);
+            }
+        }
+        return result;
     }
 
     /**
@@ -106,9 +157,7 @@ public class BookmarkService {
      */
     @Transactional(readOnly = true)
     public long getBookmarkCount(Long postId) {
-        Post post = postRepository.findById(postId).orElse(null);
-        if (post == null) return 0L;
-        return bookmarkRepository.countByPost(post);
+        return postStatsService.getStats(postId).getBookmarkCount();
     }
 
     /**
@@ -118,4 +167,46 @@ public class BookmarkService {
     public long getUserBookmarkCount(User user) {
         return bookmarkRepository.countByUser(user);
     }
+
+    private BookmarkedPostSet getBookmarkedPostSet(Long userId) {
+        synchronized (bookmarkedPostCache) {
+            BookmarkedPostSet cached = bookmarkedPostCache.get(userId);
+            if (cached != null) return cached;
+        }
+
+        long modificationsBeforeLoad = modificationCount.get();
+        BookmarkedPostSet loaded = BookmarkedPostSet.of(bookmarkRepository.findPostIdsByUserId(userId));
+
+        synchronized (bookmarkedPostCache) {
+            // Yükleme sırasında bir yer imi değiştiyse sonucu önbelleğe yazma
+            if (modificationCount.get() == modificationsBeforeLoad) {
+                bookmarkedPostCache.putIfAbsent(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Transaction başarıyla tamamlandıktan sonra önbellekteki kümeyi güncelle
+     */
+    private void updateCacheAfterCommit(Long userId, Long postId, boolean bookmarked) {
+        Runnable update = () -> {
+            synchronized (bookmarkedPostCache) {
+                modificationCount.incrementAndGet();
+                bookmarkedPostCache.computeIfPresent(userId,
+                        (id, set) -> bookmarked ? set.with(postId) : set.without(postId));
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
 }
@@ -0,0 +1,58 @@
+package com.blog.blogprojesi.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Bir kullanıcının yer imine eklediği post ID'lerinin değişmez kümesi
+ * ID'ler sıralı bir long dizisinde tutulur, arama ikili arama ile yapılır.
+ * Ekleme/çıkarma yeni bir küme döndürür; böylece okuyucular kilitsiz çalışır.
+ */
+final class BookmarkedPostSet {
+
+    static final BookmarkedPostSet EMPTY = new BookmarkedPostSet(new long[0]);
+
+    private final long[] postIds;
+
+    private BookmarkedPostSet(long[] sortedPostIds) {
+        this.postIds = sortedPostIds;
+    }
+
+    static BookmarkedPostSet of(Collection<Long> postIds) {
+        long[] ids = postIds.stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        return ids.length == 0 ? EMPTY : new BookmarkedPostSet(ids);
+    }
+
+    boolean contains(long postId) {
+        return Arrays.binarySearch(postIds, postId) >= 0;
+    }
+
+    BookmarkedPostSet with(long postId) {
+        int index = Arrays.binarySearch(postIds, postId);
+        if (index >= 0) return this;
+        int insertAt = -index - 1;
+        long[] ids = new long[postIds.length + 1];
+        System.arraycopy(postIds, 0, ids, 0, insertAt);
+        ids[insertAt] = postId;
+        System.arraycopy(postIds, insertAt, ids, insertAt + 1, postIds.length - insertAt);
+        return new BookmarkedPostSet(ids);
+    }
+
+    BookmarkedPostSet without(long postId) {
+        int index = Arrays.binarySearch(postIds, postId);
+        if (index < 0) return this;
+        if (postIds.length == 1) return EMPTY;
+        long[] ids = new long[postIds.length - 1];
+        System.arraycopy(postIds, 0, ids, 0, index);
+        System.arraycopy(postIds, index + 1, ids, index, postIds.length - index - 1);
+        return new BookmarkedPostSet(ids);
+    }
+
+    int size() {
+        return postIds.length;
+    }
+}
@@ -0,0 +1,97 @@
+package com.blog.blogprojesi.service;
+
+import com.blog.blogprojesi.config.CacheRegions;
+import com.blog.blogprojesi.dto.CacheRegionStats;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * İkinci seviye önbellek istatistikleri Service sınıfı
+ * Entity ve sorgu bölgelerinin isabet / ıskalama / yazma / atılma sayılarını toplar;
+ * admin raporlarında entity yüklemelerinin ne kadarının veritabanına gitmediğini gösterir.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Tüm entity ve sorgu bölgelerinin sayaçları
+     */
+    public List<CacheRegionStats> getRegionStats() {
+        Statistics statistics = statistics();
+        List<CacheRegionStats> result = new ArrayList<>();
+        for (String region : CacheRegions.ENTITY_REGIONS) {
+            result.add(toStats(statistics, region, false));
+        }
+        for (String region : CacheRegions.QUERY_REGIONS) {
+            result.add(toStats(statistics, region, true));
+        }
+        return result;
+    }
+
+    /**
+     * Önbellekten karşılanan entity yüklemelerinin oranı (yüzde)
+     */
+    public double getEntityHitRatio() {
+        long hits = 0;
+        long misses = 0;
+        for (CacheRegionStats stats : getRegionStats()) {
+            if (!stats.isQueryRegion()) {
+                hits += stats.getHits();
+                misses += stats.getMisses();
+            }
+        }
+        return hits + misses == 0 ? 0.0 : hits * 100.0 / (hits + misses);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private CacheRegionStats toStats(Statistics statistics, String region, boolean queryRegion) {
+        // Sorgu bölgeleri ilk kullanımda oluşturulur; o zamana kadar istatistik yoktur
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        if (regionStatistics == null) {
+            return new CacheRegionStats(region, queryRegion, 0, 0, 0, evictionCount(region));
+        }
+        return new CacheRegionStats(region, queryRegion,
+                regionStatistics.getHitCount(),
+                regionStatistics.getMissCount(),
+                regionStatistics.getPutCount(),
+                evictionCount(region));
+    }
+
+    /**
+     * Caffeine'in JMX'e kaydettiği JCache istatistiklerinden atılan kayıt sayısı
+     */
+    private long evictionCount(String region) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            Set<ObjectName> names = server.queryNames(
+                    new ObjectName("javax.cache:type=CacheStatistics,Cache=" + region + ",*"), null);
+            long evictions = 0;
+            for (ObjectName name : names) {
+                evictions += ((Number) server.getAttribute(name, "CacheEvictions")).longValue();
+            }
+            return evictions;
+        } catch (Exception e) {
+            log.debug("Cache eviction count could not be read for region {}: {}", region, e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.blog.blogprojesi.service;
+
+import com.blog.blogprojesi.event.CategoryCountsReloadedEvent;
+import com.blog.blogprojesi.event.PostChangedEvent;
+import com.blog.blogprojesi.event.UserChangedEvent;
+import com.blog.blogprojesi.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Kategori kaydı
+ * Kategori listesi ve yayınlanmış post sayıları bellekte değişmez bir görüntüde tutulur;
+ * ana sayfa, konular ve yazı yazma sayfaları sorgu atmadan okur. Kategori tablosu küçük
+ * olduğu için post değişikliklerinde commit sonrasında tümüyle yeniden yüklenir. Başka bir düğümde
+ * yapılan periyodik yeniden sayımın düzelttiği sayılar her düğümde zamanlanmış yenilemeyle alınır.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryRegistry {
+
+    private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of());
+
+    /**
+     * Kategori ID'leri ve yayınlanmış post sayıları
+     * publishedCounts en çok posttan aza sıralıdır ve yalnızca yayınlanmış postu olan kategorileri içerir
+     */
+    private record Snapshot(Map<String, Long> idsByName, Map<String, Long> publishedCounts) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${blog.category-registry.refresh-cron:0 20 * * * ?}")
+    public synchronized void reload() {
+        List<Object[]> rows = categoryRepository.findAllPublishedCounts();
+
+        Map<String, Long> idsByName = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            idsByName.put((String) row[1], (Long) row[0]);
+        }
+
+        Map<String, Long> publishedCounts = new LinkedHashMap<>();
+        rows.stream()
+                .filter(row -> (Long) row[2] > 0)
+                .sorted(Comparator.comparing((Object[] row) -> (Long) row[2]).reversed()
+                        .thenComparing(row -> (String) row[1]))
+                .forEach(row -> publishedCounts.put((String) row[1], (Long) row[2]));
+
+        snapshot = new Snapshot(Collections.unmodifiableMap(idsByName), Collections.unmodifiableMap(publishedCounts));
+        log.debug("Category registry loaded: {} categories", idsByName.size());
+        // Sayıları kullanan görüntüler yeni sayılar yüklendikten sonra geçersiz kılınır
+        eventPublisher.publishEvent(new CategoryCountsReloadedEvent());
+    }
+
+    // ==================== EVENTS ====================
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        reload();
+    }
+
+    /**
+     * Silinen kullanıcının postları da silindiği için sayılar değişir
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getChangeType() == UserChangedEvent.ChangeType.DELETED) {
+            reload();
+        }
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Yayınlanmış postu olan kategoriler (en çok posttan aza)
+     */
+    public List<String> getCategoryNames() {
+        return List.copyOf(snapshot.publishedCounts().keySet());
+    }
+
+    /**
+     * Kategori -> yayınlanmış post sayısı (en çok posttan aza)
+     */
+    public Map<String, Long> getPublishedCounts() {
+        return snapshot.publishedCounts();
+    }
+
+    /**
+     * Kategori adının ID'si (henüz yayınlanmış postu olmayan kategoriler dahil)
+     */
+    public Optional<Long> findIdByName(String name) {
+        return Optional.ofNullable(snapshot.idsByName().get(name));
+    }
+}
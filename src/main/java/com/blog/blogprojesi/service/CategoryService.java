@@ -0,0 +1,117 @@
+package com.blog.blogprojesi.service;
+
+import com.blog.blogprojesi.entity.Category;
+import com.blog.blogprojesi.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Kategori işlemleri için Service sınıfı
+ * Post formlarından gelen kategori adlarını kategori kayıtlarına çevirir ve
+ * kategori başına yayınlanmış post sayılarını post işlemleriyle aynı transaction içinde günceller.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class CategoryService {
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Kategori adını kayda çevir, yoksa oluştur (boş ad için null)
+     * Oluşturma INSERT ... ON CONFLICT DO NOTHING ile yapılır, ardından kayıt okunur.
+     */
+    public Category resolve(String name) {
+        String normalized = normalize(name);
+        if (normalized == null) {
+            return null;
+        }
+        Optional<Long> knownId = categoryRegistry.findIdByName(normalized);
+        if (knownId.isPresent()) {
+            return categoryRepository.getReferenceById(knownId.get());
+        }
+        // Aynı yeni kategoriyle eşzamanlı oluşturulan postlar unique kısıtına takılmasın
+        categoryRepository.insertIfAbsent(normalized);
+        return categoryRepository.findByName(normalized)
+                .orElseThrow(() -> new RuntimeException("Kategori bulunamadı: " + normalized));
+    }
+
+    /**
+     * Kategori adının ID'si (kayıttan, sorgu atılmaz)
+     */
+    public Optional<Long> findIdByName(String name) {
+        String normalized = normalize(name);
+        return normalized != null ? categoryRegistry.findIdByName(normalized) : Optional.empty();
+    }
+
+    /**
+     * Kategorisi veya yayın durumu değişen post için sayaçları güncelle
+     */
+    public void updatePublishedCounts(Category before, boolean wasPublished, Category after, boolean isPublished) {
+        Long beforeId = wasPublished && before != null ? before.getId() : null;
+        Long afterId = isPublished && after != null ? after.getId() : null;
+        if (Objects.equals(beforeId, afterId)) {
+            return;
+        }
+        if (beforeId != null) {
+            categoryRepository.adjustPublishedPostCount(beforeId, -1);
+        }
+        if (afterId != null) {
+            categoryRepository.adjustPublishedPostCount(afterId, 1);
+        }
+    }
+
+    /**
+     * Tüm sayaçları postlardan yeniden hesapla (toplu silmeler, başlangıç ve periyodik düzeltme için)
+     * @return güncellenen kategori sayısı
+     */
+    public int recountPublishedPosts() {
+        return categoryRepository.recountPublishedPosts();
+    }
+
+    /**
+     * Eski serbest metin posts.category kolonunu kategori tablosuna taşı
+     * Kolon varsa farklı değerler için kategori oluşturulur, postlar category_id ile bağlanır
+     * ve kolon kaldırılır; sonraki başlangıçlarda hiçbir şey yapmaz.
+     */
+    public void migrateLegacyCategories() {
+        Integer legacyColumns = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                "WHERE table_schema = current_schema() AND table_name = 'posts' AND column_name = 'category'",
+                Integer.class);
+        if (legacyColumns == null || legacyColumns == 0) {
+            return;
+        }
+
+        String legacyName = "LEFT(TRIM(p.category), " + Category.MAX_NAME_LENGTH + ")";
+        int created = jdbcTemplate.update(
+                "INSERT INTO categories (name, published_post_count, created_at) " +
+                "SELECT DISTINCT " + legacyName + ", 0, CURRENT_TIMESTAMP FROM posts p " +
+                "WHERE p.category IS NOT NULL AND TRIM(p.category) <> '' " +
+                "ON CONFLICT (name) DO NOTHING");
+        int linked = jdbcTemplate.update(
+                "UPDATE posts p SET category_id = c.id FROM categories c " +
+                "WHERE p.category_id IS NULL AND p.category IS NOT NULL AND c.name = " + legacyName);
+        jdbcTemplate.execute("ALTER TABLE posts DROP COLUMN category");
+        categoryRepository.recountPublishedPosts();
+
+        log.info("Legacy post categories migrated: {} categories created, {} posts linked", created, linked);
+    }
+
+    private String normalize(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        String trimmed = name.trim();
+        return trimmed.length() > Category.MAX_NAME_LENGTH ? trimmed.substring(0, Category.MAX_NAME_LENGTH) : trimmed;
+    }
+}
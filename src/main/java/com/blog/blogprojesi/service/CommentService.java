@@ -3,9 +3,11 @@ package com.blog.blogprojesi.service;
 import com.blog.blogprojesi.entity.Comment;
 import com.blog.blogprojesi.entity.Post;
 import com.blog.blogprojesi.entity.User;
+import com.blog.blogprojesi.event.CommentChangedEvent;
 import com.blog.blogprojesi.repository.CommentRepository;
 import com.blog.blogprojesi.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,8 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
+    private final PostStatsService postStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Yeni yorum ekle
@@ -35,13 +39,16 @@ public class CommentService {
             throw new RuntimeException("Bu gönderi için yorumlar kapalı");
         }
 
+        postStatsService.recordCommentAdded(postId);
         Comment comment = Comment.builder()
                 .content(content)
                 .user(user)
                 .post(post)
                 .build();
 
-        return commentRepository.save(comment);
+        Comment savedComment = commentRepository.save(comment);
+        eventPublisher.publishEvent(CommentChangedEvent.created(savedComment.getId(), postId));
+        return savedComment;
     }
 
     /**
@@ -113,7 +120,9 @@ public class CommentService {
             throw new RuntimeException("Bu yorumu silme yetkiniz yok");
         }
 
+        postStatsService.recordCommentRemoved(comment.getPost().getId());
         commentRepository.delete(comment);
+        eventPublisher.publishEvent(CommentChangedEvent.deleted(commentId, comment.getPost().getId()));
     }
 
     /**
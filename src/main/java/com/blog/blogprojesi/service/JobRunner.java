@@ -0,0 +1,178 @@
+package com.blog.blogprojesi.service;
+
+import com.blog.blogprojesi.dto.JobSummary;
+import com.blog.blogprojesi.entity.JobLease;
+import com.blog.blogprojesi.entity.JobRun;
+import com.blog.blogprojesi.repository.JobLeaseRepository;
+import com.blog.blogprojesi.repository.JobRunRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Küme genelinde tek çalışan zamanlanmış işler
+ * Her düğüm aynı zamanlamayla tetiklenir; işi yalnızca job_leases tablosunda kilidi alan düğüm çalıştırır.
+ * Kilit leaseFor süresince geçerlidir (düğüm çökerse bu süre sonunda başka düğüm devralabilir) ve iş
+ * bitince en az holdAtLeast süresi dolana kadar tutulur, böylece saatleri biraz farklı düğümler aynı
+ * zamanlamayı ikinci kez çalıştırmaz. Her çalıştırma süresi ve sonucuyla job_runs tablosuna yazılır.
+ * İşin kendisi transaction dışında çalışır; uzun işler kendi parçalarını ayrı transaction'larda işlemelidir.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobRunner {
+
+    private static final int MAX_MESSAGE_LENGTH = 2000;
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final JobRunRepository jobRunRepository;
+
+    private final String nodeId = resolveNodeId();
+
+    /**
+     * Kilit alınmış iş gövdesi
+     */
+    @FunctionalInterface
+    public interface JobTask {
+
+        /**
+         * @return işlenen kayıt sayısı
+         */
+        long run() throws Exception;
+    }
+
+    /**
+     * Kilidi alabilirse işi çalıştır
+     * @return iş bu düğümde çalıştıysa true, kilit başka düğümdeyse false
+     */
+    public boolean runExclusive(String jobName, Duration leaseFor, Duration holdAtLeast, JobTask task) {
+        int acquired;
+        try {
+            acquired = jobLeaseRepository.tryAcquire(jobName, nodeId, leaseFor.toSeconds());
+        } catch (Exception e) {
+            log.warn("Job {} skipped, lease could not be acquired: {}", jobName, e.getMessage());
+            return false;
+        }
+        if (acquired == 0) {
+            log.debug("Job {} skipped, lease held by another node", jobName);
+            return false;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        JobRun.JobRunStatus status = JobRun.JobRunStatus.SUCCESS;
+        long processed = 0;
+        String message = null;
+        try {
+            processed = task.run();
+        } catch (Exception e) {
+            status = JobRun.JobRunStatus.FAILED;
+            message = e.getClass().getSimpleName() + ": " + e.getMessage();
+            log.error("Job {} failed: {}", jobName, e.getMessage(), e);
+        } finally {
+            long durationMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            if (durationMs > leaseFor.toMillis()) {
+                // Kilit iş bitmeden düşmüş olabilir; leaseFor işin en uzun süresinden büyük seçilmeli
+                log.warn("Job {} ran for {} ms, longer than its {} ms lease", jobName, durationMs, leaseFor.toMillis());
+            }
+            recordRun(jobName, startedAt, durationMs, status, processed, message);
+            release(jobName, holdAtLeast);
+        }
+        if (status == JobRun.JobRunStatus.SUCCESS) {
+            log.info("Job {} finished in {} ms, {} records processed", jobName,
+                    Duration.ofNanos(System.nanoTime() - start).toMillis(), processed);
+        }
+        return true;
+    }
+
+    /**
+     * Bu düğümün kimliği (kilit sahibi olarak yazılır)
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Son çalıştırmalar
+     */
+    public List<JobRun> getRecentRuns() {
+        return jobRunRepository.findTop100ByOrderByStartedAtDesc();
+    }
+
+    /**
+     * İş başına çalıştırma istatistikleri ve kilit durumu
+     */
+    public List<JobSummary> getJobSummaries() {
+        Map<String, JobLease> leases = jobLeaseRepository.findAllByOrderByJobNameAsc().stream()
+                .collect(Collectors.toMap(JobLease::getJobName, Function.identity()));
+        Map<String, JobSummary> summaries = new TreeMap<>();
+        for (Object[] row : jobRunRepository.summarizeByJob(JobRun.JobRunStatus.FAILED)) {
+            String jobName = (String) row[0];
+            JobLease lease = leases.get(jobName);
+            summaries.put(jobName, new JobSummary(jobName,
+                    toLong(row[1]), toLong(row[2]), toLong(row[3]), toLong(row[4]),
+                    (LocalDateTime) row[5],
+                    lease != null ? lease.getOwner() : null,
+                    lease != null ? lease.getLeaseUntil() : null));
+        }
+        // Henüz geçmişi olmayan (ör. yeni eklenmiş) işler
+        for (JobLease lease : leases.values()) {
+            summaries.computeIfAbsent(lease.getJobName(), name -> new JobSummary(name, 0, 0, 0, 0, null,
+                    lease.getOwner(), lease.getLeaseUntil()));
+        }
+        return new ArrayList<>(summaries.values());
+    }
+
+    private void recordRun(String jobName, LocalDateTime startedAt, long durationMs,
+                           JobRun.JobRunStatus status, long processed, String message) {
+        try {
+            jobRunRepository.save(JobRun.builder()
+                    .jobName(jobName)
+                    .node(nodeId)
+                    .startedAt(startedAt)
+                    .finishedAt(LocalDateTime.now())
+                    .durationMs(durationMs)
+                    .status(status)
+                    .processedCount(processed)
+                    .message(message != null && message.length() > MAX_MESSAGE_LENGTH
+                            ? message.substring(0, MAX_MESSAGE_LENGTH) : message)
+                    .build());
+        } catch (Exception e) {
+            log.warn("Run history of job {} could not be saved: {}", jobName, e.getMessage());
+        }
+    }
+
+    private void release(String jobName, Duration holdAtLeast) {
+        try {
+            jobLeaseRepository.release(jobName, nodeId, holdAtLeast.toSeconds());
+        } catch (Exception e) {
+            // Kilit leaseFor sonunda kendiliğinden düşer
+            log.warn("Lease of job {} could not be released: {}", jobName, e.getMessage());
+        }
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
+    private static String resolveNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + ":" + ProcessHandle.current().pid() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
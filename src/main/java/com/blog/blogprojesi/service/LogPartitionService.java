@@ -0,0 +1,223 @@
+package com.blog.blogprojesi.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Zamana göre bölümlenmiş log tabloları
+ * login_attempts günlük, admin_logs aylık bölümlere ayrılır. Bölümler önceden oluşturulur ve saklama
+ * süresi dolan bölümler satır satır silmek yerine tablo olarak düşürülür. Zaman aralıklı sorgular
+ * (attempt_time / created_at koşullu) yalnızca ilgili bölümleri tarar.
+ * Hibernate tabloları ilk açılışta düz tablo olarak oluşturur; {@link #migrateToPartitioned()} bunları
+ * açılışta bir kez bölümlenmiş tabloya çevirir.
+ * Hazır bölümü olmayan zamana düşen satırlar varsayılan bölüme yazılır; bölüm sonradan oluşturulurken
+ * bu satırlar yeni bölüme taşınır, saklama süresi dolanlar varsayılan bölümden silinir.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LogPartitionService {
+
+    // Birden fazla düğüm aynı anda açılırsa dönüşümü yalnızca biri yapar
+    private static final long MIGRATION_LOCK_ID = 0x6c6f677061727431L;
+
+    static final TimePartitionedTable LOGIN_ATTEMPTS = new TimePartitionedTable(
+            "login_attempts", "attempt_time", TimePartitionedTable.Granularity.DAY,
+            "id BIGINT NOT NULL DEFAULT nextval('login_attempts_seq'), " +
+            "username VARCHAR(255) NOT NULL, " +
+            "ip_address VARCHAR(255), " +
+            "attempt_time TIMESTAMP(6) NOT NULL, " +
+            "success BOOLEAN NOT NULL, " +
+            "is_admin_login BOOLEAN NOT NULL",
+            "id, username, ip_address, attempt_time, success, is_admin_login",
+            List.of("CREATE INDEX IF NOT EXISTS idx_login_attempts_attempt_time ON login_attempts (attempt_time)"));
+
+    static final TimePartitionedTable ADMIN_LOGS = new TimePartitionedTable(
+            "admin_logs", "created_at", TimePartitionedTable.Granularity.MONTH,
+            "id BIGINT NOT NULL DEFAULT nextval('admin_logs_seq'), " +
+            "admin_id BIGINT NOT NULL, " +
+            "admin_username VARCHAR(255) NOT NULL, " +
+            "action VARCHAR(255) NOT NULL, " +
+            "action_type VARCHAR(255) NOT NULL, " +
+            "target_type VARCHAR(255), " +
+            "target_id BIGINT, " +
+            "details TEXT, " +
+            "ip_address VARCHAR(255), " +
+            "created_at TIMESTAMP(6) NOT NULL",
+            "id, admin_id, admin_username, action, action_type, target_type, target_id, details, ip_address, created_at",
+            List.of("CREATE INDEX IF NOT EXISTS idx_admin_logs_created_at ON admin_logs (created_at)"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${blog.partitions.login-attempts.days-ahead:7}")
+    private int loginAttemptDaysAhead;
+
+    @Value("${blog.partitions.admin-logs.months-ahead:3}")
+    private int adminLogMonthsAhead;
+
+    @Value("${blog.jobs.login-attempts.retention-days:7}")
+    private int loginAttemptRetentionDays;
+
+    // 0: admin logları hiç silinmez
+    @Value("${blog.jobs.admin-logs.retention-months:12}")
+    private int adminLogRetentionMonths;
+
+    /**
+     * Düz log tablolarını bölümlenmiş tablolara çevir
+     * Saklama süresi içindeki satırlar yeni tabloya kopyalanır, eski tablo kaldırılır;
+     * tablolar zaten bölümlenmişse yalnızca ileri bölümler oluşturulur.
+     */
+    @Transactional
+    public void migrateToPartitioned() {
+        jdbcTemplate.execute("SELECT pg_advisory_xact_lock(" + MIGRATION_LOCK_ID + ")");
+        migrate(LOGIN_ATTEMPTS, loginAttemptRetentionDays, loginAttemptDaysAhead);
+        migrate(ADMIN_LOGS, adminLogRetentionMonths, adminLogMonthsAhead);
+    }
+
+    /**
+     * İleri bölümleri oluştur ve saklama süresi dolan bölümleri düşür
+     * MaintenanceJobs tarafından küme genelinde tek düğümde çalıştırılır; her DDL ayrı (autocommit) çalışır.
+     * @return düşürülen bölüm sayısı
+     */
+    public long maintainPartitions() {
+        createAhead(LOGIN_ATTEMPTS, loginAttemptDaysAhead);
+        createAhead(ADMIN_LOGS, adminLogMonthsAhead);
+        return dropExpired(LOGIN_ATTEMPTS, loginAttemptRetentionDays)
+                + dropExpired(ADMIN_LOGS, adminLogRetentionMonths);
+    }
+
+    private void migrate(TimePartitionedTable table, int retentionPeriods, int periodsAhead) {
+        String kind = relationKind(table.getName());
+        if ("p".equals(kind)) {
+            createAhead(table, periodsAhead);
+            return;
+        }
+
+        LocalDate firstPartition = table.firstRetainedPartition(LocalDate.now(), retentionPeriods);
+        String legacyName = table.getName() + "_legacy";
+        if (kind != null) {
+            jdbcTemplate.execute("ALTER TABLE " + table.getName() + " RENAME TO " + legacyName);
+            if (firstPartition == null) {
+                // Süresiz saklama: en eski satırın bölümünden başla
+                LocalDate oldest = jdbcTemplate.queryForObject(
+                        "SELECT CAST(MIN(" + table.getTimeColumn() + ") AS DATE) FROM " + legacyName, LocalDate.class);
+                firstPartition = table.periodStart(oldest != null ? oldest : LocalDate.now());
+            }
+        } else if (firstPartition == null) {
+            firstPartition = table.periodStart(LocalDate.now());
+        }
+
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + table.getSequenceName());
+        jdbcTemplate.execute(table.createParentDdl());
+        jdbcTemplate.execute("ALTER SEQUENCE " + table.getSequenceName() + " OWNED BY " + table.getName() + ".id");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table.getDefaultPartitionName() +
+                " PARTITION OF " + table.getName() + " DEFAULT");
+        LocalDate last = table.periodStart(LocalDate.now());
+        for (int i = 0; i < periodsAhead; i++) {
+            last = table.next(last);
+        }
+        for (LocalDate start = firstPartition; !start.isAfter(last); start = table.next(start)) {
+            jdbcTemplate.execute(table.createPartitionDdl(start));
+        }
+
+        int copied = 0;
+        if (kind != null) {
+            copied = jdbcTemplate.update("INSERT INTO " + table.getName() + " (" + table.getColumnNames() + ") " +
+                    "SELECT " + table.getColumnNames() + " FROM " + legacyName +
+                    " WHERE " + table.getTimeColumn() + " >= ?", Timestamp.valueOf(firstPartition.atStartOfDay()));
+            jdbcTemplate.execute("DROP TABLE " + legacyName);
+        }
+        jdbcTemplate.execute("SELECT setval('" + table.getSequenceName() + "', " +
+                "COALESCE((SELECT MAX(id) FROM " + table.getName() + "), 0) + 1, false)");
+        // Eski tablo kaldırıldıktan sonra: aynı adlı indeksler yeniden kullanılabilir
+        table.getIndexDdl().forEach(jdbcTemplate::execute);
+
+        log.info("Table {} converted to range partitions on {} ({} rows kept)",
+                table.getName(), table.getTimeColumn(), copied);
+    }
+
+    private void createAhead(TimePartitionedTable table, int periodsAhead) {
+        if (!"p".equals(relationKind(table.getName()))) {
+            return;
+        }
+        LocalDate start = table.periodStart(LocalDate.now());
+        for (int i = 0; i <= periodsAhead; i++) {
+            createPartition(table, start);
+            start = table.next(start);
+        }
+    }
+
+    /**
+     * Bölümü oluştur; varsayılan bölümde bu aralığa düşmüş satırlar varsa önce onları yeni bölüme taşı
+     * (varsayılan bölümde aralığa ait satır varken PostgreSQL bölümü oluşturmaz)
+     */
+    private void createPartition(TimePartitionedTable table, LocalDate start) {
+        if (relationKind(table.partitionName(start)) != null) {
+            return;
+        }
+        String range = table.rangeCondition(start);
+        Boolean stranded = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + table.getDefaultPartitionName() + " WHERE " + range + ")", Boolean.class);
+        if (!Boolean.TRUE.equals(stranded)) {
+            jdbcTemplate.execute(table.createPartitionDdl(start));
+            return;
+        }
+        // Tek transaction: taşıma bitene kadar yeni satırlar bekler, hata olursa hiçbir şey değişmez
+        Integer moved = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("LOCK TABLE " + table.getName() + " IN ACCESS EXCLUSIVE MODE");
+            // Açılıştaki dönüşüm transaction'ı içinde birden fazla taşıma olabilir
+            jdbcTemplate.execute("DROP TABLE IF EXISTS partition_move");
+            jdbcTemplate.execute("CREATE TEMP TABLE partition_move ON COMMIT DROP AS " +
+                    "SELECT " + table.getColumnNames() + " FROM " + table.getDefaultPartitionName() + " WHERE " + range);
+            jdbcTemplate.update("DELETE FROM " + table.getDefaultPartitionName() + " WHERE " + range);
+            jdbcTemplate.execute(table.createPartitionDdl(start));
+            return jdbcTemplate.update("INSERT INTO " + table.getName() + " (" + table.getColumnNames() + ") " +
+                    "SELECT " + table.getColumnNames() + " FROM partition_move");
+        });
+        log.info("Partition {} created, {} rows moved from {}", table.partitionName(start), moved,
+                table.getDefaultPartitionName());
+    }
+
+    private long dropExpired(TimePartitionedTable table, int retentionPeriods) {
+        LocalDate firstRetained = table.firstRetainedPartition(LocalDate.now(), retentionPeriods);
+        if (firstRetained == null || !"p".equals(relationKind(table.getName()))) {
+            return 0;
+        }
+        // Bölümü olmadığı için varsayılan bölüme düşmüş eski satırlar
+        int deleted = jdbcTemplate.update("DELETE FROM " + table.getDefaultPartitionName() +
+                " WHERE " + table.getTimeColumn() + " < ?", Timestamp.valueOf(firstRetained.atStartOfDay()));
+        if (deleted > 0) {
+            log.info("{} expired rows deleted from {}", deleted, table.getDefaultPartitionName());
+        }
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = to_regclass(?)", String.class, table.getName());
+        long dropped = 0;
+        for (String partition : partitions) {
+            if (table.isExpired(partition, firstRetained)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            log.info("{} expired partitions of {} dropped (before {})", dropped, table.getName(), firstRetained);
+        }
+        return dropped;
+    }
+
+    private String relationKind(String tableName) {
+        List<String> kinds = jdbcTemplate.queryForList(
+                "SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?)", String.class, tableName);
+        return kinds.isEmpty() ? null : kinds.get(0);
+    }
+}
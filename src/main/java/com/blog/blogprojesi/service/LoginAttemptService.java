@@ -2,45 +2,149 @@ package com.blog.blogprojesi.service;
 
 import com.blog.blogprojesi.entity.LoginAttempt;
 import com.blog.blogprojesi.repository.LoginAttemptRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 /**
  * Login Attempt Service
- * Brute-force koruması için login denemelerini yönetir
+ * Brute-force koruması için login denemelerini yönetir.
+ * Başarısız denemeler kullanıcı adı ve IP başına bellekteki kayan pencere sayaçlarında tutulur;
+ * kilit kontrolleri veritabanına gitmez. Deneme kayıtları yalnızca denetim izi için arka planda
+ * toplu olarak login_attempts tablosuna yazılır; uygulama açılışında pencere içindeki kayıtlar
+ * sayaçlara geri yüklenir. Kontroller transaction açmaz.
+ * Sayaçlar düğüm başınadır: birden çok düğümde her düğüm kendi denemelerini sayar, bu yüzden
+ * istekleri düğümlere dağıtan bir saldırgan düğüm sayısı kadar kat deneme hakkı kazanır
+ * (önceki veritabanı sayımı küme genelindeydi). Yük dengeleyicide IP yapışkanlığı bu farkı azaltır.
  */
 @Service
 @RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class LoginAttemptService {
 
+    private static final String INSERT_SQL =
+            "INSERT INTO login_attempts (username, ip_address, attempt_time, success, is_admin_login) VALUES (?, ?, ?, ?, ?)";
+
+    // IP için kullanıcı adına göre 3 kat tolerans
+    private static final int IP_TOLERANCE = 3;
+
+    private static final int COUNTER_STRIPES = 16;
+
     private final LoginAttemptRepository loginAttemptRepository;
     private final SystemSettingsService systemSettingsService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${blog.login-attempts.max-tracked-keys:100000}")
+    private int maxTrackedKeys;
+
+    @Value("${blog.login-attempts.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${blog.login-attempts.batch-size:200}")
+    private int batchSize;
+
+    @Value("${blog.login-attempts.flush-interval-ms:2000}")
+    private long flushIntervalMs;
+
+    private SlidingWindowCounter usernameFailures;
+    private SlidingWindowCounter ipFailures;
+    private AsyncBatchWriter<LoginAttempt> attemptWriter;
+
+    @PostConstruct
+    void init() {
+        // Kilitli anahtarlar tablo dolduğunda atılmaz (yeni anahtar yağmuru kilitleri sıfırlamasın)
+        usernameFailures = new SlidingWindowCounter(COUNTER_STRIPES, maxTrackedKeys,
+                systemSettingsService::getMaxLoginAttempts);
+        ipFailures = new SlidingWindowCounter(COUNTER_STRIPES, maxTrackedKeys,
+                () -> systemSettingsService.getMaxLoginAttempts() * IP_TOLERANCE);
+        // Saldırı dalgasında denetim kayıtları girişleri bekletmez; kuyruk doluysa kayıt atılır
+        attemptWriter = new AsyncBatchWriter<>("login-attempts", queueCapacity, batchSize,
+                Duration.ofMillis(flushIntervalMs), Duration.ZERO,
+                AsyncBatchWriter.OverflowPolicy.DROP, this::insertBatch);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        attemptWriter.close();
+    }
+
+    /**
+     * Kilitleme penceresi içindeki kayıtları sayaçlara geri yükle (yeniden başlatma kilitleri sıfırlamasın)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void restoreRecentAttempts() {
+        LocalDateTime since = LocalDateTime.now().minusMinutes(systemSettingsService.getLockoutDurationMinutes());
+        long windowMillis = windowMillis();
+        long restored = 0;
+        // Satırlar tek tek akıtılır; saldırı dalgası sonrası pencere milyonlarca kayıt içerebilir.
+        // Sayaç bellek sınırı SlidingWindowCounter'da (anahtar ve anahtar başına olay sayısı)
+        try (Stream<Object[]> rows = loginAttemptRepository.streamAttemptsSince(since)) {
+            Iterator<Object[]> it = rows.iterator();
+            while (it.hasNext()) {
+                Object[] row = it.next();
+                String username = (String) row[0];
+                String ipAddress = (String) row[1];
+                long time = toMillis((LocalDateTime) row[2]);
+                if ((Boolean) row[3]) {
+                    usernameFailures.clear(username);
+                } else {
+                    usernameFailures.record(username, time, windowMillis);
+                    if (ipAddress != null) {
+                        ipFailures.record(ipAddress, time, windowMillis);
+                    }
+                }
+                restored++;
+            }
+        }
+        if (restored > 0) {
+            log.info("Login attempt counters restored from {} recent attempts", restored);
+        }
+    }
 
     /**
      * Login denemesini kaydet
      */
     public void recordLoginAttempt(String username, String ipAddress, boolean success, boolean isAdminLogin) {
-        LoginAttempt attempt = LoginAttempt.builder()
+        if (username == null) {
+            username = "";
+        }
+        attemptWriter.submit(LoginAttempt.builder()
                 .username(username)
                 .ipAddress(ipAddress)
+                .attemptTime(LocalDateTime.now())
                 .success(success)
                 .isAdminLogin(isAdminLogin)
-                .build();
-
-        loginAttemptRepository.save(attempt);
+                .build());
 
         if (success) {
             // Başarılı giriş sonrası başarısız denemeleri temizle
-            loginAttemptRepository.clearFailedAttempts(username);
+            usernameFailures.clear(username);
             log.info("Successful login for user: {}", username);
         } else {
+            long now = System.currentTimeMillis();
+            long windowMillis = windowMillis();
+            usernameFailures.record(username, now, windowMillis);
+            if (ipAddress != null) {
+                ipFailures.record(ipAddress, now, windowMillis);
+            }
             log.warn("Failed login attempt for user: {} from IP: {}", username, ipAddress);
         }
     }
@@ -48,14 +152,11 @@ public class LoginAttemptService {
     /**
      * Kullanıcı kilitli mi kontrol et
      */
-    @Transactional(readOnly = true)
     public boolean isBlocked(String username) {
+        if (username == null) return false;
         int maxAttempts = systemSettingsService.getMaxLoginAttempts();
-        int lockoutMinutes = systemSettingsService.getLockoutDurationMinutes();
-        LocalDateTime since = LocalDateTime.now().minusMinutes(lockoutMinutes);
+        int failedAttempts = usernameFailures.count(username, System.currentTimeMillis(), windowMillis());
 
-        long failedAttempts = loginAttemptRepository.countRecentFailedAttempts(username, since);
-        
         if (failedAttempts >= maxAttempts) {
             log.warn("User {} is blocked due to {} failed login attempts", username, failedAttempts);
             return true;
@@ -66,14 +167,11 @@ public class LoginAttemptService {
     /**
      * IP adresi kilitli mi kontrol et
      */
-    @Transactional(readOnly = true)
     public boolean isIpBlocked(String ipAddress) {
-        int maxAttempts = systemSettingsService.getMaxLoginAttempts() * 3; // IP için 3 kat tolerans
-        int lockoutMinutes = systemSettingsService.getLockoutDurationMinutes();
-        LocalDateTime since = LocalDateTime.now().minusMinutes(lockoutMinutes);
+        if (ipAddress == null) return false;
+        int maxAttempts = systemSettingsService.getMaxLoginAttempts() * IP_TOLERANCE;
+        int failedAttempts = ipFailures.count(ipAddress, System.currentTimeMillis(), windowMillis());
 
-        long failedAttempts = loginAttemptRepository.countRecentFailedAttemptsByIp(ipAddress, since);
-        
         if (failedAttempts >= maxAttempts) {
             log.warn("IP {} is blocked due to {} failed login attempts", ipAddress, failedAttempts);
             return true;
@@ -84,32 +182,52 @@ public class LoginAttemptService {
     /**
      * Kalan deneme sayısını getir
      */
-    @Transactional(readOnly = true)
     public int getRemainingAttempts(String username) {
         int maxAttempts = systemSettingsService.getMaxLoginAttempts();
-        int lockoutMinutes = systemSettingsService.getLockoutDurationMinutes();
-        LocalDateTime since = LocalDateTime.now().minusMinutes(lockoutMinutes);
-
-        long failedAttempts = loginAttemptRepository.countRecentFailedAttempts(username, since);
-        return Math.max(0, maxAttempts - (int) failedAttempts);
+        if (username == null) return maxAttempts;
+        int failedAttempts = usernameFailures.count(username, System.currentTimeMillis(), windowMillis());
+        return Math.max(0, maxAttempts - failedAttempts);
     }
 
     /**
-     * Kullanıcının başarısız denemelerini temizle
+     * Kullanıcının başarısız denemelerini temizle (denetim kayıtları korunur)
      */
     public void clearFailedAttempts(String username) {
-        loginAttemptRepository.clearFailedAttempts(username);
+        usernameFailures.clear(username);
         log.info("Failed login attempts cleared for user: {}", username);
     }
 
     /**
-     * Eski kayıtları temizle (7 günden eski)
-     * Her gün gece 3'te çalışır
+     * Penceresi dolmuş sayaçları bellekten at
+     */
+    @Scheduled(fixedDelayString = "${blog.login-attempts.purge-interval-ms:60000}")
+    public void purgeExpiredCounters() {
+        long now = System.currentTimeMillis();
+        long windowMillis = windowMillis();
+        int removed = usernameFailures.purgeExpired(now, windowMillis) + ipFailures.purgeExpired(now, windowMillis);
+        if (removed > 0) {
+            log.debug("Expired login attempt counters purged: {}", removed);
+        }
+    }
+
+    private long windowMillis() {
+        return TimeUnit.MINUTES.toMillis(systemSettingsService.getLockoutDurationMinutes());
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Deneme kayıtlarını tek bir JDBC batch ile yaz
      */
-    @Scheduled(cron = "0 0 3 * * ?")
-    public void cleanupOldAttempts() {
-        LocalDateTime cutoff = LocalDateTime.now().minusDays(7);
-        loginAttemptRepository.deleteOldAttempts(cutoff);
-        log.info("Old login attempts cleaned up (older than {})", cutoff);
+    private void insertBatch(List<LoginAttempt> attempts) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, attempts, attempts.size(), (ps, attempt) -> {
+            ps.setString(1, attempt.getUsername());
+            ps.setString(2, attempt.getIpAddress());
+            ps.setTimestamp(3, Timestamp.valueOf(attempt.getAttemptTime()));
+            ps.setBoolean(4, attempt.isSuccess());
+            ps.setBoolean(5, attempt.isAdminLogin());
+        });
     }
 }
@@ -0,0 +1,91 @@
+package com.blog.blogprojesi.service;
+
+import com.blog.blogprojesi.repository.JobRunRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Periyodik bakım işleri
+ * Paylaşılan veritabanı üzerinde çalışan işler {@link JobRunner} ile kilitlenir, küme genelinde
+ * her zamanlamada tek düğüm çalıştırır. Düğüme özel bellek işleri (görüntüleme sayacı aktarımı,
+ * arama indeksi kaydı, ayar yenileme, giriş sayacı temizliği) her düğümde kendi servisinde çalışmaya devam eder.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MaintenanceJobs {
+
+    static final String LOG_PARTITIONS = "log-partitions";
+    static final String CATEGORY_RECOUNT = "category-recount";
+    static final String JOB_RUNS_CLEANUP = "job-runs-cleanup";
+
+    private final JobRunner jobRunner;
+    private final LogPartitionService logPartitionService;
+    private final CategoryService categoryService;
+    private final CategoryRegistry categoryRegistry;
+    private final JobRunRepository jobRunRepository;
+
+    @Value("${blog.jobs.lease-seconds:1800}")
+    private long leaseSeconds;
+
+    @Value("${blog.jobs.hold-seconds:60}")
+    private long holdSeconds;
+
+    @Value("${blog.jobs.delete-chunk-size:5000}")
+    private int deleteChunkSize;
+
+    @Value("${blog.jobs.job-runs.retention-days:30}")
+    private int jobRunRetentionDays;
+
+    /**
+     * Log tablolarının ileri bölümlerini oluştur, süresi dolanları düşür (varsayılan her gün gece 3'te)
+     */
+    @Scheduled(cron = "${blog.jobs.log-partitions.cron:0 0 3 * * ?}")
+    public void maintainLogPartitions() {
+        jobRunner.runExclusive(LOG_PARTITIONS, lease(), hold(), logPartitionService::maintainPartitions);
+    }
+
+    /**
+     * Kategori post sayılarını postlardan yeniden hesapla (artımlı güncellemelerdeki kaymayı düzeltir)
+     * Bu düğümün kategori kaydı hemen yenilenir; diğer düğümler kendi periyodik yenilemelerinde alır.
+     */
+    @Scheduled(cron = "${blog.jobs.category-recount.cron:0 15 * * * ?}")
+    public void recountCategories() {
+        jobRunner.runExclusive(CATEGORY_RECOUNT, lease(), hold(), () -> {
+            int updated = categoryService.recountPublishedPosts();
+            categoryRegistry.reload();
+            return updated;
+        });
+    }
+
+    /**
+     * Eski iş çalıştırma geçmişini temizle
+     */
+    @Scheduled(cron = "${blog.jobs.job-runs.cleanup-cron:0 30 3 * * ?}")
+    public void cleanupJobRuns() {
+        jobRunner.runExclusive(JOB_RUNS_CLEANUP, lease(), hold(), () -> {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(jobRunRetentionDays);
+            long deleted = 0;
+            int chunk;
+            do {
+                chunk = jobRunRepository.deleteChunkOlderThan(cutoff, deleteChunkSize);
+                deleted += chunk;
+            } while (chunk >= deleteChunkSize);
+            return deleted;
+        });
+    }
+
+    private Duration lease() {
+        return Duration.ofSeconds(leaseSeconds);
+    }
+
+    private Duration hold() {
+        return Duration.ofSeconds(holdSeconds);
+    }
+}
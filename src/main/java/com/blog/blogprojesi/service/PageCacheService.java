@@ -0,0 +1,205 @@
+package com.blog.blogprojesi.service;
+
+import com.blog.blogprojesi.event.CommentChangedEvent;
+import com.blog.blogprojesi.event.PostChangedEvent;
+import com.blog.blogprojesi.event.PostRatingChangedEvent;
+import com.blog.blogprojesi.event.UserChangedEvent;
+import com.blog.blogprojesi.repository.CommentRepository;
+import com.blog.blogprojesi.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Anonim ziyaretçiler için sayfa önbelleği
+ * Ana sayfa, konular ve post detay sayfalarının işlenmiş HTML'ini gzip ile sıkıştırılmış
+ * olarak saklar. Bellek kullanımı bayt olarak sınırlıdır, en uzun süredir kullanılmayan
+ * sayfa önce atılır (LRU). Post / yorum / puan / kullanıcı olaylarında yalnızca
+ * etkilenen sayfalar commit sonrasında atılır.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PageCacheService {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+
+    @Value("${blog.page-cache.max-bytes:33554432}")
+    private long maxBytes;
+
+    // Görüntüleme sayıları gibi olay üretmeyen değişiklikler için sayfalar ayrıca belirli bir süre sonra yenilenir
+    @Value("${blog.page-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    // Erişim sıralı: ilk eleman en uzun süredir kullanılmayan sayfadır
+    private final LinkedHashMap<String, CachedPage> pages = new LinkedHashMap<>(64, 0.75f, true);
+
+    private long totalBytes;
+
+    // Her geçersiz kılmada artar; işleme sırasında gelen değişiklik eski sayfanın saklanmasını engeller
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Önbellekteki sayfa
+     * postId detay sayfaları için doludur; liste sayfalarında (ana sayfa, konular) null'dır
+     */
+    public record CachedPage(byte[] gzippedBody, String contentType, String etag,
+                             long lastModified, long expiresAt, Long postId) {
+
+        public boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Sayfayı getir (yoksa veya süresi dolduysa null)
+     */
+    public synchronized CachedPage get(String key) {
+        CachedPage page = pages.get(key);
+        if (page != null && page.isExpired(System.currentTimeMillis())) {
+            remove(key);
+            return null;
+        }
+        return page;
+    }
+
+    /**
+     * İşlenmiş sayfayı sıkıştırıp sakla
+     * İşleme başladıktan sonra bir geçersiz kılma olduysa sayfa saklanmaz (null döner)
+     */
+    public CachedPage store(String key, byte[] body, String contentType, Long postId, long startGeneration) {
+        byte[] gzipped = gzip(body);
+        if (gzipped.length > maxBytes / 8) {
+            return null; // Tek bir sayfa önbelleğin büyük kısmını kaplamasın
+        }
+        long now = System.currentTimeMillis();
+        CachedPage page = new CachedPage(gzipped, contentType,
+                "W/\"" + DigestUtils.md5DigestAsHex(body) + "\"",
+                now, now + TimeUnit.SECONDS.toMillis(ttlSeconds), postId);
+
+        synchronized (this) {
+            if (generation.get() != startGeneration) {
+                return null;
+            }
+            remove(key);
+            pages.put(key, page);
+            totalBytes += gzipped.length;
+            evictOverflow();
+        }
+        return page;
+    }
+
+    // ==================== INVALIDATION ====================
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        invalidatePost(event.getPostId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        invalidatePost(event.getPostId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostRatingChanged(PostRatingChangedEvent event) {
+        invalidatePost(event.getPostId());
+    }
+
+    /**
+     * Yazar adları liste ve detay sayfalarında göründüğü için, yalnızca sayfalarda görünen
+     * (yayınlanmış postu veya yorumu olan) kullanıcı değiştiğinde ya da silindiğinde önbelleği boşalt.
+     * Yeni kayıtlar ve içeriği olmayan kullanıcıların profil değişiklikleri sayfaları etkilemez.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        switch (event.getChangeType()) {
+            case CREATED -> {
+                // Yeni kullanıcının sayfalarda görünen içeriği yok
+            }
+            case UPDATED -> {
+                if (postRepository.existsByAuthorIdAndIsPublishedTrue(event.getUserId())
+                        || commentRepository.existsByUserId(event.getUserId())) {
+                    clear();
+                }
+            }
+            // Kullanıcının postları, yorumları ve puanları da silinir; etkilenen sayfalar artık sorgulanamaz
+            case DELETED -> clear();
+        }
+    }
+
+    /**
+     * Postun detay sayfasını ve (kart sayıları değiştiği için) tüm liste sayfalarını at
+     */
+    public synchronized void invalidatePost(Long postId) {
+        generation.incrementAndGet();
+        Iterator<Map.Entry<String, CachedPage>> iterator = pages.entrySet().iterator();
+        while (iterator.hasNext()) {
+            CachedPage page = iterator.next().getValue();
+            if (page.postId() == null || Objects.equals(page.postId(), postId)) {
+                totalBytes -= page.gzippedBody().length;
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        generation.incrementAndGet();
+        pages.clear();
+        totalBytes = 0;
+    }
+
+    public synchronized int size() {
+        return pages.size();
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    // ==================== HELPERS ====================
+
+    private void remove(String key) {
+        CachedPage previous = pages.remove(key);
+        if (previous != null) {
+            totalBytes -= previous.gzippedBody().length;
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<CachedPage> iterator = pages.values().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            totalBytes -= iterator.next().gzippedBody().length;
+            iterator.remove();
+        }
+    }
+
+    private byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(512, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,96 @@
+package com.blog.blogprojesi.service;
+
+import com.blog.blogprojesi.dto.PostDetailView;
+import com.blog.blogprojesi.dto.PostVersion;
+import com.blog.blogprojesi.entity.Comment;
+import com.blog.blogprojesi.entity.Post;
+import com.blog.blogprojesi.entity.PostStats;
+import com.blog.blogprojesi.entity.User;
+import com.blog.blogprojesi.repository.CommentRepository;
+import com.blog.blogprojesi.repository.PostRepository;
+import com.blog.blogprojesi.repository.RatingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Post detay sayfası Service sınıfı
+ * Sayfanın tamamını iki sorguda yükler: post + yazar + istatistikler (puan ortalaması,
+ * sayısı ve dağılımı post_stats kaydında hazır) + post_renders'taki hazır içerik HTML'i,
+ * ardından yorumların ilk sayfası.
+ * Giriş yapmış kullanıcı için kendi puanı tek bir ek sorguyla, yer imi durumu
+ * önbellekteki yer imi kümesinden okunur.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostDetailService {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final RatingRepository ratingRepository;
+    private final BookmarkService bookmarkService;
+    private final PostRenderService postRenderService;
+
+    @Value("${blog.comments.page-size:50}")
+    private int commentPageSize;
+
+    /**
+     * Detay sayfası modelini yükle (post yoksa boş döner)
+     */
+    public Optional<PostDetailView> load(Long postId, User viewer) {
+        List<Object[]> rows = postRepository.findDetailById(postId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Post post = (Post) rows.get(0)[0];
+        PostStats stats = (PostStats) rows.get(0)[1];
+        String html = postRenderService.getHtml(post, (String) rows.get(0)[2]);
+        Slice<Comment> comments = findCommentPage(postId, 0);
+
+        double averageRating = stats != null ? Math.round(stats.getAverageRating() * 10.0) / 10.0 : 0.0;
+        long ratingCount = stats != null ? stats.getRatingCount() : 0L;
+        Map<Integer, Long> distribution = stats != null ? stats.getDistribution() : emptyDistribution();
+        long commentCount = stats != null ? stats.getCommentCount() : comments.getNumberOfElements();
+
+        Integer userRating = null;
+        boolean bookmarked = false;
+        if (viewer != null) {
+            userRating = ratingRepository.findScoreByUserIdAndPostId(viewer.getId(), postId).orElse(null);
+            bookmarked = bookmarkService.isBookmarked(viewer, postId);
+        }
+
+        return Optional.of(new PostDetailView(post, html, comments.getContent(), commentCount, comments.hasNext(),
+                averageRating, ratingCount, distribution, userRating, bookmarked));
+    }
+
+    /**
+     * Post sayfalarının koşullu GET doğrulayıcıları (post yoksa boş döner)
+     */
+    public Optional<PostVersion> findVersion(Long postId) {
+        return postRepository.findVersionById(postId);
+    }
+
+    /**
+     * Yorumların bir sayfası (en yeni önce)
+     */
+    public Slice<Comment> findCommentPage(Long postId, int page) {
+        return commentRepository.findPageByPostId(postId, PageRequest.of(Math.max(0, page), commentPageSize));
+    }
+
+    private Map<Integer, Long> emptyDistribution() {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        for (int score = 1; score <= 5; score++) {
+            distribution.put(score, 0L);
+        }
+        return distribution;
+    }
+}
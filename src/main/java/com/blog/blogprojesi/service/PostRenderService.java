@@ -0,0 +1,88 @@
+package com.blog.blogprojesi.service;
+
+import com.blog.blogprojesi.content.MarkdownRenderer;
+import com.blog.blogprojesi.entity.Post;
+import com.blog.blogprojesi.entity.PostRender;
+import com.blog.blogprojesi.event.PostChangedEvent;
+import com.blog.blogprojesi.repository.PostRenderRepository;
+import com.blog.blogprojesi.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Post HTML Service sınıfı
+ * Markdown içerik, post oluşturulduğunda veya güncellendiğinde commit sonrasında bir kez HTML'e
+ * çevrilip içerik revizyonuyla birlikte post_renders tablosuna yazılır. Detay sayfası kayıtlı
+ * HTML'i doğrudan kullanır; revizyon eşleşmiyorsa (henüz oluşturulmamış veya eski) HTML bellekte
+ * üretilir ve kayıt bir sonraki değişiklikte ya da başlangıçtaki tamamlamada yenilenir.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class PostRenderService {
+
+    private static final int BACKFILL_BATCH_SIZE = 200;
+
+    private final PostRenderRepository postRenderRepository;
+    private final PostRepository postRepository;
+
+    /**
+     * Postun temizlenmiş HTML içeriği
+     * Kayıtlı HTML post ile aynı sorguda okunur; null ise (kayıt yok veya revizyon eski) bellekte üretilir
+     */
+    public String getHtml(Post post, String storedHtml) {
+        if (post.getContent() == null || post.getContent().isBlank()) {
+            return "";
+        }
+        return storedHtml != null ? storedHtml : MarkdownRenderer.render(post.getContent());
+    }
+
+    /**
+     * İçerik değişikliklerinden sonra HTML'i yeniden oluştur
+     * Dinleyici commit sonrasında çalıştığı için yazma ayrı bir transaction içinde yapılır
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getChangeType() == PostChangedEvent.ChangeType.DELETED) {
+            return;
+        }
+        postRepository.findById(event.getPostId()).ifPresent(this::renderIfStale);
+    }
+
+    /**
+     * HTML kaydı olmayan veya eski kalmış postların HTML'ini oluştur
+     */
+    public int backfillMissingRenders() {
+        List<Long> stale = postRenderRepository.findPostIdsWithStaleRender();
+        for (int from = 0; from < stale.size(); from += BACKFILL_BATCH_SIZE) {
+            List<Long> batch = stale.subList(from, Math.min(from + BACKFILL_BATCH_SIZE, stale.size()));
+            postRepository.findAllById(batch).forEach(this::renderIfStale);
+        }
+        if (!stale.isEmpty()) {
+            log.info("Rendered HTML backfilled for {} posts", stale.size());
+        }
+        return stale.size();
+    }
+
+    private void renderIfStale(Post post) {
+        if (post.getContent() == null) {
+            return;
+        }
+        PostRender render = postRenderRepository.findById(post.getId())
+                .orElseGet(() -> PostRender.builder().post(post).build());
+        if (render.getHtml() != null && render.getRevision() == post.getRevision()) {
+            return;
+        }
+        render.setRevision(post.getRevision());
+        render.setHtml(MarkdownRenderer.render(post.getContent()));
+        postRenderRepository.save(render);
+    }
+}
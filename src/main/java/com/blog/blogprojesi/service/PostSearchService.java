@@ -0,0 +1,302 @@
+package com.blog.blogprojesi.service;
+
+import com.blog.blogprojesi.dto.FeedCursor;
+import com.blog.blogprojesi.dto.FeedPage;
+import com.blog.blogprojesi.dto.FeedSort;
+import com.blog.blogprojesi.dto.PostCard;
+import com.blog.blogprojesi.entity.Post;
+import com.blog.blogprojesi.event.PostChangedEvent;
+import com.blog.blogprojesi.event.UserChangedEvent;
+import com.blog.blogprojesi.repository.PostRepository;
+import com.blog.blogprojesi.search.InvertedIndex;
+import com.blog.blogprojesi.search.SearchHit;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Post arama Service sınıfı
+ * Yayınlanmış postların başlık, kategori, özet ve içeriğinden oluşan ters indeksini
+ * bellekte tutar ve BM25 ile sıralı, sayfalı sonuç döndürür. İndeks başlangıçta
+ * dosyadan yüklenir (veritabanı parmak izi uyuşuyorsa) veya yeniden oluşturulur;
+ * post değişiklikleri commit sonrasında indekse yansıtılır.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostSearchService {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int MAX_SORTED_HITS = 1000;
+
+    private final PostRepository postRepository;
+    private final TopRatedRankingService topRatedRankingService;
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    private final AtomicBoolean ready = new AtomicBoolean(false);
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    @Value("${blog.search.index-file:./data/search-index.bin}")
+    private String indexFile;
+
+    /**
+     * Uygulama hazır olduğunda indeksi dosyadan yükle veya yeniden oluştur
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeIndex() {
+        String fingerprint = currentFingerprint();
+        if (loadFromFile(fingerprint)) {
+            log.info("Search index loaded from {} ({} posts, {} terms)", indexFile, index.size(), index.termCount());
+        } else {
+            rebuild();
+            saveIndex();
+        }
+        ready.set(true);
+    }
+
+    /**
+     * İndeksi veritabanından baştan oluştur
+     */
+    public void rebuild() {
+        index.clear();
+        int page = 0;
+        Page<Post> batch;
+        do {
+            batch = postRepository.findByIsPublishedTrueOrderByCreatedAtDesc(PageRequest.of(page++, REBUILD_BATCH_SIZE));
+            batch.forEach(this::indexPost);
+        } while (batch.hasNext());
+        dirty.set(true);
+        log.info("Search index rebuilt ({} posts, {} terms)", index.size(), index.termCount());
+    }
+
+    /**
+     * Post değişikliklerini commit sonrasında indekse yansıt
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getChangeType() == PostChangedEvent.ChangeType.DELETED) {
+            index.remove(event.getPostId());
+        } else {
+            postRepository.findByIdWithDetails(event.getPostId()).ifPresentOrElse(post -> {
+                if (post.isPublished()) {
+                    indexPost(post);
+                } else {
+                    index.remove(post.getId());
+                }
+            }, () -> index.remove(event.getPostId()));
+        }
+        dirty.set(true);
+    }
+
+    /**
+     * Silinen kullanıcının postları da silindiği için indeksten çıkar
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getChangeType() != UserChangedEvent.ChangeType.DELETED || event.getDeletedPostIds().isEmpty()) {
+            return;
+        }
+        event.getDeletedPostIds().forEach(index::remove);
+        dirty.set(true);
+    }
+
+    /**
+     * Sıralı arama sonuçlarının post ID'leri
+     */
+    public List<Long> searchIds(String query) {
+        return index.search(query).stream()
+                .map(SearchHit::getDocumentId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Tüm arama sonuçları (alaka sırasına göre)
+     */
+    public List<Post> search(String query) {
+        return loadInOrder(searchIds(query));
+    }
+
+    /**
+     * Sayfalı arama sonuçları (alaka sırasına göre)
+     */
+    public Page<Post> search(String query, Pageable pageable) {
+        List<Long> ids = searchIds(query);
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + pageable.getPageSize(), ids.size());
+        return new PageImpl<>(loadInOrder(ids.subList(from, to)), pageable, ids.size());
+    }
+
+    /**
+     * Sonsuz kaydırma için arama sayfası
+     * Alaka sırasında cursor bir sonraki sonucun sırasıdır; en yeni sıralamada eşleşen postlar
+     * (createdAt, id) keyset'i ile, popüler / en yüksek puanlı sıralamada sıra numarasıyla sayfalanır
+     */
+    public FeedPage<PostCard> searchFeed(String query, FeedSort sort, String cursor, int pageSize) {
+        List<Long> ids = searchIds(query);
+        if (sort == FeedSort.RELEVANCE) {
+            return offsetPage(ids, cursor, pageSize);
+        }
+        if (ids.size() > MAX_SORTED_HITS) {
+            ids = ids.subList(0, MAX_SORTED_HITS); // En alakalı sonuçlarla sınırla
+        }
+        if (ids.isEmpty()) {
+            return new FeedPage<>(List.of(), null);
+        }
+        return switch (sort) {
+            case LATEST -> latestPage(ids, cursor, pageSize);
+            case POPULAR -> {
+                Pageable pageable = PageRequest.of(decodeOffset(cursor) / pageSize, pageSize);
+                Slice<PostCard> page = postRepository.findPublishedByIdInOrderByViews(ids, pageable);
+                String nextCursor = page.hasNext() ? String.valueOf(pageable.getOffset() + pageSize) : null;
+                yield new FeedPage<>(page.getContent(), nextCursor);
+            }
+            // Ana sayfadaki en yüksek puanlı akışla aynı (Bayes) sıralama
+            case TOP_RATED -> offsetPage(topRatedRankingService.sortByRanking(ids), cursor, pageSize);
+            case RELEVANCE -> throw new IllegalStateException("Relevance page is served above");
+        };
+    }
+
+    /**
+     * Sıralı ID listesinden sıra numarası cursor'lı sayfa
+     */
+    private FeedPage<PostCard> offsetPage(List<Long> ids, String cursor, int pageSize) {
+        int from = Math.min(decodeOffset(cursor) / pageSize * pageSize, ids.size());
+        int to = Math.min(from + pageSize, ids.size());
+        String nextCursor = to < ids.size() ? String.valueOf(to) : null;
+        return new FeedPage<>(loadCardsInOrder(ids.subList(from, to)), nextCursor);
+    }
+
+    /**
+     * Eşleşen postlar arasında en yeniden eskiye keyset sayfası
+     */
+    private FeedPage<PostCard> latestPage(List<Long> ids, String cursor, int pageSize) {
+        FeedCursor after = FeedCursor.decode(cursor, FeedSort.LATEST).orElse(null);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<PostCard> rows = after == null
+                ? postRepository.findPublishedFeedByIdIn(ids, limit)
+                : postRepository.findPublishedFeedByIdInAfter(ids, after.getCreatedAt(), after.getId(), limit);
+        if (rows.size() <= pageSize) {
+            return new FeedPage<>(rows, null);
+        }
+        List<PostCard> items = new ArrayList<>(rows.subList(0, pageSize));
+        return new FeedPage<>(items, FeedCursor.of(items.get(items.size() - 1), FeedSort.LATEST).encode());
+    }
+
+    /**
+     * Değişiklik varsa indeksi periyodik olarak dosyaya yaz
+     */
+    @Scheduled(fixedDelayString = "${blog.search.save-interval-ms:300000}")
+    public void saveIfDirty() {
+        if (ready.get() && dirty.get()) {
+            saveIndex();
+        }
+    }
+
+    @PreDestroy
+    public void saveOnShutdown() {
+        saveIfDirty();
+    }
+
+    private void indexPost(Post post) {
+        // İşlenmiş düz metin (markdown işaretleri ve bağlantı adresleri olmadan) indekslenir
+        String text = post.getSearchText() != null ? post.getSearchText() : post.getContent();
+        index.index(post.getId(), post.getTitle(), post.getCategoryName(), post.getExcerpt(), text);
+    }
+
+    private List<Post> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return new ArrayList<>();
+        Map<Long, Post> posts = postRepository.findPublishedByIdIn(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<Post> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Post post = posts.get(id);
+            if (post != null) ordered.add(post);
+        }
+        return ordered;
+    }
+
+    private List<PostCard> loadCardsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return new ArrayList<>();
+        Map<Long, PostCard> cards = postRepository.findPublishedCardsByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostCard::getId, Function.identity()));
+        List<PostCard> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            PostCard card = cards.get(id);
+            if (card != null) ordered.add(card);
+        }
+        return ordered;
+    }
+
+    private int decodeOffset(String cursor) {
+        if (cursor == null || cursor.isBlank()) return 0;
+        try {
+            return Math.max(0, Integer.parseInt(cursor));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private String currentFingerprint() {
+        Object[] row = postRepository.getPublishedFingerprint().get(0);
+        return row[0] + "|" + row[1] + "|" + row[2];
+    }
+
+    private boolean loadFromFile(String fingerprint) {
+        Path path = Path.of(indexFile);
+        if (!Files.isRegularFile(path)) return false;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            boolean loaded = index.readFrom(in, fingerprint);
+            if (!loaded) {
+                log.info("Search index file {} is stale, rebuilding", indexFile);
+            }
+            return loaded;
+        } catch (IOException e) {
+            log.warn("Search index file {} could not be read: {}", indexFile, e.getMessage());
+            return false;
+        }
+    }
+
+    private synchronized void saveIndex() {
+        dirty.set(false);
+        Path path = Path.of(indexFile).toAbsolutePath();
+        try {
+            Files.createDirectories(path.getParent());
+            Path tempFile = Files.createTempFile(path.getParent(), "search-index", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                index.writeTo(out, currentFingerprint());
+            }
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Search index saved to {}", path);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("Search index could not be saved to {}: {}", path, e.getMessage());
+        }
+    }
+}
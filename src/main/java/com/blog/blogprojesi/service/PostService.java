@@ -1,21 +1,33 @@
 package com.blog.blogprojesi.service;
 
+import com.blog.blogprojesi.dto.FeedCursor;
+import com.blog.blogprojesi.dto.FeedPage;
+import com.blog.blogprojesi.dto.FeedSort;
+import com.blog.blogprojesi.dto.PostCard;
+import com.blog.blogprojesi.entity.Category;
 import com.blog.blogprojesi.entity.Post;
 import com.blog.blogprojesi.entity.PostType;
 import com.blog.blogprojesi.entity.User;
+import com.blog.blogprojesi.event.PostChangedEvent;
 import com.blog.blogprojesi.repository.PostRepository;
-import com.blog.blogprojesi.repository.RatingRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Post işlemleri için Service sınıfı
@@ -23,10 +35,22 @@ import java.util.Optional;
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Slf4j
 public class PostService {
 
+    private static final int BACKFILL_BATCH_SIZE = 200;
+
     private final PostRepository postRepository;
-    private final RatingRepository ratingRepository;
+    private final PostStatsService postStatsService;
+    private final PostSearchService postSearchService;
+    private final TopRatedRankingService topRatedRankingService;
+    private final SiteStatisticsRegistry siteStatistics;
+    private final CategoryService categoryService;
+    private final CategoryRegistry categoryRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${blog.feed.page-size:12}")
+    private int feedPageSize;
 
     /**
      * Yeni text post oluştur (imageUrl ile)
@@ -36,7 +60,7 @@ public class PostService {
                 .title(title)
                 .content(content)
                 .postType(PostType.TEXT)
-                .category(category)
+                .category(categoryService.resolve(category))
                 .author(author)
                 .isPublished(true)
                 .commentsEnabled(commentsEnabled)
@@ -44,14 +68,12 @@ public class PostService {
                 .imageUrl(imageUrl)
                 .build();
 
-        // Excerpt oluştur
-        if (content != null && content.length() > 200) {
-            post.setExcerpt(content.substring(0, 200) + "...");
-        } else {
-            post.setExcerpt(content);
-        }
-
-        return postRepository.save(post);
+        // Özet, kelime sayısı ve okuma süresi kayıt sırasında içerikten hesaplanır
+        Post savedPost = postRepository.save(post);
+        postStatsService.createFor(savedPost);
+        categoryService.updatePublishedCounts(null, false, savedPost.getCategory(), savedPost.isPublished());
+        eventPublisher.publishEvent(PostChangedEvent.created(savedPost.getId()));
+        return savedPost;
     }
     
     /**
@@ -70,7 +92,7 @@ public class PostService {
                 .url(url)
                 .content(content)
                 .postType(PostType.LINK)
-                .category(category)
+                .category(categoryService.resolve(category))
                 .author(author)
                 .isPublished(true)
                 .commentsEnabled(commentsEnabled)
@@ -78,14 +100,12 @@ public class PostService {
                 .imageUrl(imageUrl)
                 .build();
 
-        // Link postları için excerpt
-        if (content != null && !content.isEmpty()) {
-            post.setExcerpt(content.length() > 200 ? content.substring(0, 200) + "..." : content);
-        } else {
-            post.setExcerpt("Link: " + url);
-        }
-
-        return postRepository.save(post);
+        // İçeriği olmayan link postlarında özet bağlantı adresidir (kayıt sırasında hesaplanır)
+        Post savedPost = postRepository.save(post);
+        postStatsService.createFor(savedPost);
+        categoryService.updatePublishedCounts(null, false, savedPost.getCategory(), savedPost.isPublished());
+        eventPublisher.publishEvent(PostChangedEvent.created(savedPost.getId()));
+        return savedPost;
     }
     
     /**
@@ -131,7 +151,7 @@ public class PostService {
     }
 
     /**
-     * ID'ye göre post getir (tüm detaylarla)
+     * ID'ye göre post getir (yazar ve istatistiklerle)
      */
     @Transactional(readOnly = true)
     public Optional<Post> findByIdWithDetails(Long id) {
@@ -155,19 +175,102 @@ public class PostService {
     }
 
     /**
-     * Kullanıcının postlarını getir
+     * Yayınlanmış postları cursor tabanlı akış olarak getir
+     * Arama, kategoriden önceliklidir ve arama indeksinden gelir (RELEVANCE: alaka sırasıyla);
+     * diğer akışlarda her istek seçilen sıralamanın keyset sorgusuyla en fazla sayfa boyutu + 1 satır okur
+     */
+    @Transactional(readOnly = true)
+    public FeedPage<PostCard> findPublishedFeed(String category, String search, FeedSort sort, String cursor) {
+        if (search != null && !search.isBlank()) {
+            return postSearchService.searchFeed(search, sort, cursor, feedPageSize);
+        }
+
+        Long categoryId = null;
+        if (category != null && !category.isBlank()) {
+            Optional<Long> knownId = categoryService.findIdByName(category);
+            if (knownId.isEmpty()) {
+                return new FeedPage<>(new ArrayList<>(), null);
+            }
+            categoryId = knownId.get();
+        }
+
+        if (sort == FeedSort.RELEVANCE) {
+            sort = FeedSort.LATEST; // Alaka sırası yalnızca aramada vardır
+        }
+        FeedCursor after = FeedCursor.decode(cursor, sort).orElse(null);
+        if (sort == FeedSort.TOP_RATED) {
+            return findTopRatedFeed(categoryId, after);
+        }
+        Pageable limit = PageRequest.of(0, feedPageSize + 1);
+        boolean byCategory = categoryId != null;
+
+        List<PostCard> rows = switch (sort) {
+            case POPULAR -> byCategory
+                    ? (after == null
+                        ? postRepository.findPopularFeedByCategory(categoryId, limit)
+                        : postRepository.findPopularFeedByCategoryAfter(categoryId, after.getViewCount(), after.getId(), limit))
+                    : (after == null
+                        ? postRepository.findPopularFeed(limit)
+                        : postRepository.findPopularFeedAfter(after.getViewCount(), after.getId(), limit));
+            case LATEST -> byCategory
+                    ? (after == null
+                        ? postRepository.findPublishedFeedByCategory(categoryId, limit)
+                        : postRepository.findPublishedFeedByCategoryAfter(categoryId, after.getCreatedAt(), after.getId(), limit))
+                    : (after == null
+                        ? postRepository.findPublishedFeed(limit)
+                        : postRepository.findPublishedFeedAfter(after.getCreatedAt(), after.getId(), limit));
+            // Bellek içi sıralamadan yukarıda okunur
+            case TOP_RATED -> throw new IllegalStateException("Top-rated feed is served from the ranking");
+            case RELEVANCE -> throw new IllegalStateException("Relevance order applies to search only");
+        };
+
+        if (rows.size() <= feedPageSize) {
+            return new FeedPage<>(rows, null);
+        }
+        List<PostCard> items = new ArrayList<>(rows.subList(0, feedPageSize));
+        return new FeedPage<>(items, FeedCursor.of(items.get(items.size() - 1), sort).encode());
+    }
+
+    /**
+     * En yüksek puanlı akış (Bayes ortalamasına göre, bellek içi sıralamadan)
+     * Sıralama ve sayfa sınırları TopRatedRankingService'ten, kart bilgileri veritabanından gelir.
+     */
+    private FeedPage<PostCard> findTopRatedFeed(Long categoryId, FeedCursor after) {
+        List<TopRatedRankingService.RankedPost> ranked = topRatedRankingService.findAfter(categoryId,
+                after != null ? after.getScore() : null, after != null ? after.getId() : null, feedPageSize + 1);
+        boolean hasNext = ranked.size() > feedPageSize;
+        if (hasNext) {
+            ranked = ranked.subList(0, feedPageSize);
+        }
+        List<Long> ids = ranked.stream().map(TopRatedRankingService.RankedPost::postId).toList();
+        Map<Long, PostCard> cards = ids.isEmpty() ? Map.of() : postRepository.findPublishedCardsByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostCard::getId, Function.identity()));
+        List<PostCard> items = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            PostCard card = cards.get(id);
+            if (card != null) items.add(card);
+        }
+        if (!hasNext) {
+            return new FeedPage<>(items, null);
+        }
+        TopRatedRankingService.RankedPost last = ranked.get(ranked.size() - 1);
+        return new FeedPage<>(items, FeedCursor.ofScore(last.score(), last.postId()).encode());
+    }
+
+    /**
+     * Kullanıcının post kartlarını getir (yayınlanmış ve taslak)
      */
     @Transactional(readOnly = true)
-    public List<Post> findPostsByAuthor(User author) {
-        return postRepository.findByAuthorOrderByCreatedAtDesc(author);
+    public List<PostCard> findPostsByAuthor(User author) {
+        return postRepository.findCardsByAuthor(author);
     }
 
     /**
-     * Kullanıcının yayınlanmış postlarını getir
+     * Kullanıcının yayınlanmış post kartlarını getir
      */
     @Transactional(readOnly = true)
-    public List<Post> findPublishedPostsByAuthor(User author) {
-        return postRepository.findByAuthorAndIsPublishedTrueOrderByCreatedAtDesc(author);
+    public List<PostCard> findPublishedPostsByAuthor(User author) {
+        return postRepository.findCardsByAuthorAndPublished(author, true);
     }
 
     /**
@@ -175,7 +278,9 @@ public class PostService {
      */
     @Transactional(readOnly = true)
     public List<Post> findPostsByCategory(String category) {
-        return postRepository.findByCategoryAndIsPublishedTrueOrderByCreatedAtDesc(category);
+        return categoryService.findIdByName(category)
+                .map(postRepository::findByCategoryIdAndIsPublishedTrueOrderByCreatedAtDesc)
+                .orElseGet(ArrayList::new);
     }
 
     /**
@@ -199,7 +304,7 @@ public class PostService {
      */
     @Transactional(readOnly = true)
     public List<Post> searchPosts(String keyword) {
-        return postRepository.searchPosts(keyword);
+        return postSearchService.search(keyword);
     }
 
     /**
@@ -211,11 +316,20 @@ public class PostService {
     }
 
     /**
-     * En çok puanlanan postlar
+     * En çok puanlanan postlar (Bayes ortalamasına göre, bellek içi sıralamadan)
      */
     @Transactional(readOnly = true)
     public List<Post> findTopRatedPosts(int limit) {
-        return postRepository.findTopRatedPosts(PageRequest.of(0, limit));
+        List<Long> ids = topRatedRankingService.getTopPostIds(limit);
+        if (ids.isEmpty()) return new ArrayList<>();
+        Map<Long, Post> posts = postRepository.findPublishedByIdIn(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<Post> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Post post = posts.get(id);
+            if (post != null) ordered.add(post);
+        }
+        return ordered;
     }
 
     /**
@@ -227,24 +341,19 @@ public class PostService {
     }
 
     /**
-     * Kategorileri getir
+     * Kategorileri getir (kategori kaydından, en çok posttan aza)
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<String> findAllCategories() {
-        return postRepository.findAllCategories();
+        return categoryRegistry.getCategoryNames();
     }
 
     /**
-     * Kategori bazlı post sayılarını getir
+     * Kategori bazlı post sayılarını getir (kategori kaydından)
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Map<String, Long> getCategoryPostCounts() {
-        List<Object[]> results = postRepository.countByCategory();
-        Map<String, Long> counts = new HashMap<>();
-        for (Object[] result : results) {
-            counts.put((String) result[0], (Long) result[1]);
-        }
-        return counts;
+        return categoryRegistry.getPublishedCounts();
     }
 
     /**
@@ -263,32 +372,27 @@ public class PostService {
     /**
      * Toplam post sayısı
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public long getTotalPostCount() {
-        return postRepository.countByIsPublishedTrue();
+        return siteStatistics.getPublishedPosts();
     }
 
     /**
      * Toplam yazar sayısı
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public long getTotalAuthorCount() {
-        return postRepository.findAll().stream()
-                .filter(Post::isPublished)
-                .map(p -> p.getAuthor().getId())
-                .distinct()
-                .count();
+        return siteStatistics.getAuthorCount();
     }
 
     /**
      * Kategoriye göre son yazıları getir
      */
     @Transactional(readOnly = true)
-    public List<Post> findRecentPostsByCategory(String category, int limit) {
-        return postRepository.findByIsPublishedTrueAndCategoryOrderByCreatedAtDesc(category)
-                .stream()
-                .limit(limit)
-                .toList();
+    public List<PostCard> findRecentPostsByCategory(String category, int limit) {
+        return categoryService.findIdByName(category)
+                .map(categoryId -> postRepository.findPublishedFeedByCategory(categoryId, PageRequest.of(0, limit)))
+                .orElseGet(ArrayList::new);
     }
 
     /**
@@ -299,9 +403,10 @@ public class PostService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new RuntimeException("Post bulunamadı"));
 
+        Category previousCategory = post.getCategory();
         post.setTitle(title);
         post.setContent(content);
-        post.setCategory(category);
+        post.setCategory(categoryService.resolve(category));
         post.setCommentsEnabled(commentsEnabled);
         post.setFeatured(featured);
         post.setImageUrl(imageUrl);
@@ -310,31 +415,21 @@ public class PostService {
             post.setUrl(url);
         }
 
-        // Excerpt güncelle
-        if (content != null && content.length() > 200) {
-            post.setExcerpt(content.substring(0, 200) + "...");
-        } else {
-            post.setExcerpt(content);
-        }
-
-        return postRepository.save(post);
-    }
-
-    /**
-     * Görüntüleme sayısını artır
-     */
-    public void incrementViewCount(Long postId) {
-        postRepository.findById(postId).ifPresent(post -> {
-            post.incrementViewCount();
-            postRepository.save(post);
-        });
+        Post savedPost = postRepository.save(post);
+        categoryService.updatePublishedCounts(previousCategory, post.isPublished(), post.getCategory(), post.isPublished());
+        eventPublisher.publishEvent(PostChangedEvent.updated(postId));
+        return savedPost;
     }
 
     /**
      * Post sil
      */
     public void deletePost(Long postId) {
-        postRepository.deleteById(postId);
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new RuntimeException("Post bulunamadı"));
+        categoryService.updatePublishedCounts(post.getCategory(), post.isPublished(), null, false);
+        postRepository.delete(post);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(postId));
     }
 
     /**
@@ -342,7 +437,7 @@ public class PostService {
      */
     @Transactional(readOnly = true)
     public Double getAverageRating(Long postId) {
-        return ratingRepository.getAverageRatingByPostId(postId);
+        return postStatsService.getStats(postId).getAverageRating();
     }
 
     /**
@@ -350,7 +445,7 @@ public class PostService {
      */
     @Transactional(readOnly = true)
     public Long getRatingCount(Long postId) {
-        return ratingRepository.countByPostId(postId);
+        return postStatsService.getStats(postId).getRatingCount();
     }
 
     /**
@@ -368,15 +463,34 @@ public class PostService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new RuntimeException("Post bulunamadı"));
         post.setPublished(!post.isPublished());
-        return postRepository.save(post);
+        Post savedPost = postRepository.save(post);
+        categoryService.updatePublishedCounts(post.getCategory(), !post.isPublished(), post.getCategory(), post.isPublished());
+        eventPublisher.publishEvent(PostChangedEvent.publishChanged(postId));
+        return savedPost;
+    }
+
+    /**
+     * Türetilen alanları olmayan eski postlar için içerik işleme adımını çalıştır (başlangıçta çalışır)
+     */
+    public int backfillDerivedContent() {
+        List<Long> missing = postRepository.findIdsWithoutDerivedContent();
+        for (int from = 0; from < missing.size(); from += BACKFILL_BATCH_SIZE) {
+            List<Long> batch = missing.subList(from, Math.min(from + BACKFILL_BATCH_SIZE, missing.size()));
+            postRepository.findAllById(batch).forEach(Post::refreshDerivedContent);
+            postRepository.flush();
+        }
+        if (!missing.isEmpty()) {
+            log.info("Derived content backfilled for {} posts", missing.size());
+        }
+        return missing.size();
     }
 
     /**
-     * Kullanıcının taslak postlarını getir
+     * Kullanıcının taslak post kartlarını getir
      */
     @Transactional(readOnly = true)
-    public List<Post> findDraftsByAuthor(User author) {
-        return postRepository.findByAuthorAndIsPublishedFalseOrderByCreatedAtDesc(author);
+    public List<PostCard> findDraftsByAuthor(User author) {
+        return postRepository.findCardsByAuthorAndPublished(author, false);
     }
 
     /**
@@ -395,7 +509,7 @@ public class PostService {
         Post post = Post.builder()
                 .title(title)
                 .content(content)
-                .category(category)
+                .category(categoryService.resolve(category))
                 .url(url)
                 .imageUrl(imageUrl)
                 .postType(postType)
@@ -404,6 +518,10 @@ public class PostService {
                 .isFeatured(false)
                 .viewCount(0L)
                 .build();
-        return postRepository.save(post);
+        Post savedPost = postRepository.save(post);
+        postStatsService.createFor(savedPost);
+        categoryService.updatePublishedCounts(null, false, savedPost.getCategory(), savedPost.isPublished());
+        eventPublisher.publishEvent(PostChangedEvent.created(savedPost.getId()));
+        return savedPost;
     }
 }
@@ -0,0 +1,236 @@
+package com.blog.blogprojesi.service;
+
+import com.blog.blogprojesi.entity.Post;
+import com.blog.blogprojesi.entity.PostStats;
+import com.blog.blogprojesi.event.PostRatingChangedEvent;
+import com.blog.blogprojesi.repository.BookmarkRepository;
+import com.blog.blogprojesi.repository.CommentRepository;
+import com.blog.blogprojesi.repository.PostRepository;
+import com.blog.blogprojesi.repository.PostStatsRepository;
+import com.blog.blogprojesi.repository.RatingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Post istatistikleri Service sınıfı
+ * Puan, yorum ve yer imi yazmaları ile aynı transaction içinde post_stats kaydını günceller.
+ * Kaydı olmayan postlar için kayıt mevcut verilerden hesaplanır; bu yüzden kayıt
+ * metotları değişiklik veritabanına yazılmadan önce çağrılmalıdır.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class PostStatsService {
+
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final PostStatsRepository postStatsRepository;
+    private final PostRepository postRepository;
+    private final RatingRepository ratingRepository;
+    private final CommentRepository commentRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Yeni post için boş istatistik kaydı oluştur
+     */
+    public PostStats createFor(Post post) {
+        PostStats stats = PostStats.builder()
+                .post(post)
+                .build();
+        return postStatsRepository.save(stats);
+    }
+
+    /**
+     * Post istatistiklerini getir (kayıt yoksa boş istatistik döner)
+     */
+    @Transactional(readOnly = true)
+    public PostStats getStats(Long postId) {
+        return postStatsRepository.findById(postId)
+                .orElseGet(() -> PostStats.builder().postId(postId).build());
+    }
+
+    /**
+     * Birden fazla postun istatistiklerini tek sorguda getir
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, PostStats> getStats(Collection<Long> postIds) {
+        if (postIds.isEmpty()) return Map.of();
+        return postStatsRepository.findByPostIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostStats::getPostId, Function.identity()));
+    }
+
+    /**
+     * Yeni puan
+     */
+    public void recordRatingAdded(Long postId, int score) {
+        PostStats stats = lockStats(postId);
+        stats.addRating(score);
+        publishRatingChanged(stats);
+    }
+
+    /**
+     * Puan güncellendi
+     */
+    public void recordRatingChanged(Long postId, int oldScore, int newScore) {
+        PostStats stats = lockStats(postId);
+        stats.changeRating(oldScore, newScore);
+        publishRatingChanged(stats);
+    }
+
+    /**
+     * Puan silindi
+     */
+    public void recordRatingRemoved(Long postId, int score) {
+        PostStats stats = lockStats(postId);
+        stats.removeRating(score);
+        publishRatingChanged(stats);
+    }
+
+    /**
+     * Yorum eklendi
+     */
+    public void recordCommentAdded(Long postId) {
+        lockStats(postId).addComment();
+    }
+
+    /**
+     * Yorum silindi
+     */
+    public void recordCommentRemoved(Long postId) {
+        lockStats(postId).removeComment();
+    }
+
+    /**
+     * Yer imi eklendi
+     */
+    public void recordBookmarkAdded(Long postId) {
+        lockStats(postId).addBookmark();
+    }
+
+    /**
+     * Yer imi kaldırıldı
+     */
+    public void recordBookmarkRemoved(Long postId) {
+        lockStats(postId).removeBookmark();
+    }
+
+    /**
+     * Kullanıcının etkileşimde bulunduğu (puan, yorum, yer imi) postların ID'leri
+     * Kullanıcı silinmeden önce çağrılır, silme sonrası bu postlar refresh edilir
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findPostIdsTouchedByUser(Long userId) {
+        Set<Long> postIds = new HashSet<>();
+        postIds.addAll(ratingRepository.findPostIdsByUserId(userId));
+        postIds.addAll(commentRepository.findPostIdsByUserId(userId));
+        postIds.addAll(bookmarkRepository.findPostIdsByUserId(userId));
+        return postIds;
+    }
+
+    /**
+     * Verilen postların istatistiklerini mevcut verilerden yeniden hesapla
+     */
+    public void refresh(Collection<Long> postIds) {
+        if (postIds.isEmpty()) return;
+        Map<Long, PostStats> existing = getStats(postIds);
+        Map<Long, PostStats> rebuilt = calculate(postIds);
+        for (Map.Entry<Long, PostStats> entry : rebuilt.entrySet()) {
+            PostStats target = existing.get(entry.getKey());
+            if (target == null) continue; // Silinmiş post
+            copyCounters(entry.getValue(), target);
+            publishRatingChanged(target);
+        }
+    }
+
+    /**
+     * İstatistik kaydı olmayan postlar için kayıt oluştur (başlangıçta çalışır)
+     */
+    public int backfillMissingStats() {
+        List<Long> missing = postStatsRepository.findPostIdsWithoutStats();
+        for (int from = 0; from < missing.size(); from += BACKFILL_BATCH_SIZE) {
+            List<Long> batch = missing.subList(from, Math.min(from + BACKFILL_BATCH_SIZE, missing.size()));
+            Map<Long, PostStats> calculated = calculate(batch);
+            for (Long postId : batch) {
+                postRepository.findById(postId).ifPresent(post -> {
+                    PostStats stats = createFor(post);
+                    copyCounters(calculated.get(postId), stats);
+                });
+            }
+        }
+        if (!missing.isEmpty()) {
+            log.info("Post statistics backfilled for {} posts", missing.size());
+        }
+        return missing.size();
+    }
+
+    /**
+     * Güncelleme için istatistik kaydını kilitle, yoksa mevcut verilerden oluştur
+     */
+    private PostStats lockStats(Long postId) {
+        return postStatsRepository.findByPostIdForUpdate(postId)
+                .orElseGet(() -> {
+                    Post post = postRepository.findById(postId)
+                            .orElseThrow(() -> new RuntimeException("Post bulunamadı"));
+                    PostStats stats = createFor(post);
+                    copyCounters(calculate(List.of(postId)).get(postId), stats);
+                    return stats;
+                });
+    }
+
+    /**
+     * Postların sayaçlarını rating, comment ve bookmark tablolarından hesapla
+     */
+    private Map<Long, PostStats> calculate(Collection<Long> postIds) {
+        Map<Long, PostStats> result = new HashMap<>();
+        for (Long postId : postIds) {
+            result.put(postId, PostStats.builder().postId(postId).build());
+        }
+
+        for (Object[] row : ratingRepository.countByPostIdsAndScore(postIds)) {
+            PostStats stats = result.get((Long) row[0]);
+            int score = (Integer) row[1];
+            long count = (Long) row[2];
+            stats.setScoreCount(score, count);
+            stats.setRatingCount(stats.getRatingCount() + count);
+            stats.setRatingSum(stats.getRatingSum() + score * count);
+        }
+        for (Object[] row : commentRepository.countByPostIds(postIds)) {
+            result.get((Long) row[0]).setCommentCount((Long) row[1]);
+        }
+        for (Object[] row : bookmarkRepository.countByPostIds(postIds)) {
+            result.get((Long) row[0]).setBookmarkCount((Long) row[1]);
+        }
+
+        result.values().forEach(PostStats::recalculateAverage);
+        return result;
+    }
+
+    private void publishRatingChanged(PostStats stats) {
+        eventPublisher.publishEvent(new PostRatingChangedEvent(stats.getPostId()));
+    }
+
+    private void copyCounters(PostStats source, PostStats target) {
+        target.setRatingSum(source.getRatingSum());
+        target.setRatingCount(source.getRatingCount());
+        for (int score = 1; score <= 5; score++) {
+            target.setScoreCount(score, source.getScoreCount(score));
+        }
+        target.setCommentCount(source.getCommentCount());
+        target.setBookmarkCount(source.getBookmarkCount());
+        target.recalculateAverage();
+    }
+}
@@ -1,6 +1,7 @@
 package com.blog.blogprojesi.service;
 
 import com.blog.blogprojesi.entity.Post;
+import com.blog.blogprojesi.entity.PostStats;
 import com.blog.blogprojesi.entity.Rating;
 import com.blog.blogprojesi.entity.User;
 import com.blog.blogprojesi.repository.PostRepository;
@@ -25,6 +26,7 @@ public class RatingService {
 
     private final RatingRepository ratingRepository;
     private final PostRepository postRepository;
+    private final PostStatsService postStatsService;
 
     /**
      * Post'a puan ver veya güncelle
@@ -45,10 +47,12 @@ public class RatingService {
         if (existingRating.isPresent()) {
             // Mevcut puanı güncelle
             Rating rating = existingRating.get();
+            postStatsService.recordRatingChanged(postId, rating.getScore(), score);
             rating.setScore(score);
             return ratingRepository.save(rating);
         } else {
             // Yeni puan oluştur
+            postStatsService.recordRatingAdded(postId, score);
             Rating rating = Rating.builder()
                     .user(user)
                     .post(post)
@@ -81,8 +85,8 @@ public class RatingService {
      */
     @Transactional(readOnly = true)
     public double getAverageRating(Long postId) {
-        Double avg = ratingRepository.getAverageRatingByPostId(postId);
-        return avg != null ? Math.round(avg * 10.0) / 10.0 : 0.0; // Bir ondalık basamağa yuvarla
+        double avg = postStatsService.getStats(postId).getAverageRating();
+        return Math.round(avg * 10.0) / 10.0; // Bir ondalık basamağa yuvarla
     }
 
     /**
@@ -90,8 +94,7 @@ public class RatingService {
      */
     @Transactional(readOnly = true)
     public long getRatingCount(Long postId) {
-        Long count = ratingRepository.countByPostId(postId);
-        return count != null ? count : 0L;
+        return postStatsService.getStats(postId).getRatingCount();
     }
 
     /**
@@ -100,22 +103,7 @@ public class RatingService {
      */
     @Transactional(readOnly = true)
     public Map<Integer, Long> getRatingDistribution(Long postId) {
-        List<Object[]> results = ratingRepository.getRatingDistributionByPostId(postId);
-        Map<Integer, Long> distribution = new HashMap<>();
-        
-        // Tüm puanları 0 ile başlat
-        for (int i = 1; i <= 5; i++) {
-            distribution.put(i, 0L);
-        }
-        
-        // Mevcut değerleri ekle
-        for (Object[] result : results) {
-            Integer score = (Integer) result[0];
-            Long count = (Long) result[1];
-            distribution.put(score, count);
-        }
-        
-        return distribution;
+        return postStatsService.getStats(postId).getDistribution();
     }
 
     /**
@@ -126,7 +114,10 @@ public class RatingService {
                 .orElseThrow(() -> new RuntimeException("Post bulunamadı"));
         
         ratingRepository.findByUserAndPost(user, post)
-                .ifPresent(ratingRepository::delete);
+                .ifPresent(rating -> {
+                    postStatsService.recordRatingRemoved(postId, rating.getScore());
+                    ratingRepository.delete(rating);
+                });
     }
 
     /**
@@ -152,10 +143,11 @@ public class RatingService {
      */
     @Transactional(readOnly = true)
     public Map<String, Object> getRatingSummary(Long postId) {
+        PostStats stats = postStatsService.getStats(postId);
         Map<String, Object> summary = new HashMap<>();
-        summary.put("average", getAverageRating(postId));
-        summary.put("count", getRatingCount(postId));
-        summary.put("distribution", getRatingDistribution(postId));
+        summary.put("average", Math.round(stats.getAverageRating() * 10.0) / 10.0);
+        summary.put("count", stats.getRatingCount());
+        summary.put("distribution", stats.getDistribution());
         return summary;
     }
 }
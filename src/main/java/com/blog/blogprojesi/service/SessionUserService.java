@@ -0,0 +1,55 @@
+package com.blog.blogprojesi.service;
+
+import com.blog.blogprojesi.dto.SessionUser;
+import com.blog.blogprojesi.entity.User;
+import com.blog.blogprojesi.event.UserChangedEvent;
+import com.blog.blogprojesi.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Oturumdaki kullanıcı özetlerinin güncelliğini takip eden Service sınıfı
+ * Kullanıcı değişiklikleri (profil, rol, durum, silme) commit sonrasında zamanıyla kaydedilir.
+ * Bu zamandan önce oluşturulmuş özetler eskimiş sayılır ve bir sonraki istekte yeniden yüklenir;
+ * diğer istekler veritabanına gitmez.
+ */
+@Service
+@RequiredArgsConstructor
+public class SessionUserService {
+
+    private final UserRepository userRepository;
+
+    // Kullanıcı ID -> son değişiklik zamanı (ms)
+    private final Map<Long, Long> changedAt = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        changedAt.put(event.getUserId(), System.currentTimeMillis());
+    }
+
+    /**
+     * Özet oluşturulduktan sonra kullanıcı değişti mi
+     */
+    public boolean isStale(SessionUser sessionUser) {
+        Long lastChange = changedAt.get(sessionUser.getId());
+        return lastChange != null && lastChange >= sessionUser.getLoadedAt();
+    }
+
+    /**
+     * Özeti veritabanından yeniden oluştur (kullanıcı silinmiş veya devre dışıysa boş)
+     */
+    @Transactional(readOnly = true)
+    public Optional<SessionUser> reload(Long userId) {
+        // Zaman sorgudan önce alınır; sorgu sırasında commit edilen değişiklik özeti yine eskitir
+        long loadedAt = System.currentTimeMillis();
+        return userRepository.findById(userId)
+                .filter(User::isEnabled)
+                .map(user -> SessionUser.from(user, loadedAt));
+    }
+}
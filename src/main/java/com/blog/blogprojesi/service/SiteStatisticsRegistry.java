@@ -0,0 +1,235 @@
+package com.blog.blogprojesi.service;
+
+import com.blog.blogprojesi.entity.Role;
+import com.blog.blogprojesi.event.CommentChangedEvent;
+import com.blog.blogprojesi.event.PostChangedEvent;
+import com.blog.blogprojesi.event.UserChangedEvent;
+import com.blog.blogprojesi.repository.CommentRepository;
+import com.blog.blogprojesi.repository.PostRepository;
+import com.blog.blogprojesi.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Site istatistikleri kaydı
+ * Başlangıçta veritabanından bir kez doldurulur, sonra post / kullanıcı / yorum
+ * olaylarıyla commit sonrasında artımlı güncellenir. Herkese açık sayfalar ve
+ * admin paneli bu sayaçları sorgu atmadan okur.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SiteStatisticsRegistry {
+
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final CommentRepository commentRepository;
+
+    // Post ID -> istatistik durumu (yazar, yayın, öne çıkma)
+    private final Map<Long, PostState> posts = new HashMap<>();
+
+    // Kullanıcı ID -> istatistik durumu (rol, aktiflik, kayıt günü)
+    private final Map<Long, UserState> users = new HashMap<>();
+
+    // Yazar ID -> yayınlanmış post sayısı
+    private final Map<Long, Integer> publishedPostsByAuthor = new HashMap<>();
+
+    // Kayıt günü -> kayıt sayısı
+    private final TreeMap<LocalDate, Long> registrationsByDay = new TreeMap<>();
+
+    private final Map<Role, Long> usersByRole = new EnumMap<>(Role.class);
+
+    private long publishedPosts;
+    private long featuredPosts;
+    private long enabledUsers;
+    private long totalComments;
+
+    /**
+     * Sayaçları veritabanından yeniden doldur
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        posts.clear();
+        users.clear();
+        publishedPostsByAuthor.clear();
+        registrationsByDay.clear();
+        usersByRole.clear();
+        publishedPosts = 0;
+        featuredPosts = 0;
+        enabledUsers = 0;
+
+        for (Object[] row : postRepository.findAllPostStates()) {
+            PostState state = toPostState(row);
+            posts.put(state.postId(), state);
+            apply(state, 1);
+        }
+        for (Object[] row : userRepository.findAllUserStates()) {
+            UserState state = toUserState(row);
+            users.put(state.userId(), state);
+            apply(state, 1);
+        }
+        totalComments = commentRepository.count();
+
+        log.info("Site statistics loaded: {} posts, {} users, {} comments", posts.size(), users.size(), totalComments);
+    }
+
+    // ==================== EVENTS ====================
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostChanged(PostChangedEvent event) {
+        PostState previous = posts.remove(event.getPostId());
+        if (previous != null) {
+            apply(previous, -1);
+        }
+        if (event.getChangeType() == PostChangedEvent.ChangeType.DELETED) {
+            // Postun yorumları cascade ile silinir ve yorum olayı yayınlanmaz; yorum sayısını yeniden say
+            totalComments = commentRepository.count();
+            return;
+        }
+        List<Object[]> rows = postRepository.findPostState(event.getPostId());
+        if (!rows.isEmpty()) {
+            PostState current = toPostState(rows.get(0));
+            posts.put(current.postId(), current);
+            apply(current, 1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getChangeType() == UserChangedEvent.ChangeType.DELETED) {
+            // Kullanıcının postları ve yorumları da silindiği için sayaçları baştan doldur
+            reload();
+            return;
+        }
+        synchronized (this) {
+            UserState previous = users.remove(event.getUserId());
+            if (previous != null) {
+                apply(previous, -1);
+            }
+            List<Object[]> rows = userRepository.findUserState(event.getUserId());
+            if (!rows.isEmpty()) {
+                UserState current = toUserState(rows.get(0));
+                users.put(current.userId(), current);
+                apply(current, 1);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCommentChanged(CommentChangedEvent event) {
+        if (event.getChangeType() == CommentChangedEvent.ChangeType.CREATED) {
+            totalComments++;
+        } else {
+            totalComments = Math.max(0, totalComments - 1);
+        }
+    }
+
+    // ==================== COUNTERS ====================
+
+    public synchronized long getTotalPosts() {
+        return posts.size();
+    }
+
+    public synchronized long getPublishedPosts() {
+        return publishedPosts;
+    }
+
+    /**
+     * Yayında olan öne çıkan post sayısı
+     */
+    public synchronized long getFeaturedPosts() {
+        return featuredPosts;
+    }
+
+    /**
+     * En az bir yayınlanmış postu olan yazar sayısı
+     */
+    public synchronized long getAuthorCount() {
+        return publishedPostsByAuthor.size();
+    }
+
+    public synchronized long getTotalUsers() {
+        return users.size();
+    }
+
+    public synchronized long getUserCount(Role role) {
+        return usersByRole.getOrDefault(role, 0L);
+    }
+
+    public synchronized long getEnabledUsers() {
+        return enabledUsers;
+    }
+
+    public synchronized long getTotalComments() {
+        return totalComments;
+    }
+
+    public synchronized long getRegistrationsToday() {
+        return registrationsByDay.getOrDefault(LocalDate.now(), 0L);
+    }
+
+    public synchronized long getRegistrationsThisMonth() {
+        LocalDate today = LocalDate.now();
+        return registrationsByDay.subMap(today.withDayOfMonth(1), true, today, true).values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    /**
+     * Verilen günden itibaren günlük kayıt sayıları (en yeni gün önce)
+     */
+    public synchronized Map<LocalDate, Long> getRegistrationsByDaySince(LocalDate since) {
+        return new LinkedHashMap<>(registrationsByDay.tailMap(since, true).descendingMap());
+    }
+
+    // ==================== HELPERS ====================
+
+    private void apply(PostState state, int delta) {
+        if (state.published()) {
+            publishedPosts += delta;
+            publishedPostsByAuthor.merge(state.authorId(), delta, (a, b) -> a + b == 0 ? null : a + b);
+            if (state.featured()) {
+                featuredPosts += delta;
+            }
+        }
+    }
+
+    private void apply(UserState state, int delta) {
+        usersByRole.merge(state.role(), (long) delta, Long::sum);
+        if (state.enabled()) {
+            enabledUsers += delta;
+        }
+        if (state.registeredOn() != null) {
+            registrationsByDay.merge(state.registeredOn(), (long) delta, (a, b) -> a + b == 0 ? null : a + b);
+        }
+    }
+
+    private PostState toPostState(Object[] row) {
+        return new PostState((Long) row[0], (Long) row[1], (Boolean) row[2], (Boolean) row[3]);
+    }
+
+    private UserState toUserState(Object[] row) {
+        LocalDateTime createdAt = (LocalDateTime) row[3];
+        return new UserState((Long) row[0], (Role) row[1], (Boolean) row[2],
+                createdAt != null ? createdAt.toLocalDate() : null);
+    }
+
+    private record PostState(Long postId, Long authorId, boolean published, boolean featured) {
+    }
+
+    private record UserState(Long userId, Role role, boolean enabled, LocalDate registeredOn) {
+    }
+}
@@ -0,0 +1,203 @@
+package com.blog.blogprojesi.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.IntSupplier;
+
+/**
+ * Anahtar başına kayan pencere olay sayacı (bellekte, sınırlı)
+ * Anahtarlar hash'e göre kilitli dilimlere (stripe) dağıtılır; her dilim erişim sırasıyla tutulan
+ * sınırlı bir tablodur. Bir anahtarın olay zamanları halka dizide tutulur ve pencere dışına düşen
+ * olaylar her erişimde atılır. Son olayı pencere dışında kalan anahtarlar {@link #purgeExpired} ile
+ * tamamen silinir.
+ * Dilim dolduğunda yalnızca pencere içindeki olay sayısı eşiğin altında kalan en eski anahtar atılır;
+ * eşiğe ulaşmış (kilitli) anahtarlar pencereleri dolana kadar atılmaz. Böylece yeni anahtarlarla tabloyu
+ * doldurmak kilitleri sıfırlamaz; atılabilecek anahtar yoksa dilim geçici olarak sınırı aşar.
+ */
+final class SlidingWindowCounter {
+
+    // Anahtar başına tutulan en fazla olay (eşik bundan büyük olamaz)
+    static final int MAX_EVENTS_PER_KEY = 1024;
+
+    private static final int INITIAL_EVENTS = 4;
+
+    // Dolu dilimde atılacak anahtar aranırken bakılan en fazla (en eski) anahtar
+    private static final int EVICTION_SCAN_LIMIT = 32;
+
+    private final Stripe[] stripes;
+    private final IntSupplier protectedThreshold;
+
+    /**
+     * @param protectedThreshold pencere içinde bu kadar olayı olan anahtarlar dilim dolduğunda atılmaz
+     */
+    SlidingWindowCounter(int stripeCount, int maxKeys, IntSupplier protectedThreshold) {
+        int count = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        int maxKeysPerStripe = Math.max(16, maxKeys / count);
+        this.protectedThreshold = protectedThreshold;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(maxKeysPerStripe);
+        }
+    }
+
+    /**
+     * Olay ekle, pencere içindeki olay sayısını döndür
+     */
+    int record(String key, long now, long windowMillis) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            Window window = stripe.get(key);
+            if (window == null) {
+                if (stripe.size() >= stripe.maxKeys) {
+                    stripe.evictOne(now - windowMillis, Math.max(1, protectedThreshold.getAsInt()));
+                }
+                window = new Window();
+                stripe.put(key, window);
+            }
+            window.prune(now - windowMillis);
+            window.add(now);
+            return window.size;
+        }
+    }
+
+    /**
+     * Pencere içindeki olay sayısı
+     */
+    int count(String key, long now, long windowMillis) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            Window window = stripe.get(key);
+            if (window == null) {
+                return 0;
+            }
+            window.prune(now - windowMillis);
+            if (window.size == 0) {
+                stripe.remove(key);
+            }
+            return window.size;
+        }
+    }
+
+    /**
+     * Anahtarın tüm olaylarını sil
+     */
+    void clear(String key) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.remove(key);
+        }
+    }
+
+    /**
+     * Son olayı pencere dışında kalan anahtarları sil
+     * @return silinen anahtar sayısı
+     */
+    int purgeExpired(long now, long windowMillis) {
+        long cutoff = now - windowMillis;
+        int removed = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                Iterator<Window> it = stripe.values().iterator();
+                while (it.hasNext()) {
+                    if (it.next().newest() < cutoff) {
+                        it.remove();
+                        removed++;
+                    }
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Takip edilen anahtar sayısı
+     */
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    /**
+     * Erişim sırasıyla (en eski önce) tutulan dilim
+     */
+    private static final class Stripe extends LinkedHashMap<String, Window> {
+
+        private final int maxKeys;
+
+        private Stripe(int maxKeys) {
+            super(16, 0.75f, true);
+            this.maxKeys = maxKeys;
+        }
+
+        /**
+         * Eşiğin altındaki en eski anahtarı at
+         * @return atılacak anahtar bulunduysa true
+         */
+        boolean evictOne(long cutoff, int threshold) {
+            Iterator<Window> it = values().iterator();
+            for (int scanned = 0; it.hasNext() && scanned < EVICTION_SCAN_LIMIT; scanned++) {
+                Window window = it.next();
+                window.prune(cutoff);
+                if (window.size < threshold) {
+                    it.remove();
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Olay zamanlarının halka dizisi (en eskiden en yeniye)
+     */
+    private static final class Window {
+
+        private long[] times = new long[INITIAL_EVENTS];
+        private int head;
+        private int size;
+
+        void add(long time) {
+            if (size == times.length) {
+                if (times.length < MAX_EVENTS_PER_KEY) {
+                    grow();
+                } else {
+                    // Dolu: en eski olayın yerine yaz
+                    head = (head + 1) % times.length;
+                    size--;
+                }
+            }
+            times[(head + size) % times.length] = time;
+            size++;
+        }
+
+        void prune(long cutoff) {
+            while (size > 0 && times[head] < cutoff) {
+                head = (head + 1) % times.length;
+                size--;
+            }
+        }
+
+        long newest() {
+            return size > 0 ? times[(head + size - 1) % times.length] : Long.MIN_VALUE;
+        }
+
+        private void grow() {
+            long[] grown = new long[Math.min(times.length * 2, MAX_EVENTS_PER_KEY)];
+            for (int i = 0; i < size; i++) {
+                grown[i] = times[(head + i) % times.length];
+            }
+            times = grown;
+            head = 0;
+        }
+    }
+}
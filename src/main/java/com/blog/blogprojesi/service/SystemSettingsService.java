@@ -2,10 +2,14 @@ package com.blog.blogprojesi.service;
 
 import com.blog.blogprojesi.entity.SystemSettings;
 import com.blog.blogprojesi.repository.SystemSettingsRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.HashMap;
 import java.util.List;
@@ -15,39 +19,79 @@ import java.util.Optional;
 /**
  * System Settings Service
  * Sistem ayarlarını yönetir
+ * Tüm ayarlar bellekte değişmez bir anlık görüntüde tutulur; okumalar veritabanına gitmez.
+ * Görüntü, ayar değiştiğinde commit sonrasında yenisiyle değiştirilir. Aynı veritabanını
+ * kullanan diğer sunuculardaki değişiklikler genel sürüm sayacı periyodik olarak
+ * kontrol edilerek fark edilir.
  */
 @Service
 @RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class SystemSettingsService {
 
     private final SystemSettingsRepository systemSettingsRepository;
 
+    private volatile Snapshot snapshot = new Snapshot(-1L, Map.of());
+
+    /**
+     * Ayarların değişmez anlık görüntüsü
+     */
+    private record Snapshot(long version, Map<String, String> values) {
+    }
+
+    @PostConstruct
+    public void loadSettings() {
+        reload();
+    }
+
+    /**
+     * Genel sürüm değiştiyse (başka bir sunucu ayar güncellediyse) görüntüyü yenile
+     */
+    @Scheduled(fixedDelayString = "${blog.settings.refresh-interval-ms:5000}")
+    public void refreshIfChanged() {
+        long version = systemSettingsRepository.findValueBySettingKey(SystemSettings.KEY_SETTINGS_VERSION)
+                .map(this::parseVersion)
+                .orElse(0L);
+        if (version != snapshot.version()) {
+            reload();
+        }
+    }
+
+    /**
+     * Tüm ayarları veritabanından okuyup görüntüyü değiştir
+     */
+    public synchronized void reload() {
+        Map<String, String> values = new HashMap<>();
+        for (SystemSettings setting : systemSettingsRepository.findAll()) {
+            if (setting.getSettingValue() != null) {
+                values.put(setting.getSettingKey(), setting.getSettingValue());
+            }
+        }
+        long version = parseVersion(values.remove(SystemSettings.KEY_SETTINGS_VERSION));
+        // Eşzamanlı yenilemelerde daha eski bir görüntü yenisinin yerine geçmesin
+        if (version >= snapshot.version()) {
+            snapshot = new Snapshot(version, Map.copyOf(values));
+            log.debug("System settings snapshot loaded (version {})", version);
+        }
+    }
+
     /**
      * Ayar değerini getir
      */
-    @Transactional(readOnly = true)
     public String getSetting(String key) {
-        return systemSettingsRepository.findBySettingKey(key)
-                .map(SystemSettings::getSettingValue)
-                .orElse(null);
+        return snapshot.values().get(key);
     }
 
     /**
      * Ayar değerini getir (varsayılan değerli)
      */
-    @Transactional(readOnly = true)
     public String getSetting(String key, String defaultValue) {
-        return systemSettingsRepository.findBySettingKey(key)
-                .map(SystemSettings::getSettingValue)
-                .orElse(defaultValue);
+        return snapshot.values().getOrDefault(key, defaultValue);
     }
 
     /**
      * Boolean ayar değerini getir
      */
-    @Transactional(readOnly = true)
     public boolean getBooleanSetting(String key, boolean defaultValue) {
         String value = getSetting(key);
         if (value == null) return defaultValue;
@@ -57,7 +101,6 @@ public class SystemSettingsService {
     /**
      * Integer ayar değerini getir
      */
-    @Transactional(readOnly = true)
     public int getIntSetting(String key, int defaultValue) {
         String value = getSetting(key);
         if (value == null) return defaultValue;
@@ -71,6 +114,7 @@ public class SystemSettingsService {
     /**
      * Ayarı güncelle veya oluştur
      */
+    @Transactional
     public SystemSettings setSetting(String key, String value, String updatedBy) {
         Optional<SystemSettings> existingSetting = systemSettingsRepository.findBySettingKey(key);
         
@@ -89,6 +133,8 @@ public class SystemSettingsService {
         }
 
         SystemSettings savedSetting = systemSettingsRepository.save(setting);
+        incrementVersion();
+        reloadAfterCommit();
         log.info("Setting updated: {} = {} by {}", key, value, updatedBy);
         return savedSetting;
     }
@@ -96,6 +142,7 @@ public class SystemSettingsService {
     /**
      * Boolean ayarı güncelle
      */
+    @Transactional
     public void setBooleanSetting(String key, boolean value, String updatedBy) {
         setSetting(key, String.valueOf(value), updatedBy);
     }
@@ -103,6 +150,7 @@ public class SystemSettingsService {
     /**
      * Integer ayarı güncelle
      */
+    @Transactional
     public void setIntSetting(String key, int value, String updatedBy) {
         setSetting(key, String.valueOf(value), updatedBy);
     }
@@ -118,20 +166,13 @@ public class SystemSettingsService {
     /**
      * Ayarları Map olarak getir
      */
-    @Transactional(readOnly = true)
     public Map<String, String> getSettingsAsMap() {
-        Map<String, String> settingsMap = new HashMap<>();
-        List<SystemSettings> settings = systemSettingsRepository.findAll();
-        for (SystemSettings setting : settings) {
-            settingsMap.put(setting.getSettingKey(), setting.getSettingValue());
-        }
-        return settingsMap;
+        return new HashMap<>(snapshot.values());
     }
 
     /**
      * Bakım modu aktif mi?
      */
-    @Transactional(readOnly = true)
     public boolean isMaintenanceMode() {
         return getBooleanSetting(SystemSettings.KEY_MAINTENANCE_MODE, false);
     }
@@ -139,6 +180,7 @@ public class SystemSettingsService {
     /**
      * Bakım modunu aç/kapa
      */
+    @Transactional
     public void setMaintenanceMode(boolean enabled, String updatedBy) {
         setBooleanSetting(SystemSettings.KEY_MAINTENANCE_MODE, enabled, updatedBy);
         log.info("Maintenance mode {} by {}", enabled ? "enabled" : "disabled", updatedBy);
@@ -147,7 +189,6 @@ public class SystemSettingsService {
     /**
      * Site adını getir
      */
-    @Transactional(readOnly = true)
     public String getSiteName() {
         return getSetting(SystemSettings.KEY_SITE_NAME, "Blog Projesi");
     }
@@ -155,6 +196,7 @@ public class SystemSettingsService {
     /**
      * Site adını güncelle
      */
+    @Transactional
     public void setSiteName(String siteName, String updatedBy) {
         setSetting(SystemSettings.KEY_SITE_NAME, siteName, updatedBy);
     }
@@ -162,7 +204,6 @@ public class SystemSettingsService {
     /**
      * Kayıt aktif mi?
      */
-    @Transactional(readOnly = true)
     public boolean isRegistrationEnabled() {
         return getBooleanSetting(SystemSettings.KEY_REGISTRATION_ENABLED, true);
     }
@@ -170,7 +211,6 @@ public class SystemSettingsService {
     /**
      * Maksimum login deneme sayısını getir
      */
-    @Transactional(readOnly = true)
     public int getMaxLoginAttempts() {
         return getIntSetting(SystemSettings.KEY_MAX_LOGIN_ATTEMPTS, 5);
     }
@@ -178,7 +218,6 @@ public class SystemSettingsService {
     /**
      * Kilitleme süresini getir (dakika)
      */
-    @Transactional(readOnly = true)
     public int getLockoutDurationMinutes() {
         return getIntSetting(SystemSettings.KEY_LOCKOUT_DURATION_MINUTES, 30);
     }
@@ -186,6 +225,7 @@ public class SystemSettingsService {
     /**
      * Varsayılan ayarları oluştur
      */
+    @Transactional
     public void initializeDefaultSettings() {
         if (!systemSettingsRepository.existsBySettingKey(SystemSettings.KEY_SITE_NAME)) {
             setSetting(SystemSettings.KEY_SITE_NAME, "Blog Projesi", "SYSTEM");
@@ -216,4 +256,40 @@ public class SystemSettingsService {
         }
         log.info("Default system settings initialized");
     }
+
+    /**
+     * Genel sürüm sayacını artır (satır yoksa oluştur)
+     */
+    private void incrementVersion() {
+        if (systemSettingsRepository.incrementNumericSetting(SystemSettings.KEY_SETTINGS_VERSION) == 0) {
+            systemSettingsRepository.save(SystemSettings.builder()
+                    .settingKey(SystemSettings.KEY_SETTINGS_VERSION)
+                    .settingValue("1")
+                    .settingType("INTEGER")
+                    .updatedBy("SYSTEM")
+                    .build());
+        }
+    }
+
+    private void reloadAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload();
+                }
+            });
+        } else {
+            reload();
+        }
+    }
+
+    private long parseVersion(String value) {
+        if (value == null) return 0L;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
 }
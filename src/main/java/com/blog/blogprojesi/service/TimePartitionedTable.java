@@ -0,0 +1,156 @@
+package com.blog.blogprojesi.service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+/**
+ * Zaman aralığına göre bölümlenmiş (range partition) bir tablonun tanımı
+ * Bölümler günlük veya aylık olup tablo_pYYYYMMDD / tablo_pYYYYMM adlarını taşır; bölümün
+ * kapsadığı aralık adından çıkarılır. Hiçbir bölüme düşmeyen satırlar tablo_default bölümüne yazılır.
+ */
+final class TimePartitionedTable {
+
+    /**
+     * Bölüm genişliği
+     */
+    enum Granularity {
+        DAY(DateTimeFormatter.ofPattern("yyyyMMdd")),
+        MONTH(DateTimeFormatter.ofPattern("yyyyMM"));
+
+        private final DateTimeFormatter suffixFormat;
+
+        Granularity(DateTimeFormatter suffixFormat) {
+            this.suffixFormat = suffixFormat;
+        }
+    }
+
+    private final String name;
+    private final String timeColumn;
+    private final Granularity granularity;
+    private final String columnsDdl;
+    private final String columnNames;
+    private final List<String> indexDdl;
+
+    TimePartitionedTable(String name, String timeColumn, Granularity granularity,
+                         String columnsDdl, String columnNames, List<String> indexDdl) {
+        this.name = name;
+        this.timeColumn = timeColumn;
+        this.granularity = granularity;
+        this.columnsDdl = columnsDdl;
+        this.columnNames = columnNames;
+        this.indexDdl = indexDdl;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getTimeColumn() {
+        return timeColumn;
+    }
+
+    String getColumnNames() {
+        return columnNames;
+    }
+
+    List<String> getIndexDdl() {
+        return indexDdl;
+    }
+
+    String getSequenceName() {
+        return name + "_seq";
+    }
+
+    String getDefaultPartitionName() {
+        return name + "_default";
+    }
+
+    /**
+     * Bölümlenmiş ana tabloyu oluşturan DDL (birincil anahtar bölüm kolonunu içermek zorundadır)
+     */
+    String createParentDdl() {
+        return "CREATE TABLE " + name + " (" + columnsDdl + ", PRIMARY KEY (id, " + timeColumn + ")) " +
+               "PARTITION BY RANGE (" + timeColumn + ")";
+    }
+
+    /**
+     * Verilen başlangıçtaki bölümü oluşturan DDL (varsa bir şey yapmaz)
+     */
+    String createPartitionDdl(LocalDate start) {
+        return "CREATE TABLE IF NOT EXISTS " + partitionName(start) + " PARTITION OF " + name +
+               " FOR VALUES FROM ('" + start + "') TO ('" + next(start) + "')";
+    }
+
+    /**
+     * Bölümün aralığına düşen satırlar için koşul (tarihler uygulama tarafından üretilir)
+     */
+    String rangeCondition(LocalDate start) {
+        return timeColumn + " >= '" + start + "' AND " + timeColumn + " < '" + next(start) + "'";
+    }
+
+    /**
+     * Tarihi içeren bölümün başlangıcı
+     */
+    LocalDate periodStart(LocalDate date) {
+        return granularity == Granularity.DAY ? date : date.with(TemporalAdjusters.firstDayOfMonth());
+    }
+
+    /**
+     * Sonraki bölümün başlangıcı (bu bölümün üst sınırı)
+     */
+    LocalDate next(LocalDate start) {
+        return granularity == Granularity.DAY ? start.plusDays(1) : start.plusMonths(1);
+    }
+
+    /**
+     * Verilen kadar bölüm öncesinin başlangıcı
+     */
+    LocalDate minus(LocalDate start, int periods) {
+        return granularity == Granularity.DAY ? start.minusDays(periods) : start.minusMonths(periods);
+    }
+
+    /**
+     * Saklanan en eski bölümün başlangıcı (süresiz saklamada null)
+     * Bölüm yalnızca tüm satırları saklama süresini aştığında düşürülür.
+     */
+    LocalDate firstRetainedPartition(LocalDate today, int retentionPeriods) {
+        if (retentionPeriods <= 0) {
+            return null;
+        }
+        return minus(periodStart(today), retentionPeriods);
+    }
+
+    /**
+     * Bölüm saklama süresini doldurmuş mu (varsayılan bölüm ve başka adlar hiçbir zaman)
+     */
+    boolean isExpired(String partitionName, LocalDate firstRetained) {
+        LocalDate start = parsePartitionStart(partitionName);
+        return start != null && firstRetained != null && start.isBefore(firstRetained);
+    }
+
+    String partitionName(LocalDate start) {
+        return name + "_p" + start.format(granularity.suffixFormat);
+    }
+
+    /**
+     * Bölüm adından başlangıcı çıkar (bu tabloya ait tarihli bir bölüm değilse null)
+     */
+    LocalDate parsePartitionStart(String partitionName) {
+        String prefix = name + "_p";
+        if (partitionName == null || !partitionName.startsWith(prefix)) {
+            return null;
+        }
+        String suffix = partitionName.substring(prefix.length());
+        try {
+            if (granularity == Granularity.DAY) {
+                return LocalDate.parse(suffix, granularity.suffixFormat);
+            }
+            return LocalDate.parse(suffix + "01", Granularity.DAY.suffixFormat);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.blog.blogprojesi.service;
+
+import com.blog.blogprojesi.event.PostChangedEvent;
+import com.blog.blogprojesi.event.PostRatingChangedEvent;
+import com.blog.blogprojesi.event.UserChangedEvent;
+import com.blog.blogprojesi.repository.PostStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * En yüksek puanlı postlar sıralaması (bellek içi, artımlı güncellenen)
+ * Puan Bayes ortalaması ile hesaplanır: (C * m + puan toplamı) / (C + puan sayısı)
+ * Böylece tek bir 5 yıldızlı oylama alan post, çok sayıda yüksek puan alan postların önüne geçemez.
+ * İlk K post hazır bir liste olarak tutulur, okumalar sabit zamanlıdır. Ana sayfanın "en yüksek puanlı"
+ * akışı ve arama sonuçlarının puana göre sıralaması da bu sıralamadan okunur.
+ * Genel sıralamanın yanında her kategori için ayrı bir sıralı küme tutulur; okumalar kilitsizdir,
+ * yalnızca yazmalar kendi aralarında sıraya girer.
+ * Olaylar commit sonrasında farklı sırada gelebileceği için postun puanı olaydaki değerlerden değil,
+ * her seferinde veritabanından yeniden okunur. Okuma kilit dışında yapılır; her okumaya bir sıra
+ * numarası verilir ve bir post için daha yeni bir okuma uygulanmışsa eski okuma atılır.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TopRatedRankingService {
+
+    private static final Comparator<RankedPost> RANKING_ORDER =
+            Comparator.comparingDouble(RankedPost::score).reversed()
+                    .thenComparing(Comparator.comparingLong(RankedPost::postId).reversed());
+
+    private final PostStatsRepository postStatsRepository;
+
+    // Önsel ortalama (m): puanı az olan postlar bu değere doğru çekilir
+    @Value("${blog.ranking.prior-mean:3.0}")
+    private double priorMean;
+
+    // Önsel ağırlık (C): önsel ortalamanın kaç oy değerinde sayılacağı
+    @Value("${blog.ranking.prior-weight:5}")
+    private double priorWeight;
+
+    // Hazır tutulan ilk K post sayısı
+    @Value("${blog.ranking.top-size:50}")
+    private int topSize;
+
+    private final NavigableSet<RankedPost> ranking = new ConcurrentSkipListSet<>(RANKING_ORDER);
+    private final Map<Long, NavigableSet<RankedPost>> rankingByCategory = new ConcurrentHashMap<>();
+    private final Map<Long, RankedPost> rankedPosts = new ConcurrentHashMap<>();
+
+    // Veritabanı okumalarının sıra numarası ve her post için en son uygulanan okumanın numarası.
+    // Kayıt yalnızca kendisinden eski bir okuma sürerken gerekir; süren okumaların en eskisinden
+    // eski kayıtlar atılır, böylece harita yalnızca süren okumalar kadar büyür (this ile korunur)
+    private final AtomicLong readSequence = new AtomicLong();
+    private final Map<Long, Long> appliedReads = new HashMap<>();
+    private final NavigableSet<Long> pendingReads = new TreeSet<>();
+
+    private volatile List<Long> topPostIds = List.of();
+
+    /**
+     * Sıralamayı veritabanından oluştur
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long sequence = beginRead();
+        List<Object[]> rows;
+        try {
+            rows = postStatsRepository.findPublishedRatingTotals();
+        } catch (RuntimeException e) {
+            endRead(sequence);
+            throw e;
+        }
+        synchronized (this) {
+            ranking.clear();
+            rankingByCategory.clear();
+            rankedPosts.clear();
+            appliedReads.clear();
+            for (Object[] row : rows) {
+                put(row, sequence);
+            }
+            endRead(sequence);
+            refreshTop();
+        }
+        log.info("Top-rated ranking built for {} posts", rankedPosts.size());
+    }
+
+    /**
+     * Sıralamadaki ilk postların ID'leri (en yüksek puandan düşüğe)
+     */
+    public List<Long> getTopPostIds(int limit) {
+        List<Long> top = topPostIds;
+        if (limit <= top.size()) {
+            return top.subList(0, limit);
+        }
+        List<Long> ids = new ArrayList<>(Math.min(limit, rankedPosts.size()));
+        Iterator<RankedPost> iterator = ranking.iterator();
+        while (iterator.hasNext() && ids.size() < limit) {
+            ids.add(iterator.next().postId());
+        }
+        return ids;
+    }
+
+    /**
+     * Cursor'dan sonraki postlar (sıralama sırasıyla, kategori verilmişse yalnızca o kategoridekiler)
+     * @param afterScore önceki sayfanın son postunun puanı (ilk sayfa için null)
+     */
+    List<RankedPost> findAfter(Long categoryId, Double afterScore, Long afterId, int limit) {
+        NavigableSet<RankedPost> source = categoryId == null
+                ? ranking
+                : rankingByCategory.getOrDefault(categoryId, Collections.emptyNavigableSet());
+        Iterable<RankedPost> candidates = afterScore == null
+                ? source
+                : source.tailSet(new RankedPost(afterId, null, afterScore), false);
+        List<RankedPost> page = new ArrayList<>(limit);
+        for (RankedPost ranked : candidates) {
+            if (page.size() >= limit) break;
+            page.add(ranked);
+        }
+        return page;
+    }
+
+    /**
+     * Verilen postları sıralama sırasına diz (sıralamada olmayan postlar çıkarılır)
+     */
+    public List<Long> sortByRanking(Collection<Long> postIds) {
+        return postIds.stream()
+                .map(rankedPosts::get)
+                .filter(Objects::nonNull)
+                .sorted(RANKING_ORDER)
+                .map(RankedPost::postId)
+                .toList();
+    }
+
+    /**
+     * Bayes ortalaması
+     */
+    public double score(long ratingSum, long ratingCount) {
+        return (priorWeight * priorMean + ratingSum) / (priorWeight + ratingCount);
+    }
+
+    /**
+     * Puan değiştiğinde (commit sonrası) postun sırasını güncelle
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRatingChanged(PostRatingChangedEvent event) {
+        // Sadece yayınlanmış (sıralamada bulunan) postlar güncellenir
+        if (!rankedPosts.containsKey(event.getPostId())) return;
+        reload(event.getPostId());
+    }
+
+    /**
+     * Post oluşturulduğunda, güncellendiğinde (kategori değişebilir), silindiğinde veya
+     * yayın durumu değiştiğinde sıralamayı güncelle
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getChangeType() == PostChangedEvent.ChangeType.DELETED) {
+            removeAll(List.of(event.getPostId()));
+        } else {
+            reload(event.getPostId());
+        }
+    }
+
+    /**
+     * Silinen kullanıcının postları da silindiği için sıralamadan çıkar
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getChangeType() == UserChangedEvent.ChangeType.DELETED && !event.getDeletedPostIds().isEmpty()) {
+            removeAll(event.getDeletedPostIds());
+        }
+    }
+
+    /**
+     * Postun güncel puanını veritabanından oku (yayında değilse sıralamadan çıkar)
+     * Okuma kilit dışında yapılır, sonuç yalnızca bu post için daha yeni bir okuma uygulanmadıysa yazılır.
+     */
+    private void reload(Long postId) {
+        long sequence = beginRead();
+        List<Object[]> rows;
+        try {
+            rows = postStatsRepository.findPublishedRatingTotals(postId);
+        } catch (RuntimeException e) {
+            endRead(sequence);
+            throw e;
+        }
+        synchronized (this) {
+            if (appliedReads.getOrDefault(postId, 0L) <= sequence) {
+                if (rows.isEmpty()) {
+                    remove(postId, sequence);
+                } else {
+                    put(rows.get(0), sequence);
+                }
+                refreshTop();
+            }
+            endRead(sequence);
+        }
+    }
+
+    private synchronized void removeAll(Collection<Long> postIds) {
+        long sequence = readSequence.incrementAndGet();
+        for (Long postId : postIds) {
+            remove(postId, sequence);
+        }
+        pruneAppliedReads();
+        refreshTop();
+    }
+
+    /**
+     * Kilit dışında yapılacak bir okuma için sıra numarası al ve okumayı sürüyor olarak işaretle
+     */
+    private synchronized long beginRead() {
+        long sequence = readSequence.incrementAndGet();
+        pendingReads.add(sequence);
+        return sequence;
+    }
+
+    private synchronized void endRead(long sequence) {
+        pendingReads.remove(sequence);
+        pruneAppliedReads();
+    }
+
+    /**
+     * Süren hiçbir okumayı geride bırakmayan kayıtları at (yeni okumalar her zaman daha büyük numara alır)
+     */
+    private void pruneAppliedReads() {
+        if (pendingReads.isEmpty()) {
+            appliedReads.clear();
+        } else {
+            long oldestPending = pendingReads.first();
+            appliedReads.values().removeIf(applied -> applied < oldestPending);
+        }
+    }
+
+    private void put(Object[] row, long sequence) {
+        Long postId = (Long) row[0];
+        RankedPost ranked = new RankedPost(postId, (Long) row[3], score((Long) row[1], (Long) row[2]));
+        RankedPost previous = rankedPosts.get(postId);
+        // Okuyucular geçiş sırasında postu iki kez görmesin diye önce eski kayıt çıkarılır
+        if (previous != null) {
+            unlink(previous);
+        }
+        ranking.add(ranked);
+        if (ranked.categoryId() != null) {
+            rankingByCategory.computeIfAbsent(ranked.categoryId(), id -> new ConcurrentSkipListSet<>(RANKING_ORDER))
+                    .add(ranked);
+        }
+        rankedPosts.put(postId, ranked);
+        appliedReads.put(postId, sequence);
+    }
+
+    private void remove(Long postId, long sequence) {
+        RankedPost previous = rankedPosts.remove(postId);
+        if (previous != null) {
+            unlink(previous);
+        }
+        appliedReads.put(postId, sequence);
+    }
+
+    private void unlink(RankedPost ranked) {
+        ranking.remove(ranked);
+        if (ranked.categoryId() != null) {
+            NavigableSet<RankedPost> categoryRanking = rankingByCategory.get(ranked.categoryId());
+            if (categoryRanking != null) {
+                categoryRanking.remove(ranked);
+            }
+        }
+    }
+
+    private void refreshTop() {
+        List<Long> ids = new ArrayList<>(topSize);
+        Iterator<RankedPost> iterator = ranking.iterator();
+        while (iterator.hasNext() && ids.size() < topSize) {
+            ids.add(iterator.next().postId());
+        }
+        topPostIds = List.copyOf(ids);
+    }
+
+    record RankedPost(long postId, Long categoryId, double score) {
+    }
+}
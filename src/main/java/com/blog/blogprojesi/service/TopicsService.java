@@ -0,0 +1,147 @@
+package com.blog.blogprojesi.service;
+
+import com.blog.blogprojesi.dto.CategoryPostCard;
+import com.blog.blogprojesi.dto.TopicsSnapshot;
+import com.blog.blogprojesi.event.CategoryCountsReloadedEvent;
+import com.blog.blogprojesi.event.UserChangedEvent;
+import com.blog.blogprojesi.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Konular sayfası Service sınıfı
+ * Kategori listesi, sayıları ve her kategorinin son yazıları tek bir anlık görüntüde tutulur.
+ * Kategori kaydı yeniden yüklendiğinde (her post değişikliğinden sonra) görüntü geçersiz kılınır,
+ * bir sonraki istekte yeniden oluşturulur.
+ */
+@Service
+@RequiredArgsConstructor
+public class TopicsService {
+
+    private static final int RECENT_POSTS_PER_CATEGORY = 2;
+
+    // Hiç kategori yoksa gösterilecek varsayılan kategoriler
+    private static final List<String> DEFAULT_CATEGORIES =
+            Arrays.asList("Teknoloji", "Yazılım", "Web", "Mobil", "Yapay Zeka", "Tasarım", "Kişisel", "Genel");
+
+    private final PostRepository postRepository;
+    private final CategoryRegistry categoryRegistry;
+
+    // Olay üretmeyen değişikliklere karşı görüntü ayrıca belirli bir süre sonra yenilenir
+    @Value("${blog.topics.snapshot-ttl-seconds:300}")
+    private long snapshotTtlSeconds;
+
+    private volatile TopicsSnapshot snapshot;
+
+    // Her geçersiz kılmada artar; oluşturma sırasında gelen değişiklik eski görüntünün saklanmasını engeller
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Güncel anlık görüntüyü getir (yoksa veya süresi dolduysa oluştur)
+     * Görüntü hazırken bağlantı alınmaz; oluşturma sorgusu kendi read-only transaction'ında çalışır
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TopicsSnapshot getSnapshot() {
+        TopicsSnapshot current = snapshot;
+        if (current != null && !isExpired(current)) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current == null || isExpired(current)) {
+                long buildGeneration = generation.get();
+                current = buildSnapshot();
+                if (generation.get() == buildGeneration) {
+                    snapshot = current;
+                }
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Kategori kaydı yeniden yüklendiğinde anlık görüntüyü geçersiz kıl
+     * Kayıt her post değişikliğinde yeniden yüklenir; geçersiz kılma yüklemeden sonra geldiği için
+     * sonraki oluşturma eski kategori sayılarını yakalayamaz.
+     */
+    @EventListener
+    public void onCategoryCountsReloaded(CategoryCountsReloadedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Yazar adı değişebileceği veya yazarın postları silinebileceği için kullanıcı değişikliklerinde de geçersiz kıl
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private boolean isExpired(TopicsSnapshot current) {
+        return current.getCreatedAt().plus(Duration.ofSeconds(snapshotTtlSeconds)).isBefore(Instant.now());
+    }
+
+    private TopicsSnapshot buildSnapshot() {
+        // Kategori başına son yazılar tek sorguda (ROW_NUMBER)
+        Map<String, List<CategoryPostCard>> recentPosts = new LinkedHashMap<>();
+        for (Object[] row : postRepository.findRecentPostCardsPerCategory(RECENT_POSTS_PER_CATEGORY)) {
+            CategoryPostCard card = new CategoryPostCard(
+                    ((Number) row[0]).longValue(),
+                    (String) row[1],
+                    (String) row[2],
+                    toLocalDateTime(row[3]),
+                    (String) row[4],
+                    (String) row[5],
+                    (String) row[6]);
+            recentPosts.computeIfAbsent(card.getCategory(), c -> new ArrayList<>()).add(card);
+        }
+
+        // Kategori sayıları kategori kaydından (sorgu atılmaz)
+        Map<String, Long> categoryCount = new LinkedHashMap<>(categoryRegistry.getPublishedCounts());
+
+        List<String> categories = new ArrayList<>(categoryCount.keySet());
+        if (categories.isEmpty()) {
+            categories.addAll(DEFAULT_CATEGORIES);
+        }
+        for (String category : categories) {
+            categoryCount.putIfAbsent(category, 0L);
+            recentPosts.putIfAbsent(category, List.of());
+        }
+        recentPosts.replaceAll((category, cards) -> List.copyOf(cards));
+
+        return new TopicsSnapshot(
+                Collections.unmodifiableList(categories),
+                Collections.unmodifiableMap(categoryCount),
+                Collections.unmodifiableMap(recentPosts),
+                Instant.now());
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
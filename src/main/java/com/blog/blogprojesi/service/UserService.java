@@ -2,10 +2,14 @@ package com.blog.blogprojesi.service;
 
 import com.blog.blogprojesi.entity.Role;
 import com.blog.blogprojesi.entity.User;
+import com.blog.blogprojesi.event.UserChangedEvent;
+import com.blog.blogprojesi.repository.PostRepository;
 import com.blog.blogprojesi.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -14,19 +18,25 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Kullanıcı işlemleri için Service sınıfı
- * Spring Security UserDetailsService'i implement eder
+ * Spring Security UserDetailsService'i implement eder; eski maliyetle saklanmış şifre hash'leri
+ * başarılı girişte UserDetailsPasswordService üzerinden güncellenir
  */
 @Service
 @RequiredArgsConstructor
 @Transactional
 @Slf4j
-public class UserService implements UserDetailsService {
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final PostRepository postRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PostStatsService postStatsService;
+    private final CategoryService categoryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -35,6 +45,18 @@ public class UserService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("Kullanıcı bulunamadı: " + username));
     }
 
+    /**
+     * Başarılı girişte yeni maliyetle üretilmiş şifre hash'ini kaydet
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newEncodedPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("Kullanıcı bulunamadı: " + userDetails.getUsername()));
+        user.setPassword(newEncodedPassword);
+        log.info("Şifre hash'i güncel maliyetle yenilendi: {}", user.getUsername());
+        return userRepository.save(user);
+    }
+
     /**
      * Yeni kullanıcı kaydı
      */
@@ -70,6 +92,7 @@ public class UserService implements UserDetailsService {
         log.info("User entity oluşturuldu, kayıt ediliyor...");
         User savedUser = userRepository.save(user);
         log.info("Kullanıcı başarıyla kaydedildi - ID: {}", savedUser.getId());
+        eventPublisher.publishEvent(UserChangedEvent.created(savedUser.getId()));
         
         return savedUser;
     }
@@ -98,6 +121,14 @@ public class UserService implements UserDetailsService {
         return userRepository.findById(id);
     }
 
+    /**
+     * Sorgu atmadan kullanıcı referansı getir (ilişki kurmak ve ID ile sorgulamak için)
+     */
+    @Transactional(readOnly = true)
+    public User getReference(Long id) {
+        return userRepository.getReferenceById(id);
+    }
+
     /**
      * Tüm kullanıcıları getir
      */
@@ -126,7 +157,9 @@ public class UserService implements UserDetailsService {
 
         user.setProfileImageUrl(profileImageUrl);
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(userId));
+        return savedUser;
     }
 
     /**
@@ -159,7 +192,9 @@ public class UserService implements UserDetailsService {
             user.setProfileImageUrl(profileImageUrl);
         }
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(userId));
+        return savedUser;
     }
 
     /**
@@ -205,7 +240,13 @@ public class UserService implements UserDetailsService {
      * Kullanıcıyı sil
      */
     public void deleteUser(Long userId) {
+        Set<Long> touchedPostIds = postStatsService.findPostIdsTouchedByUser(userId);
+        List<Long> authoredPostIds = postRepository.findIdsByAuthorId(userId);
         userRepository.deleteById(userId);
+        userRepository.flush();
+        postStatsService.refresh(touchedPostIds);
+        categoryService.recountPublishedPosts();
+        eventPublisher.publishEvent(UserChangedEvent.deleted(userId, authoredPostIds));
     }
 
     /**
@@ -0,0 +1,188 @@
+package com.blog.blogprojesi.service;
+
+import com.blog.blogprojesi.entity.Post;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Görüntüleme sayacı Service sınıfı (write-behind)
+ * Görüntülemeler post başına LongAdder ile bellekte toplanır ve
+ * belirli aralıklarla tek bir toplu UPDATE ile veritabanına yazılır.
+ * Artırmalar kilitsizdir (LongAdder hücrelere dağılır); aktarım okuduğu değeri sayaçtan düşer,
+ * böylece aktarım sırasında gelen görüntülemeler sayaçta kalır, kaybolmaz. Bir aktarım boyunca
+ * görüntülenmeyen postların sayaçları tablodan çıkarılır; çıkarılan sayaç bir sonraki aktarımda
+ * son kez okunur, çıkarma anında elinde sayaç bulunan isteklerin artırmaları da yazılır.
+ * Aynı ziyaretçinin (oturum veya IP) tekrar eden görüntülemeleri sayılmaz.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ViewCountService {
+
+    private static final String FLUSH_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${blog.views.dedupe-window-minutes:30}")
+    private long dedupeWindowMinutes;
+
+    @Value("${blog.views.max-tracked-visitors:100000}")
+    private int maxTrackedVisitors;
+
+    // Post ID -> henüz yazılmamış görüntüleme sayısı
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    // Son aktarımda tablodan çıkarılan boş sayaçlar (geç gelen artırmalar için bir kez daha okunur)
+    private Map<Long, LongAdder> retiredViews = new HashMap<>();
+
+    // "ziyaretçi:postId" -> son sayılan görüntüleme zamanı (ms)
+    private final Map<String, Long> recentViews = new ConcurrentHashMap<>();
+
+    /**
+     * Tekrar eden görüntülemeleri ayırt etmek için ziyaretçi anahtarı (oturum veya IP)
+     * X-Forwarded-For istemci tarafından değiştirilebildiği için okunmaz; güvenilen proxy'lerin
+     * arkasındaki gerçek adres server.forward-headers-strategy ile getRemoteAddr()'a yansır.
+     */
+    public String visitorKey(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            return "s:" + session.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    /**
+     * Görüntüleme kaydet
+     * @return görüntüleme sayıldıysa true, tekrar eden görüntülemeyse false
+     */
+    public boolean recordView(Long postId, String visitorKey) {
+        if (visitorKey != null) {
+            long now = System.currentTimeMillis();
+            long windowMillis = TimeUnit.MINUTES.toMillis(dedupeWindowMinutes);
+            String key = visitorKey + ":" + postId;
+            Long lastSeen = recentViews.get(key);
+            if (lastSeen != null && now - lastSeen < windowMillis) {
+                return false;
+            }
+            // Tablo sınırı aşıldıysa yeni ziyaretçileri takip etme, yine de say
+            if (lastSeen != null || recentViews.size() < maxTrackedVisitors) {
+                boolean[] counted = {false};
+                recentViews.compute(key, (k, previous) -> {
+                    if (previous != null && now - previous < windowMillis) {
+                        return previous; // Başka bir istek aynı anda saydı
+                    }
+                    counted[0] = true;
+                    return now;
+                });
+                if (!counted[0]) return false;
+            }
+        }
+
+        addPending(postId, 1);
+        return true;
+    }
+
+    /**
+     * Henüz veritabanına yazılmamış görüntüleme sayısı
+     */
+    public long getPendingViews(Long postId) {
+        LongAdder adder = pendingViews.get(postId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * Bekleyen görüntülemeleri toplu olarak veritabanına yaz
+     */
+    @Scheduled(fixedDelayString = "${blog.views.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        Map<Long, LongAdder> retired = retiredViews;
+        retiredViews = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : pendingViews.entrySet()) {
+            LongAdder adder = entry.getValue();
+            long delta = drain(adder);
+            if (delta > 0) {
+                deltas.merge(entry.getKey(), delta, Long::sum);
+            } else if (pendingViews.remove(entry.getKey(), adder)) {
+                // Bu aralıkta görüntülenmedi; sayaç bir sonraki aktarımda son kez okunur
+                retiredViews.put(entry.getKey(), adder);
+            }
+        }
+        retired.forEach((postId, adder) -> {
+            long late = drain(adder);
+            if (late > 0) {
+                deltas.merge(postId, late, Long::sum);
+            }
+        });
+
+        List<Object[]> batch = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> batch.add(new Object[]{delta, postId}));
+
+        if (!batch.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+                // Hibernate dışında güncellenen postların ikinci seviye önbellekteki kopyalarını at
+                for (Object[] row : batch) {
+                    entityManagerFactory.getCache().evict(Post.class, row[1]);
+                }
+                log.debug("View counts flushed for {} posts", batch.size());
+            } catch (Exception e) {
+                // Yazılamayan sayıları bir sonraki denemeye geri ekle
+                for (Object[] row : batch) {
+                    addPending((Long) row[1], (Long) row[0]);
+                }
+                log.warn("View count flush failed, will retry: {}", e.getMessage());
+            }
+        }
+
+        pruneRecentViews();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Bekleyen sayaca ekle (sayaç zaten varsa kilitsiz)
+     */
+    private void addPending(Long postId, long delta) {
+        pendingViews.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * Sayacın o anki değerini oku ve sayaçtan düş (eşzamanlı artırmalar sayaçta kalır)
+     */
+    private static long drain(LongAdder adder) {
+        long value = adder.sum();
+        if (value != 0) {
+            adder.add(-value);
+        }
+        return value;
+    }
+
+    /**
+     * Tekrar penceresi dolmuş ziyaretçi kayıtlarını temizle
+     */
+    private void pruneRecentViews() {
+        long cutoff = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(dedupeWindowMinutes);
+        recentViews.values().removeIf(lastSeen -> lastSeen < cutoff);
+    }
+}
@@ -0,0 +1,24 @@
+package com.blog.blogprojesi.content;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentProcessorTest {
+
+    @Test
+    void linkAddressIsDroppedAndTextKept() {
+        ProcessedContent processed = ContentProcessor.process("[metin](https://example.com) sonra", null);
+
+        assertThat(processed.getSearchText()).isEqualTo("metin sonra");
+        assertThat(processed.getWordCount()).isEqualTo(2);
+    }
+
+    @Test
+    void unclosedLinkDoesNotSwallowFollowingLines() {
+        ProcessedContent processed = ContentProcessor.process("see [x](\nsecond line has words) and more", null);
+
+        assertThat(processed.getSearchText()).contains("second line has words", "and more");
+        assertThat(processed.getWordCount()).isEqualTo(8);
+    }
+}
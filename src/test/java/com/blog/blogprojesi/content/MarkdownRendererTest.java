@@ -0,0 +1,58 @@
+package com.blog.blogprojesi.content;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MarkdownRendererTest {
+
+    @Test
+    void rawHtmlIsEscaped() {
+        String html = MarkdownRenderer.render("<script>alert(1)</script>\n\nMetin <img src=x onerror=alert(1)>");
+
+        assertThat(html).doesNotContain("<script", "<img");
+        assertThat(html).contains("&lt;script&gt;", "&lt;img");
+    }
+
+    @Test
+    void javascriptUrlsAreRemovedFromLinksAndImages() {
+        String html = MarkdownRenderer.render("[click](javascript:alert(1)) ![resim](javascript:alert(2))");
+
+        assertThat(html).doesNotContain("javascript:");
+        assertThat(html).contains("click");
+    }
+
+    @Test
+    void httpImageSourceIsKept() {
+        String html = MarkdownRenderer.render("![resim](https://example.com/a.png)");
+
+        assertThat(html).contains("<img", "src=\"https://example.com/a.png\"");
+    }
+
+    @Test
+    void fenceInfoStringCannotInjectAttributes() {
+        String quoted = MarkdownRenderer.render("```java\" onmouseover=\"alert(1)\nint x;\n```");
+        String extraWords = MarkdownRenderer.render("```x onmouseover=alert(1)\nint x;\n```");
+        String markup = MarkdownRenderer.render("```\"><script>alert(1)</script>\nint x;\n```");
+
+        assertThat(quoted).doesNotContain("onmouseover", "class=\"language-");
+        assertThat(extraWords).doesNotContain("onmouseover").contains("class=\"language-x\"");
+        assertThat(markup).doesNotContain("<script", "class=\"language-");
+    }
+
+    @Test
+    void knownLanguageIsHighlightedWithTokenClasses() {
+        String html = MarkdownRenderer.render("```java\npublic class A {}\n```");
+
+        assertThat(html).contains("class=\"language-java\"", "<span class=\"token keyword\">public</span>");
+    }
+
+    @Test
+    void linksGetRelNofollow() {
+        String explicit = MarkdownRenderer.render("[site](https://example.com)");
+        String autolinked = MarkdownRenderer.render("Bkz. https://example.com");
+
+        assertThat(explicit).contains("href=\"https://example.com\"", "rel=\"nofollow\"");
+        assertThat(autolinked).contains("href=\"https://example.com\"", "rel=\"nofollow\"");
+    }
+}
@@ -0,0 +1,79 @@
+package com.blog.blogprojesi.repository;
+
+import com.blog.blogprojesi.entity.Category;
+import com.blog.blogprojesi.entity.Post;
+import com.blog.blogprojesi.entity.PostType;
+import com.blog.blogprojesi.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EntityGraph kullanan sorgular yalnızca çalıştırıldıklarında doğrulanır; bu yüzden her biri burada çağrılır.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class PostRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private User author;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        author = entityManager.persist(User.builder()
+                .username("yazar")
+                .password("secret")
+                .email("yazar@example.com")
+                .build());
+        category = entityManager.persist(Category.builder().name("Java").build());
+        entityManager.persist(Post.builder()
+                .title("Yayınlanmış yazı")
+                .content("içerik")
+                .postType(PostType.TEXT)
+                .category(category)
+                .author(author)
+                .isFeatured(true)
+                .build());
+        entityManager.persist(Post.builder()
+                .title("Taslak yazı")
+                .content("taslak")
+                .category(category)
+                .author(author)
+                .isPublished(false)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void entityGraphFindersLoadAuthor() {
+        assertThat(postRepository.findAll()).hasSize(2);
+        assertThat(postRepository.findAll(PageRequest.of(0, 10))).hasSize(2);
+        assertThat(postRepository.findByIsPublishedTrueOrderByCreatedAtDesc(PageRequest.of(0, 10)))
+                .singleElement()
+                .satisfies(post -> assertThat(post.getCategory().getName()).isEqualTo("Java"));
+        assertThat(postRepository.findByIsPublishedTrueOrderByCreatedAtDesc()).hasSize(1);
+        assertThat(postRepository.findByAuthorOrderByCreatedAtDesc(author)).hasSize(2);
+        assertThat(postRepository.findByAuthorAndIsPublishedTrueOrderByCreatedAtDesc(author)).hasSize(1);
+        assertThat(postRepository.findByAuthorAndIsPublishedFalseOrderByCreatedAtDesc(author)).hasSize(1);
+        assertThat(postRepository.findByCategoryIdAndIsPublishedTrueOrderByCreatedAtDesc(category.getId()))
+                .hasSize(1);
+        assertThat(postRepository.findByPostTypeAndIsPublishedTrueOrderByCreatedAtDesc(PostType.TEXT))
+                .hasSize(1);
+        assertThat(postRepository.findByIsFeaturedTrueAndIsPublishedTrueOrderByCreatedAtDesc()).hasSize(1);
+        assertThat(postRepository.findTop10ByIsPublishedTrueOrderByViewCountDesc()).hasSize(1);
+        assertThat(postRepository.findTop5ByIsPublishedTrueOrderByCreatedAtDesc())
+                .singleElement()
+                .satisfies(post -> assertThat(post.getAuthor().getUsername()).isEqualTo("yazar"));
+    }
+}
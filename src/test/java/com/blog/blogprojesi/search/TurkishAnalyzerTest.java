@@ -0,0 +1,21 @@
+package com.blog.blogprojesi.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TurkishAnalyzerTest {
+
+    @Test
+    void dottedAndDotlessIFoldToTheSameTerm() {
+        assertThat(TurkishAnalyzer.analyze("Index INDEX index ındex İndex"))
+                .containsExactly("index", "index", "index", "index", "index");
+        assertThat(TurkishAnalyzer.fold("ILIK")).isEqualTo(TurkishAnalyzer.fold("ılık"));
+    }
+
+    @Test
+    void apostropheSuffixesAndStopWordsAreDropped() {
+        assertThat(TurkishAnalyzer.analyze("İstanbul'da bir Java MI?"))
+                .containsExactly("istanbul", "java");
+    }
+}
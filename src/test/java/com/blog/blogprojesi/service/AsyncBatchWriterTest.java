@@ -0,0 +1,50 @@
+package com.blog.blogprojesi.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncBatchWriterTest {
+
+    @Test
+    void shutdownDrainRetriesTransientFailures() {
+        AtomicInteger calls = new AtomicInteger();
+        List<String> stored = new CopyOnWriteArrayList<>();
+        // Uzun aralık: kayıt close() gelene kadar grupta bekler, yazım kapanış sırasında yapılır
+        AsyncBatchWriter<String> writer = new AsyncBatchWriter<>("test", 10, 10, Duration.ofMinutes(1),
+                Duration.ZERO, AsyncBatchWriter.OverflowPolicy.CALLER_RUNS, batch -> {
+                    if (calls.incrementAndGet() <= 3) {
+                        throw new IllegalStateException("database unavailable");
+                    }
+                    stored.addAll(batch);
+                });
+
+        writer.submit("kayıt");
+        writer.close();
+
+        assertThat(stored).containsExactly("kayıt");
+        assertThat(writer.getWritten()).isEqualTo(1);
+        assertThat(writer.getFailed()).isZero();
+    }
+
+    @Test
+    void dropWriterGivesUpAfterOneRetry() {
+        AtomicInteger calls = new AtomicInteger();
+        AsyncBatchWriter<String> writer = new AsyncBatchWriter<>("test", 10, 10, Duration.ofMinutes(1),
+                Duration.ZERO, AsyncBatchWriter.OverflowPolicy.DROP, batch -> {
+                    calls.incrementAndGet();
+                    throw new IllegalStateException("database unavailable");
+                });
+
+        writer.submit("kayıt");
+        writer.close();
+
+        assertThat(calls).hasValue(2);
+        assertThat(writer.getFailed()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,130 @@
+package com.blog.blogprojesi.service;
+
+import com.blog.blogprojesi.entity.JobRun;
+import com.blog.blogprojesi.repository.JobLeaseRepository;
+import com.blog.blogprojesi.repository.JobRunRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobRunnerTest {
+
+    private static final String JOB = "test-job";
+    private static final Duration LEASE = Duration.ofMinutes(10);
+    private static final Duration HOLD = Duration.ofMinutes(5);
+
+    private JobLeaseRepository jobLeaseRepository;
+    private JobRunRepository jobRunRepository;
+    private JobRunner jobRunner;
+
+    @BeforeEach
+    void setUp() {
+        jobLeaseRepository = mock(JobLeaseRepository.class);
+        jobRunRepository = mock(JobRunRepository.class);
+        jobRunner = new JobRunner(jobLeaseRepository, jobRunRepository);
+    }
+
+    @Test
+    void acquiredLeaseRunsTaskRecordsSuccessAndReleasesWithHold() {
+        when(jobLeaseRepository.tryAcquire(JOB, jobRunner.getNodeId(), 600L)).thenReturn(1);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        boolean result = jobRunner.runExclusive(JOB, LEASE, HOLD, () -> {
+            ran.set(true);
+            return 42;
+        });
+
+        assertThat(result).isTrue();
+        assertThat(ran).isTrue();
+        JobRun run = savedRun();
+        assertThat(run.getJobName()).isEqualTo(JOB);
+        assertThat(run.getNode()).isEqualTo(jobRunner.getNodeId());
+        assertThat(run.getStatus()).isEqualTo(JobRun.JobRunStatus.SUCCESS);
+        assertThat(run.getProcessedCount()).isEqualTo(42L);
+        assertThat(run.getMessage()).isNull();
+
+        InOrder order = inOrder(jobLeaseRepository, jobRunRepository);
+        order.verify(jobLeaseRepository).tryAcquire(JOB, jobRunner.getNodeId(), 600L);
+        order.verify(jobRunRepository).save(any(JobRun.class));
+        order.verify(jobLeaseRepository).release(JOB, jobRunner.getNodeId(), 300L);
+    }
+
+    @Test
+    void leaseHeldByAnotherNodeSkipsTask() {
+        when(jobLeaseRepository.tryAcquire(anyString(), anyString(), anyLong())).thenReturn(0);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        boolean result = jobRunner.runExclusive(JOB, LEASE, HOLD, () -> {
+            ran.set(true);
+            return 0;
+        });
+
+        assertThat(result).isFalse();
+        assertThat(ran).isFalse();
+        verify(jobRunRepository, never()).save(any());
+        verify(jobLeaseRepository, never()).release(anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    void leaseQueryFailureSkipsTask() {
+        when(jobLeaseRepository.tryAcquire(anyString(), anyString(), anyLong()))
+                .thenThrow(new IllegalStateException("connection refused"));
+        AtomicBoolean ran = new AtomicBoolean();
+
+        boolean result = jobRunner.runExclusive(JOB, LEASE, HOLD, () -> {
+            ran.set(true);
+            return 0;
+        });
+
+        assertThat(result).isFalse();
+        assertThat(ran).isFalse();
+        verify(jobLeaseRepository, never()).release(anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    void failingTaskIsRecordedAndLeaseStillReleased() {
+        when(jobLeaseRepository.tryAcquire(anyString(), anyString(), anyLong())).thenReturn(1);
+
+        boolean result = jobRunner.runExclusive(JOB, LEASE, HOLD, () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThat(result).isTrue();
+        JobRun run = savedRun();
+        assertThat(run.getStatus()).isEqualTo(JobRun.JobRunStatus.FAILED);
+        assertThat(run.getProcessedCount()).isZero();
+        assertThat(run.getMessage()).isEqualTo("IllegalStateException: boom");
+        verify(jobLeaseRepository).release(JOB, jobRunner.getNodeId(), 300L);
+    }
+
+    @Test
+    void historyWriteFailureDoesNotKeepLease() {
+        when(jobLeaseRepository.tryAcquire(anyString(), anyString(), anyLong())).thenReturn(1);
+        when(jobRunRepository.save(any(JobRun.class))).thenThrow(new IllegalStateException("disk full"));
+
+        boolean result = jobRunner.runExclusive(JOB, LEASE, HOLD, () -> 1);
+
+        assertThat(result).isTrue();
+        verify(jobLeaseRepository).release(JOB, jobRunner.getNodeId(), 300L);
+    }
+
+    private JobRun savedRun() {
+        ArgumentCaptor<JobRun> captor = ArgumentCaptor.forClass(JobRun.class);
+        verify(jobRunRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
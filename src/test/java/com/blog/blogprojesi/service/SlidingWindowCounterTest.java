@@ -0,0 +1,114 @@
+package com.blog.blogprojesi.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowCounterTest {
+
+    private static final long WINDOW = 60_000L;
+    private static final int THRESHOLD = 5;
+
+    // Tek dilim, en az 16 anahtar
+    private final SlidingWindowCounter counter = new SlidingWindowCounter(1, 16, () -> THRESHOLD);
+
+    @Test
+    void countsOnlyEventsInsideWindow() {
+        counter.record("alice", 1_000, WINDOW);
+        counter.record("alice", 30_000, WINDOW);
+        counter.record("alice", 50_000, WINDOW);
+
+        assertThat(counter.count("alice", 55_000, WINDOW)).isEqualTo(3);
+        assertThat(counter.count("alice", 70_000, WINDOW)).isEqualTo(2);
+        assertThat(counter.count("alice", 200_000, WINDOW)).isZero();
+        assertThat(counter.size()).isZero();
+    }
+
+    @Test
+    void clearRemovesKey() {
+        counter.record("alice", 1_000, WINDOW);
+        counter.clear("alice");
+
+        assertThat(counter.count("alice", 1_000, WINDOW)).isZero();
+    }
+
+    @Test
+    void purgeExpiredRemovesOnlyKeysWithoutRecentEvents() {
+        counter.record("old", 1_000, WINDOW);
+        counter.record("recent", 50_000, WINDOW);
+
+        assertThat(counter.purgeExpired(70_000, WINDOW)).isEqualTo(1);
+        assertThat(counter.size()).isEqualTo(1);
+        assertThat(counter.count("recent", 70_000, WINDOW)).isEqualTo(1);
+    }
+
+    @Test
+    void fullStripeEvictsLeastRecentlyUsedKeyBelowThreshold() {
+        for (int i = 0; i < 16; i++) {
+            counter.record("user" + i, 1_000, WINDOW);
+        }
+        counter.record("user0", 2_000, WINDOW);
+
+        counter.record("newcomer", 3_000, WINDOW);
+
+        assertThat(counter.size()).isEqualTo(16);
+        assertThat(counter.count("user0", 3_000, WINDOW)).isEqualTo(2);
+        assertThat(counter.count("user1", 3_000, WINDOW)).isZero();
+        assertThat(counter.count("newcomer", 3_000, WINDOW)).isEqualTo(1);
+    }
+
+    @Test
+    void sprayingFreshKeysDoesNotEvictBlockedKey() {
+        for (int i = 0; i < THRESHOLD; i++) {
+            counter.record("victim", 1_000 + i, WINDOW);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            counter.record("spray" + i, 2_000 + i, WINDOW);
+        }
+
+        assertThat(counter.count("victim", 20_000, WINDOW)).isEqualTo(THRESHOLD);
+        assertThat(counter.size()).isEqualTo(16);
+    }
+
+    @Test
+    void blockedKeysOverflowStripeUntilTheyExpire() {
+        for (int k = 0; k < 20; k++) {
+            for (int i = 0; i < THRESHOLD; i++) {
+                counter.record("blocked" + k, 1_000, WINDOW);
+            }
+        }
+
+        assertThat(counter.size()).isEqualTo(20);
+        for (int k = 0; k < 20; k++) {
+            assertThat(counter.count("blocked" + k, 2_000, WINDOW)).isEqualTo(THRESHOLD);
+        }
+
+        assertThat(counter.purgeExpired(1_000 + WINDOW + 1, WINDOW)).isEqualTo(20);
+        assertThat(counter.size()).isZero();
+    }
+
+    @Test
+    void expiredBlockedKeyCanBeEvicted() {
+        for (int i = 0; i < THRESHOLD; i++) {
+            counter.record("victim", 1_000, WINDOW);
+        }
+        for (int i = 0; i < 15; i++) {
+            counter.record("user" + i, 2_000, WINDOW);
+        }
+
+        counter.record("newcomer", 1_000 + WINDOW + 1, WINDOW);
+
+        assertThat(counter.size()).isEqualTo(16);
+        assertThat(counter.count("victim", 1_000 + WINDOW + 1, WINDOW)).isZero();
+    }
+
+    @Test
+    void eventsPerKeyAreCapped() {
+        for (int i = 0; i < SlidingWindowCounter.MAX_EVENTS_PER_KEY + 100; i++) {
+            counter.record("alice", 1_000 + i, WINDOW);
+        }
+
+        assertThat(counter.count("alice", 2_000, WINDOW)).isEqualTo(SlidingWindowCounter.MAX_EVENTS_PER_KEY);
+    }
+}
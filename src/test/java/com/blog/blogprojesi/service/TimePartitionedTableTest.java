@@ -0,0 +1,79 @@
+package com.blog.blogprojesi.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimePartitionedTableTest {
+
+    private final TimePartitionedTable daily = new TimePartitionedTable("login_attempts", "attempt_time",
+            TimePartitionedTable.Granularity.DAY, "id BIGINT", "id", List.of());
+
+    private final TimePartitionedTable monthly = new TimePartitionedTable("admin_logs", "created_at",
+            TimePartitionedTable.Granularity.MONTH, "id BIGINT", "id", List.of());
+
+    @Test
+    void dailyPartitionNamesAndBoundsRoundTrip() {
+        LocalDate start = LocalDate.of(2026, 12, 31);
+
+        assertThat(daily.partitionName(start)).isEqualTo("login_attempts_p20261231");
+        assertThat(daily.parsePartitionStart("login_attempts_p20261231")).isEqualTo(start);
+        assertThat(daily.next(start)).isEqualTo(LocalDate.of(2027, 1, 1));
+        assertThat(daily.createPartitionDdl(start)).isEqualTo(
+                "CREATE TABLE IF NOT EXISTS login_attempts_p20261231 PARTITION OF login_attempts " +
+                "FOR VALUES FROM ('2026-12-31') TO ('2027-01-01')");
+        assertThat(daily.rangeCondition(start))
+                .isEqualTo("attempt_time >= '2026-12-31' AND attempt_time < '2027-01-01'");
+    }
+
+    @Test
+    void monthlyPartitionsStartOnFirstDay() {
+        LocalDate start = monthly.periodStart(LocalDate.of(2026, 2, 17));
+
+        assertThat(start).isEqualTo(LocalDate.of(2026, 2, 1));
+        assertThat(monthly.partitionName(start)).isEqualTo("admin_logs_p202602");
+        assertThat(monthly.parsePartitionStart("admin_logs_p202602")).isEqualTo(start);
+        assertThat(monthly.next(start)).isEqualTo(LocalDate.of(2026, 3, 1));
+    }
+
+    @Test
+    void unrelatedNamesAreNotPartitions() {
+        assertThat(daily.parsePartitionStart("login_attempts_default")).isNull();
+        assertThat(daily.parsePartitionStart("login_attempts_p2026")).isNull();
+        assertThat(daily.parsePartitionStart("admin_logs_p20261016")).isNull();
+        assertThat(monthly.parsePartitionStart("admin_logs_p202613")).isNull();
+    }
+
+    @Test
+    void dailyRetentionKeepsPartitionsInsideWindow() {
+        LocalDate today = LocalDate.of(2026, 10, 16);
+        LocalDate firstRetained = daily.firstRetainedPartition(today, 7);
+
+        assertThat(firstRetained).isEqualTo(LocalDate.of(2026, 10, 9));
+        assertThat(daily.isExpired("login_attempts_p20261008", firstRetained)).isTrue();
+        assertThat(daily.isExpired("login_attempts_p20261009", firstRetained)).isFalse();
+        assertThat(daily.isExpired("login_attempts_p20261016", firstRetained)).isFalse();
+        assertThat(daily.isExpired("login_attempts_default", firstRetained)).isFalse();
+    }
+
+    @Test
+    void monthlyRetentionCountsWholeMonths() {
+        LocalDate today = LocalDate.of(2026, 10, 16);
+        LocalDate firstRetained = monthly.firstRetainedPartition(today, 12);
+
+        assertThat(firstRetained).isEqualTo(LocalDate.of(2025, 10, 1));
+        assertThat(monthly.isExpired("admin_logs_p202509", firstRetained)).isTrue();
+        assertThat(monthly.isExpired("admin_logs_p202510", firstRetained)).isFalse();
+    }
+
+    @Test
+    void zeroRetentionKeepsEverything() {
+        LocalDate today = LocalDate.of(2026, 10, 16);
+
+        assertThat(monthly.firstRetainedPartition(today, 0)).isNull();
+        assertThat(monthly.isExpired("admin_logs_p200001", null)).isFalse();
+    }
+}
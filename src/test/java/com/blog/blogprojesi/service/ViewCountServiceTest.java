@@ -0,0 +1,129 @@
+package com.blog.blogprojesi.service;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ViewCountServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ViewCountService viewCountService;
+
+    // Veritabanına yazılmış toplam görüntüleme
+    private final AtomicLong flushed = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.getCache()).thenReturn(mock(Cache.class));
+        doAnswer(invocation -> {
+            List<Object[]> batch = invocation.getArgument(1);
+            batch.forEach(row -> flushed.addAndGet((Long) row[0]));
+            return new int[batch.size()];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        viewCountService = new ViewCountService(jdbcTemplate, entityManagerFactory);
+        ReflectionTestUtils.setField(viewCountService, "dedupeWindowMinutes", 30L);
+        ReflectionTestUtils.setField(viewCountService, "maxTrackedVisitors", 100_000);
+    }
+
+    @Test
+    void flushDuringConcurrentViewsLosesNothing() throws Exception {
+        int threads = 8;
+        int viewsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < viewsPerThread; i++) {
+                        viewCountService.recordView((long) (i % 4), null);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            viewCountService.flush();
+        }
+        viewCountService.flush();
+        executor.shutdown();
+
+        assertThat(flushed.get()).isEqualTo((long) threads * viewsPerThread);
+        for (long postId = 0; postId < 4; postId++) {
+            assertThat(viewCountService.getPendingViews(postId)).isZero();
+        }
+    }
+
+    @Test
+    void failedFlushKeepsViewsForNextAttempt() {
+        viewCountService.recordView(1L, null);
+        viewCountService.recordView(1L, null);
+        doThrow(new RuntimeException("db down")).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        viewCountService.flush();
+
+        assertThat(viewCountService.getPendingViews(1L)).isEqualTo(2L);
+        assertThat(flushed.get()).isZero();
+    }
+
+    @Test
+    void repeatedViewFromSameVisitorIsCountedOnce() {
+        assertThat(viewCountService.recordView(1L, "s:abc")).isTrue();
+        assertThat(viewCountService.recordView(1L, "s:abc")).isFalse();
+        assertThat(viewCountService.recordView(2L, "s:abc")).isTrue();
+
+        viewCountService.flush();
+
+        assertThat(flushed.get()).isEqualTo(2L);
+    }
+
+    @Test
+    void idleCounterIsRemovedWithoutLosingLateViews() {
+        viewCountService.recordView(1L, null);
+        viewCountService.flush();
+        viewCountService.flush(); // Görüntülenmeyen sayaç tablodan çıkarılır
+
+        viewCountService.recordView(1L, null);
+        viewCountService.flush();
+
+        assertThat(flushed.get()).isEqualTo(2L);
+        assertThat(viewCountService.getPendingViews(1L)).isZero();
+    }
+
+    @Test
+    void visitorKeyIgnoresForwardedForHeader() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("203.0.113.7");
+        request.addHeader("X-Forwarded-For", "198.51.100.1");
+
+        assertThat(viewCountService.visitorKey(request)).isEqualTo("ip:203.0.113.7");
+    }
+}